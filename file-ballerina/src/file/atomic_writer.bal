@@ -0,0 +1,65 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# Writer backing `file:writeAtomically`. The content is written to a temporary file next to the target file, which
+# replaces the target file once it is committed.
+type AtomicWriter object {
+
+    # Appends bytes to the content.
+    #
+    # + content - The bytes to append
+    # + return - An `file:Error` if the bytes cannot be written. The writer is closed on failure
+    function write(byte[] content) returns Error? {
+        return writeAtomicChunk(self, content);
+    }
+
+    # Replaces the target file with the written content.
+    #
+    # + return - An `file:Error` if the target file cannot be replaced
+    function commit() returns Error? {
+        return commitAtomicWriter(self);
+    }
+
+    # Discards the written content, leaving the target file unchanged.
+    #
+    # + reason - Reason for discarding the content
+    # + return - An `file:Error` with the reason
+    function abort(string reason) returns Error {
+        return abortAtomicWriter(self, reason);
+    }
+};
+
+function openAtomicWriter(AtomicWriter writer, string path, boolean sync) returns Error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.AtomicWriterUtils",
+    name: "openAtomicWriter"
+} external;
+
+function writeAtomicChunk(AtomicWriter writer, byte[] content) returns Error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.AtomicWriterUtils",
+    name: "writeAtomicChunk"
+} external;
+
+function commitAtomicWriter(AtomicWriter writer) returns Error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.AtomicWriterUtils",
+    name: "commitAtomicWriter"
+} external;
+
+function abortAtomicWriter(AtomicWriter writer, string reason) returns Error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.AtomicWriterUtils",
+    name: "abortAtomicWriter"
+} external;
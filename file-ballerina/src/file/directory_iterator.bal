@@ -0,0 +1,56 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# Iterator backing the stream returned by `file:readDirStream`. The directory tree is walked lazily
+# and the underlying directory handles are released when the walk completes or the stream is closed.
+type DirectoryIterator object {
+
+    # Returns the next entry of the directory tree.
+    #
+    # + return - The next `FileInfo` wrapped in a record, () when the walk is complete or else an `file:Error`
+    public function next() returns record {| FileInfo value; |}|Error? {
+        FileInfo|Error? entry = nextDirEntry(self);
+        if (entry is FileInfo) {
+            record {| FileInfo value; |} streamRecord = {value: entry};
+            return streamRecord;
+        }
+        return entry;
+    }
+
+    # Stops the walk and releases the underlying directory handles.
+    #
+    # + return - An `file:Error` if failed to close the iterator
+    public function close() returns Error? {
+        return closeDirStream(self);
+    }
+};
+
+function openDirStream(DirectoryIterator iterator, string path, int maxDepth) returns Error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.DirectoryIteratorUtils",
+    name: "openDirStream"
+} external;
+
+function nextDirEntry(DirectoryIterator iterator) returns FileInfo|Error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.DirectoryIteratorUtils",
+    name: "nextDirEntry"
+} external;
+
+function closeDirStream(DirectoryIterator iterator) returns Error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.DirectoryIteratorUtils",
+    name: "closeDirStream"
+} external;
@@ -61,12 +61,42 @@ public function createDir(@untainted string dir, boolean parentDirs = false) ret
 #
 # + path - String value of the file/directory path
 # + recursive - Indicates whether the `remove` should recursively remove all the files inside the given directory
+# + parallelism - Number of files deleted concurrently when recursively removing a directory. When it is greater
+#                 than 1, a failure to delete an entry does not stop the removal and the failures are reported
+#                 together. Use `file:removeTree` to get each failed entry and the counts of the deleted entries
+# + background - Indicates whether the recursive removal should continue in the background. The path is atomically
+#                renamed to a hidden sibling and the function returns as soon as the rename is done. Errors while
+#                deleting the renamed tree are only logged and are not returned to the caller, and the entries which
+#                could not be deleted are left in the hidden sibling
 # + return - An `file:Error` if failed to remove
-public function remove(@untainted string path, boolean recursive = false) returns Error? = @java:Method {
+public function remove(@untainted string path, boolean recursive = false, int parallelism = 1,
+                       boolean background = false) returns Error? = @java:Method {
     class: "org.ballerinalang.stdlib.file.nativeimpl.Utils",
     name: "remove"
 } external;
 
+# Removes the specified directory and all the files and directories it contains. A failure to delete an entry does
+# not stop the removal, and the failures are returned in the `RemoveResult` instead of as errors.
+# ```ballerina
+# file:RemoveResult | error result = file:removeTree("foo/bar", 8, function (int files, int directories) {
+#     io:println("Deleted ", files, " files and ", directories, " directories");
+# });
+# ```
+#
+# + path - String value of the directory path
+# + parallelism - Number of files deleted concurrently
+# + progress - Function which is called with the number of files and directories deleted so far, after every thousand
+#              deleted entries. It is called asynchronously and the removal does not wait for it, hence it may still
+#              be running when this function returns
+# + return - The `RemoveResult` with the counts of the deleted entries and the entries which failed to be removed or
+#            else an `file:Error` if the removal could not be run
+public function removeTree(@untainted string path, int parallelism = 1,
+                           (function (int filesDeleted, int directoriesDeleted))? progress = ())
+                           returns RemoveResult|Error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.TreeUtils",
+    name: "removeTree"
+} external;
+
 # Renames(Moves) the old path with the new path.
 # If the new path already exists and it is not a directory, this replaces the file.
 # ```ballerina
@@ -81,6 +111,53 @@ public function rename(@untainted string oldPath, @untainted string newPath) ret
     name: "rename"
 } external;
 
+# Reports whether each file or directory exists, in a single call.
+# ```ballerina
+# boolean[] | error results = file:existsAll(["foo/bar.txt", "foo/baz.txt"]);
+# ```
+#
+# + paths - String values of the file paths
+# + parallelism - Number of paths checked concurrently
+# + return - Whether each path exists, at the same index as the path, or else an `file:Error` if the parallelism is
+#            invalid
+public function existsAll(@untainted string[] paths, int parallelism = 1) returns boolean[]|Error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.BatchUtils",
+    name: "existsAll"
+} external;
+
+# Removes each file or directory in a single call. A failure to remove a path does not stop the removal of the
+# others, and the failures are returned in the `BatchResult` instead of as errors.
+# ```ballerina
+# file:BatchResult | error result = file:removeAll(["foo/bar.txt", "foo/baz"], true, 8);
+# ```
+#
+# + paths - String values of the file/directory paths
+# + recursive - Indicates whether directories should be removed with all the files inside them
+# + parallelism - Number of paths removed concurrently
+# + return - The `BatchResult` with the paths which failed to be removed or else an `file:Error` if the parallelism
+#            is invalid
+public function removeAll(@untainted string[] paths, boolean recursive = false, int parallelism = 1)
+                          returns BatchResult|Error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.BatchUtils",
+    name: "removeAll"
+} external;
+
+# Renames(Moves) each old path, given as a key of the map, to the new path given as its value, in a single call. A
+# failure to rename a path does not stop the others, and the failures are returned in the `BatchResult` instead of as
+# errors. The paths are renamed in the order of the map, unless they are renamed concurrently.
+# ```ballerina
+# file:BatchResult | error result = file:renameAll({"/A/B/C": "/A/B/D", "/A/B/E": "/A/B/F"});
+# ```
+#
+# + paths - The new path of each old path
+# + parallelism - Number of paths renamed concurrently
+# + return - The `BatchResult` with the old paths which failed to be renamed or else an `file:Error` if the
+#            parallelism is invalid
+public function renameAll(@untainted map<string> paths, int parallelism = 1) returns BatchResult|Error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.BatchUtils",
+    name: "renameAll"
+} external;
+
 # Returns the default directory to use for temporary files.
 # ```ballerina
 # string results = file:tempDir();
@@ -105,6 +182,49 @@ public function createFile(@untainted string path) returns string|Error = @java:
     name: "createFile"
 } external;
 
+# Writes the content to the file in the specified file path atomically. The content is written to a temporary file in
+# the same directory, which then replaces the file with a single rename. Hence readers of the file see either the
+# previous file or the complete new file, and a `file:Listener` of the directory sees the file appear or change once.
+# The file is created if it does not exist.
+# ```ballerina
+# file:Error? result = file:writeAtomically("foo/bar.json", content);
+# ```
+#
+# + path - String value of the file path
+# + content - The bytes or the stream of byte chunks written to the file
+# + sync - Indicates whether the content and the rename are flushed to the storage device before returning, so that
+#          the new file survives a crash of the operating system
+# + return - An `file:Error` if failed to write the file. The file is not changed on failure
+public function writeAtomically(@untainted string path, byte[]|stream<byte[], error> content, boolean sync = true)
+                                returns Error? {
+    AtomicWriter writer = new;
+    Error? result = openAtomicWriter(writer, path, sync);
+    if (result is Error) {
+        return result;
+    }
+    if (content is byte[]) {
+        result = writer.write(content);
+        if (result is Error) {
+            return result;
+        }
+    } else {
+        while (true) {
+            record {| byte[] value; |}|error? chunk = content.next();
+            if (chunk is error) {
+                return writer.abort(chunk.message());
+            }
+            if (chunk is ()) {
+                break;
+            }
+            result = writer.write(chunk.value);
+            if (result is Error) {
+                return result;
+            }
+        }
+    }
+    return writer.commit();
+}
+
 # Returns the metadata information of the file specified in the file path.
 # ```ballerina
 # file:FileInfo | error result = file:getFileInfo("foo/bar.txt");
@@ -121,16 +241,111 @@ public function getFileInfo(@untainted string path) returns FileInfo|Error = @ja
 # inside the specified directory.
 # ```ballerina
 # file:FileInfo[] | error results = file:readDir("foo/bar");
+# file:FileInfo[] | error csvFiles = file:readDir("foo/bar", filter = {include: ["*.csv"], filesOnly: true});
 # ```
 #
 # + path - String value of the directory path.
 # + maxDepth - The maximum number of directory levels to visit. -1 to indicate that all levels should be visited
+# + filter - The `ReadDirFilter` which selects the returned files and directories
+# + parallelism - Number of directories read concurrently. Reading in parallel speeds up reading large trees on
+#                 storage which serves many concurrent requests, such as SSDs
+# + ordered - Indicates whether the entries read in parallel are returned in the same order as when they are read
+#             sequentially, i.e. each directory followed by its contents. Returning them in the order they were read
+#             is faster
 # + return - The `FileInfo` array or else an `file:Error` if there is an error while changing the mode.
-public function readDir(@untainted string path, int maxDepth = -1) returns FileInfo[]|Error = @java:Method {
+public function readDir(@untainted string path, int maxDepth = -1, ReadDirFilter filter = {}, int parallelism = 1,
+                        boolean ordered = true) returns FileInfo[]|Error = @java:Method {
     class: "org.ballerinalang.stdlib.file.nativeimpl.Utils",
     name: "readDir"
 } external;
 
+# Reads the directory lazily and returns a stream of the files and directories
+# inside the specified directory. Entries are read from the file system only as the stream is consumed,
+# which keeps the memory usage flat for large directory trees.
+# ```ballerina
+# stream<file:FileInfo, file:Error> | error results = file:readDirStream("foo/bar");
+# ```
+#
+# + path - String value of the directory path.
+# + maxDepth - The maximum number of directory levels to visit. -1 to indicate that all levels should be visited
+# + return - The `FileInfo` stream or else an `file:Error` if the directory cannot be read.
+#            Close the stream to stop the walk early and release the underlying directory handles
+public function readDirStream(@untainted string path, int maxDepth = -1) returns stream<FileInfo, Error>|Error {
+    DirectoryIterator iterator = new;
+    Error? result = openDirStream(iterator, path, maxDepth);
+    if (result is Error) {
+        return result;
+    }
+    return new stream<FileInfo, Error>(iterator);
+}
+
+# Computes the disk usage of the file or directory tree in the given path, without creating a `FileInfo` for each
+# entry.
+# ```ballerina
+# file:DiskUsage | error usage = file:diskUsage("foo/bar", breakdown = true);
+# ```
+#
+# + path - String value of the file or directory path
+# + maxDepth - The maximum number of directory levels to visit. -1 to indicate that all levels should be visited
+# + breakdown - Indicates whether the usage of each file and directory directly inside the directory is returned
+# + parallelism - Number of directories read concurrently
+# + return - The `DiskUsage` of the path or else an `file:Error` if the tree cannot be read
+public function diskUsage(@untainted string path, int maxDepth = -1, boolean breakdown = false, int parallelism = 1)
+                          returns DiskUsage|Error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.TreeUtils",
+    name: "diskUsage"
+} external;
+
+# Captures the path, size, modified time and identity of each file and directory in the directory tree to a
+# snapshot file, which can be compared with the tree later using `file:diff`. An existing snapshot file is replaced.
+# ```ballerina
+# int | error entries = file:createSnapshot("foo/bar", "/var/backup/bar.snapshot");
+# ```
+#
+# + path - String value of the directory path
+# + snapshotPath - String value of the snapshot file path
+# + maxDepth - The maximum number of directory levels to visit. -1 to indicate that all levels should be visited
+# + return - The number of entries in the snapshot or else an `file:Error` if the snapshot cannot be created
+public function createSnapshot(@untainted string path, @untainted string snapshotPath, int maxDepth = -1)
+                               returns int|Error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.TreeUtils",
+    name: "createSnapshot"
+} external;
+
+# Compares the directory tree with a snapshot created with `file:createSnapshot` and returns the changes since the
+# snapshot. The tree is visited up to the depth of the snapshot.
+# ```ballerina
+# file:TreeDiff | error changes = file:diff("/var/backup/bar.snapshot", "foo/bar");
+# ```
+#
+# + snapshotPath - String value of the snapshot file path
+# + path - String value of the directory path
+# + return - The `TreeDiff` with the changes or else an `file:Error` if the tree or the snapshot cannot be read
+public function diff(@untainted string snapshotPath, @untainted string path) returns TreeDiff|Error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.TreeUtils",
+    name: "diff"
+} external;
+
+# Computes the checksum of the content of a file. If a chunk size is given, the file is hashed as a tree of chunks,
+# which can be hashed concurrently: the result is the checksum of the concatenated checksums of the chunks, so it
+# differs from the checksum of the whole content and depends on the chunk size.
+# ```ballerina
+# string | error checksum = file:checksum("foo/bar.txt", file:XXH64);
+# ```
+#
+# + path - String value of the file path
+# + algorithm - The `ChecksumAlgorithm` used
+# + chunkSize - Size of the chunks in bytes, or 0 to compute the checksum of the whole content. A file is split into
+#               at most 1048576 chunks
+# + parallelism - Number of chunks hashed concurrently
+# + return - The checksum as a lowercase hexadecimal string or else an `file:Error` if the file cannot be read or
+#            the `chunkSize` splits it into too many chunks
+public function checksum(@untainted string path, ChecksumAlgorithm algorithm = SHA256, int chunkSize = 0,
+                         int parallelism = 1) returns string|Error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.ChecksumUtils",
+    name: "checksum"
+} external;
+
 # Copy the file/directory in the old path to the new path.
 # If a file already exists in the new path, this replaces that file.
 # ```ballerina
@@ -140,9 +355,120 @@ public function readDir(@untainted string path, int maxDepth = -1) returns FileI
 # + sourcePath - String value of the old file path
 # + destinationPath - String value of the new file path
 # + replaceExisting - Flag to replace if the file already exists in the destination path
+# + parallelism - Number of files copied concurrently when copying a directory. When it is greater than 1,
+#                 a failure to copy an entry does not stop the copy and the failures are reported together
+# + options - The `CopyOptions` which control how the file content is copied
 # + return - An `file:Error` if failed to rename
 public function copy(@untainted string sourcePath, @untainted string destinationPath,
-                     boolean replaceExisting = false) returns Error? = @java:Method {
+                     boolean replaceExisting = false, int parallelism = 1, CopyOptions options = {})
+                     returns Error? = @java:Method {
     class: "org.ballerinalang.stdlib.file.nativeimpl.Utils",
     name: "copy"
 } external;
+
+# Copies the file/directory in the old path to the new path like `file:copy`, but continues with the remaining entries
+# when an entry fails to copy and returns the failures. Existing directories in the new path are merged with the
+# copied directories. If a checkpoint path is given, the progress of the copy is saved to the checkpoint file as it
+# runs, and a copy started with the checkpoint of an interrupted or partially failed copy continues from where it was
+# stopped and retries the failed entries. The checkpoint file is deleted once the copy completes without failures.
+# ```ballerina
+# file:CopyResult | error result = file:copyTree("/A/B/C", "/A/B/D", checkpoint = "/tmp/c-to-d.checkpoint");
+# ```
+#
+# + sourcePath - String value of the old file path
+# + destinationPath - String value of the new file path
+# + replaceExisting - Flag to replace if the file already exists in the destination path
+# + parallelism - Number of files copied concurrently
+# + options - The `CopyOptions` which control how the file content is copied
+# + checkpoint - String value of the checkpoint file path
+# + return - The `CopyResult` with the failed entries or else an `file:Error` if the copy could not be run
+public function copyTree(@untainted string sourcePath, @untainted string destinationPath,
+                         boolean replaceExisting = false, int parallelism = 1, CopyOptions options = {},
+                         @untainted string? checkpoint = ()) returns CopyResult|Error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.TreeUtils",
+    name: "copyTreeWithCheckpoint"
+} external;
+
+# Synchronizes the file/directory in the destination path with the file/directory in the source path, copying only
+# the files which are new or changed. A file is considered unchanged if the destination has a file with the same size
+# and modified time, or the same size and content when comparing checksums. The modified time of each copied file is
+# set to the time of the source file.
+# ```ballerina
+# file:SyncSummary | error summary = file:sync("/A/B/C", "/backup/C", options = {deleteExtraneous: true});
+# ```
+#
+# + sourcePath - String value of the source file/directory path
+# + destinationPath - String value of the destination file/directory path
+# + parallelism - Number of files copied concurrently
+# + options - The `SyncOptions` which control how the files are compared
+# + return - The `SyncSummary` of the copied, skipped and failed entries or else an `file:Error` if the
+#            synchronization could not be run
+public function sync(@untainted string sourcePath, @untainted string destinationPath, int parallelism = 1,
+                     SyncOptions options = {}) returns SyncSummary|Error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.TreeUtils",
+    name: "sync"
+} external;
+
+# Enables caching the metadata of the files looked up by `file:exists` and `file:getFileInfo`. If the cache is already
+# enabled, it is replaced by an empty cache with the given configurations.
+# ```ballerina
+# file:Error? result = file:enableMetadataCache({maxSize: 1000, ttl: 500});
+# ```
+#
+# + config - The `MetadataCacheConfig` of the cache
+# + return - An `file:Error` if the configurations are invalid
+public function enableMetadataCache(MetadataCacheConfig config = {}) returns Error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.MetadataCacheUtils",
+    name: "enableMetadataCache"
+} external;
+
+# Disables the file metadata cache and discards the cached entries.
+# ```ballerina
+# file:disableMetadataCache();
+# ```
+public function disableMetadataCache() = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.MetadataCacheUtils",
+    name: "disableMetadataCache"
+} external;
+
+# Returns the counters of the file metadata cache. All the counters are 0 when the cache is not enabled.
+# ```ballerina
+# file:MetadataCacheStats stats = file:getMetadataCacheStats();
+# ```
+#
+# + return - The `MetadataCacheStats` of the cache
+public function getMetadataCacheStats() returns MetadataCacheStats = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.MetadataCacheUtils",
+    name: "getMetadataCacheStats"
+} external;
+
+# Enables recording the call counts, errors, latencies and the processed entries and bytes of the file operations.
+# The instrumentation is cheap enough to be left enabled under production load.
+# ```ballerina
+# file:enableInstrumentation();
+# ```
+public function enableInstrumentation() = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.InstrumentationUtils",
+    name: "enableInstrumentation"
+} external;
+
+# Disables the instrumentation of the file operations and discards the recorded metrics.
+# ```ballerina
+# file:disableInstrumentation();
+# ```
+public function disableInstrumentation() = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.InstrumentationUtils",
+    name: "disableInstrumentation"
+} external;
+
+# Returns the metrics of each file operation called since the instrumentation was enabled. The result is empty when
+# the instrumentation is not enabled.
+# ```ballerina
+# file:OperationStats[] stats = file:getOperationStats();
+# ```
+#
+# + return - The `OperationStats` of the operations, ordered by the operation name
+public function getOperationStats() returns OperationStats[] = @java:Method {
+    class: "org.ballerinalang.stdlib.file.nativeimpl.InstrumentationUtils",
+    name: "getOperationStats"
+} external;
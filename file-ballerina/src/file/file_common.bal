@@ -17,8 +17,240 @@
 # Represents an event which will trigger when there is a changes to listining direcotry.
 #
 # + name - Absolute file URI for triggerd event
-# + operation - Triggered event action. This can be create, delete or modify
+# + operation - Triggered event action. This can be create, delete or modify, or overflow when events were dropped
+#               by the `OVERFLOW` policy of the listener
 public type FileEvent record {|
     string name;
     string operation;
 |};
+
+# Represents the options of the `file:copy` function.
+#
+# + chunkSize - Maximum number of bytes transferred at once when the file content is copied with channel transfers,
+#               which let the operating system copy the bytes without passing them through the runtime.
+#               0 to use the default chunk size when channel transfers are needed by the other options, or else
+#               the default copy of the platform
+# + resume - Indicates whether partially copied files should be continued from the current length of the
+#            destination file. A destination file with the same length as the source file is considered complete
+# + progress - Function which is called after each chunk of a file is copied, with the path of the source file,
+#              the number of bytes of the file copied so far and the size of the file. It runs on a strand of its
+#              own and the copy does not wait for it, hence the updates are delivered in order but may still be
+#              running when the copy returns. It is not supported when copying in parallel
+# + verify - Indicates whether the checksum of each copied file should be compared with the checksum of the source
+#            file. The source content is hashed while it is copied, and a mismatch is returned as an error
+public type CopyOptions record {|
+    int chunkSize = 0;
+    boolean resume = false;
+    (function (string path, int bytesCopied, int totalBytes))? progress = ();
+    boolean verify = false;
+|};
+
+# Represents the result of a batch operation such as `file:removeAll`. Only the failed items are listed.
+#
+# + succeeded - Number of items which succeeded
+# + failed - The paths of the items which failed, in the order of the batch
+# + messages - The reason of each failure, at the same index as the path in `failed`
+public type BatchResult record {|
+    int succeeded;
+    string[] failed;
+    string[] messages;
+|};
+
+# Represents a file or directory which failed to copy, synchronize or remove.
+#
+# + path - Path of the source file or directory, or of the file or directory which failed to be removed
+# + message - Reason of the failure
+public type CopyFailure record {|
+    string path;
+    string message;
+|};
+
+# Represents the result of a `file:copyTree`.
+#
+# + filesCopied - Number of files copied
+# + bytesCopied - Number of bytes in the copied files
+# + filesSkipped - Number of files skipped as they already exist in the destination
+# + failures - The files and directories which failed to copy. The content of a directory which failed to copy is
+#              not copied
+public type CopyResult record {|
+    int filesCopied;
+    int bytesCopied;
+    int filesSkipped;
+    CopyFailure[] failures;
+|};
+
+# Represents the result of a `file:removeTree`.
+#
+# + filesDeleted - Number of files deleted
+# + directoriesDeleted - Number of directories deleted, including the removed directory itself
+# + failures - The files and directories which failed to be removed. The directories above a failed entry are not
+#              empty, hence they are left in place without being listed
+public type RemoveResult record {|
+    int filesDeleted;
+    int directoriesDeleted;
+    CopyFailure[] failures;
+|};
+
+# Represents the options of the `file:sync` function.
+#
+# + checksum - Indicates whether files with the same size should be compared by their content instead of their
+#              modified time. The files are read to compute their checksums
+# + deleteExtraneous - Indicates whether the files and directories in the destination which are not in the source
+#                      should be deleted
+# + verify - Indicates whether the checksum of each copied file should be compared with the checksum of the source
+#            file, as in `CopyOptions`
+public type SyncOptions record {|
+    boolean checksum = false;
+    boolean deleteExtraneous = false;
+    boolean verify = false;
+|};
+
+# Represents the result of a `file:sync`.
+#
+# + filesCopied - Number of files which were copied as they were new or changed
+# + bytesCopied - Number of bytes copied
+# + filesSkipped - Number of files which were skipped as they were unchanged
+# + bytesSkipped - Number of bytes in the skipped files
+# + entriesDeleted - Number of extraneous files and directories deleted from the destination. A directory is counted
+#                    once, together with its content
+# + failures - The files and directories which failed to synchronize. The content of a directory which failed to
+#              synchronize is not synchronized
+public type SyncSummary record {|
+    int filesCopied;
+    int bytesCopied;
+    int filesSkipped;
+    int bytesSkipped;
+    int entriesDeleted;
+    CopyFailure[] failures;
+|};
+
+# The CRC-32 checksum used by ZIP and gzip.
+public const CRC32 = "CRC32";
+
+# The CRC-32C (Castagnoli) checksum used by iSCSI, ext4 and many storage systems.
+public const CRC32C = "CRC32C";
+
+# The SHA-256 cryptographic hash.
+public const SHA256 = "SHA-256";
+
+# The 64-bit xxHash non-cryptographic hash.
+public const XXH64 = "XXH64";
+
+# Algorithm used by `file:checksum`.
+public type ChecksumAlgorithm CRC32|CRC32C|SHA256|XXH64;
+
+# Represents the configurations of the file metadata cache used by `file:exists` and `file:getFileInfo`.
+#
+# + maxSize - Maximum number of paths kept in the cache. The least recently used path is evicted when it is full
+# + ttl - Time in milliseconds a cached entry is used before the metadata is read again. Entries are invalidated
+#         earlier by the file operations of this module and by the events of the running `file:Listener`s
+public type MetadataCacheConfig record {|
+    int maxSize = 10000;
+    int ttl = 1000;
+|};
+
+# Represents the counters of the file metadata cache since it was enabled.
+#
+# + hits - Number of lookups answered from the cache
+# + misses - Number of lookups which read the metadata from the file system
+# + evictions - Number of entries evicted as the cache was full or the entry was expired
+# + invalidations - Number of entries invalidated as the path was changed
+# + size - Number of paths currently in the cache
+public type MetadataCacheStats record {|
+    int hits;
+    int misses;
+    int evictions;
+    int invalidations;
+    int size;
+|};
+
+# Represents the distribution of a duration, in microseconds. The percentiles are estimated within 12.5% of the
+# recorded durations.
+#
+# + count - Number of recorded durations
+# + mean - Mean duration
+# + p50 - Median duration
+# + p90 - 90th percentile of the durations
+# + p99 - 99th percentile of the durations
+# + max - Longest duration
+public type LatencyStats record {|
+    int count;
+    int mean;
+    int p50;
+    int p90;
+    int p99;
+    int max;
+|};
+
+# Represents the metrics of a file operation since the instrumentation was enabled.
+#
+# + operation - Name of the function, e.g. `copy` or `readDir`. The commits of `file:writeAtomically` and
+#               `file:AtomicWriter` are recorded as `writeAtomically`
+# + calls - Number of calls
+# + errors - Number of calls which returned an error, by the error type such as `FileNotFoundError`
+# + entries - Number of files, directories or paths processed, e.g. the entries returned by `readDir`, the files
+#             copied by `copy` or the paths given to `removeAll`
+# + bytes - Number of bytes processed, e.g. the bytes copied by `copy` or hashed by `checksum`
+# + latency - Duration of the calls
+public type OperationStats record {|
+    string operation;
+    int calls;
+    map<int> errors;
+    int entries;
+    int bytes;
+    LatencyStats latency;
+|};
+
+# Represents the filter of the `file:readDir` function. The filter is applied while the directory is walked, hence
+# the files and directories which do not match it are skipped without creating their `FileInfo`.
+# Globs without a `/` are matched against the file name and the other globs and the pattern against the path relative
+# to the read directory.
+#
+# + include - Globs of the returned entries. All the entries are returned when it is empty
+# + exclude - Globs of the excluded entries. The contents of an excluded directory are not read
+# + pattern - Regular expression which the relative path of a returned entry should match
+# + minSize - Minimum size in bytes of a returned file
+# + maxSize - Maximum size in bytes of a returned file
+# + modifiedAfter - Returns only the entries modified after this time, in milliseconds since the epoch
+# + modifiedBefore - Returns only the entries modified before this time, in milliseconds since the epoch
+# + filesOnly - Returns only the files
+# + dirsOnly - Returns only the directories
+public type ReadDirFilter record {|
+    string[] include = [];
+    string[] exclude = [];
+    string? pattern = ();
+    int? minSize = ();
+    int? maxSize = ();
+    int? modifiedAfter = ();
+    int? modifiedBefore = ();
+    boolean filesOnly = false;
+    boolean dirsOnly = false;
+|};
+
+# Represents the disk usage of a file or directory tree.
+#
+# + path - Absolute path of the file or directory
+# + totalSize - Total size in bytes of the files. A file with multiple hard links is counted once
+# + fileCount - Number of files, counting symbolic links as files
+# + dirCount - Number of directories, not counting the directory itself
+# + children - Usage of each file and directory directly inside the directory ordered by the path, if requested
+public type DiskUsage record {|
+    string path;
+    int totalSize;
+    int fileCount;
+    int dirCount;
+    DiskUsage[] children = [];
+|};
+
+# Represents the changes of a directory tree since a snapshot was created with `file:createSnapshot`. The paths are
+# relative to the directory and use `/` as the separator.
+#
+# + added - Files and directories which were added
+# + removed - Files and directories which were removed
+# + modified - Files whose size, modified time or identity changed, and paths which changed between a file and a
+#              directory
+public type TreeDiff record {|
+    string[] added;
+    string[] removed;
+    string[] modified;
+|};
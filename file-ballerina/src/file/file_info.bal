@@ -16,13 +16,17 @@
 
 import ballerina/time;
 
+# Time zone of the last-modified times reported by the file system, shared by all `FileInfo` objects.
+final readonly & time:TimeZone UTC_ZONE = {id: "Z", offset: 0};
+
 # FileInfo record contains metadata information of a file.
 # This record is returned by getFileInfo function is os module.
 public type FileInfo object {
 
     string name;
     int size;
-    time:Time modifiedTime;
+    int modifiedTimeMillis;
+    time:Time? modifiedTime = ();
     boolean dir;
     string path;
 
@@ -30,13 +34,18 @@ public type FileInfo object {
     #
     # + name - Name of the file
     # + size - Size of the file (in bytes)
-    # + modifiedTime - The last modified time of the file
+    # + modifiedTime - The last modified time of the file or the number of milliseconds since the epoch
     # + dir - Whether the file is a directory or not
     # + path - Absolute path of the file
-    public function init(string name, int size, time:Time modifiedTime, boolean dir, string path) {
+    public function init(string name, int size, time:Time|int modifiedTime, boolean dir, string path) {
         self.name = name;
         self.size = size;
-        self.modifiedTime = modifiedTime;
+        if (modifiedTime is int) {
+            self.modifiedTimeMillis = modifiedTime;
+        } else {
+            self.modifiedTimeMillis = modifiedTime.time;
+            self.modifiedTime = modifiedTime;
+        }
         self.dir = dir;
         self.path = path;
     }
@@ -59,7 +68,14 @@ public type FileInfo object {
     #
     # + return - Last-modified time of the file
     public function getLastModifiedTime() returns time:Time {
-        return self.modifiedTime;
+        time:Time? modifiedTime = self.modifiedTime;
+        if (modifiedTime is time:Time) {
+            return modifiedTime;
+        }
+        // The time record is created on first use since most of the directory entries never read it.
+        time:Time lastModifiedTime = {time: self.modifiedTimeMillis, zone: UTC_ZONE};
+        self.modifiedTime = lastModifiedTime;
+        return lastModifiedTime;
     }
 
     # Returns whether the file is a directory or not.
@@ -45,18 +45,31 @@ public type Listener object {
         return startEndpoint(self);
     }
 
-    # Stops the `file:Listener` gracefully.
+    # Stops the `file:Listener` gracefully. The listener stops listening to the directories and waits up to the
+    # `stopTimeout` for the received events to be delivered and their resources to complete.
     # 
     # + return - () or else error upon failure to stop the listener 
-        public function __gracefulStop() returns error? {
-        return ();
+    public function __gracefulStop() returns error? {
+        return gracefulStop(self);
     }
 
-    # Stops the `file:Listener` forcefully.
+    # Stops the `file:Listener` forcefully. The events which are not yet delivered are discarded, while the running
+    # resources are not interrupted.
     # 
     # + return - () or else error upon failure to stop the listener 
     public function __immediateStop() returns error? {
-        return ();
+        return immediateStop(self);
+    }
+
+    # Returns the counters and latencies of the `file:Listener` since it was created. The same values are
+    # available over JMX under the `org.ballerinalang.stdlib.file:type=Listener` domain.
+    # ```ballerina
+    # file:ListenerStats stats = localFolder.getStats();
+    # ```
+    #
+    # + return - The `ListenerStats` of the listener
+    public function getStats() returns ListenerStats {
+        return getListenerStats(self);
     }
 
     # Binds a service to the `file:Listener`.
@@ -73,18 +86,147 @@ public type Listener object {
     # + s - Type descriptor of the service
     # + return - () or else error upon failure to detach to the service
     public function __detach(service s) returns error? {
+        return detach(self, s);
     }
 };
 
 # Represents configurations that required for directory listener.
 #
 # + path - Directory path which need to listen
+# + paths - Further directories to listen to with the same listener. A plain path takes the `recursive` setting of
+#           the listener, while a `WatchedPath` has its own
 # + recursive - Recursively monitor all sub folders or not in the given direcotry path
+# + debounce - Time in milliseconds the events of a file are held back until the file settles. Each new event
+#              of the file restarts the time and consecutive events of the same type are delivered once.
+#              0 to deliver every event as soon as it is received
+# + coalesce - Merge the held back events of a file into its net change, e.g. a create followed by modifications
+#              is delivered as a single create and a create followed by a delete is not delivered at all.
+#              Only applies when `debounce` is set
+# + maxInFlight - Maximum number of resource invocations running at the same time. Further events wait in a queue
+#                 until an invocation completes. 0 to invoke the resources without a limit
+# + queueCapacity - Maximum number of events waiting in the queue when `maxInFlight` is set
+# + overflowPolicy - Action taken when an event is received while the queue is full
+# + maxBatchSize - Maximum number of events delivered in a single invocation of the `onBatch` resource
+# + maxBatchDelay - Maximum time in milliseconds an event waits for its batch to fill before the batch is delivered
+#                   to the `onBatch` resource
+# + mode - How the changes in the directory are detected. `POLL` scans the directory periodically instead of using
+#          the native file watcher, for file systems on which the watcher misses events such as NFS mounts
+# + pollInterval - Time in milliseconds between two scans of the directory in the `POLL` mode
+# + stopTimeout - Maximum time in milliseconds a graceful stop or a detach waits for the received events to be
+#                 delivered and their resources to complete
+# + include - Globs of the files whose events are delivered, all the files when empty. Like the globs of the
+#             `ReadDirFilter`, a glob without a path separator is matched against the file name and the other globs
+#             against the path relative to the listened directory
+# + exclude - Globs of the files and directories whose events are discarded, e.g. `*.tmp` or `.git`. The excluded
+#             sub directories are not watched at all
+# + minSize - Minimum size in bytes of the files whose create and modify events are delivered. The size is read when
+#             the event is delivered, i.e. after the `debounce` window
+# + events - Types of the events delivered to the service, all of them when empty
 public type ListenerConfig record {|
     string? path = ();
+    (string|WatchedPath)[] paths = [];
+    boolean recursive = false;
+    int debounce = 0;
+    boolean coalesce = false;
+    int maxInFlight = 0;
+    int queueCapacity = 1000;
+    OverflowPolicy overflowPolicy = BLOCK;
+    int maxBatchSize = 100;
+    int maxBatchDelay = 1000;
+    ListenerMode mode = WATCH;
+    int pollInterval = 1000;
+    int stopTimeout = 5000;
+    string[] include = [];
+    string[] exclude = [];
+    int? minSize = ();
+    EventType[] events = [];
+|};
+
+# Represents a directory listened by a directory listener, with its own settings.
+#
+# + path - Directory path which need to listen
+# + recursive - Recursively monitor all sub folders or not in the given directory path
+# + include - Globs of the files whose events are delivered, replacing the `include` of the listener when not empty
+# + exclude - Globs of the files and directories whose events are discarded, in addition to the `exclude` of the
+#             listener
+public type WatchedPath record {|
+    string path;
     boolean recursive = false;
+    string[] include = [];
+    string[] exclude = [];
 |};
 
+# Represents the counters and latencies of a directory listener. Each service attached to the listener receives the
+# events of the directory on its own, hence the counters are summed over the services. An event of the directory is
+# counted once for each service which receives it.
+#
+# + serviceCreateEvents - Number of file creation events received by the services
+# + serviceDeleteEvents - Number of file deletion events received by the services
+# + serviceModifyEvents - Number of file modification events received by the services
+# + suppressedEvents - Number of events merged into other events of the same file within the `debounce` window
+# + unregisteredEvents - Number of events discarded as the service has no resource for them
+# + serviceFilteredEvents - Number of events received by the services and discarded by the `include`, `exclude` and
+#                           `minSize` filters
+# + droppedEvents - Number of events dropped as the dispatch queue was full
+# + dispatchedInvocations - Number of resource invocations
+# + failedInvocations - Number of resource invocations which returned an error
+# + inFlightInvocations - Number of resource invocations currently running
+# + queueDepth - Number of events currently waiting in the dispatch queue
+# + executionTime - Time from the invocation of a resource until it completes
+# + lag - Time from the receipt of an event until its resource is invoked, including the `debounce` window, the
+#         batching delay and the time spent in the dispatch queue
+public type ListenerStats record {|
+    int serviceCreateEvents;
+    int serviceDeleteEvents;
+    int serviceModifyEvents;
+    int suppressedEvents;
+    int unregisteredEvents;
+    int serviceFilteredEvents;
+    int droppedEvents;
+    int dispatchedInvocations;
+    int failedInvocations;
+    int inFlightInvocations;
+    int queueDepth;
+    LatencyStats executionTime;
+    LatencyStats lag;
+|};
+
+# Holds back the events of the listener until there is space in the queue. The events received meanwhile wait in
+# the intake of the listener, without blocking the directory watcher which is shared by the listeners of the process.
+# No event is dropped, hence the intake grows while the service is slower than the changes in the directory.
+public const BLOCK = "BLOCK";
+
+# Drops the oldest queued event to make space for the new event.
+public const DROP_OLDEST = "DROP_OLDEST";
+
+# Drops the new event and notifies the `onOverflow` resource of the service, if it is present, with a
+# `FileEvent` of the listened directory with the operation `overflow`.
+public const OVERFLOW = "OVERFLOW";
+
+# Action taken when an event is received while the dispatch queue of the listener is full.
+public type OverflowPolicy BLOCK|DROP_OLDEST|OVERFLOW;
+
+# Detects the changes using the native file watcher of the operating system.
+public const WATCH = "watch";
+
+# Detects the changes by periodically scanning the directory and comparing it with the previous scan.
+public const POLL = "poll";
+
+# How the directory listener detects the changes in the listened directory.
+public type ListenerMode WATCH|POLL;
+
+# The creation of a file or directory.
+public const CREATE = "create";
+
+# The modification of a file.
+public const MODIFY = "modify";
+
+# The deletion of a file or directory.
+public const DELETE = "delete";
+
+# Type of a file system event, which is the `operation` of its `FileEvent`.
+public type EventType CREATE|MODIFY|DELETE;
+
 function initEndpoint(Listener fileListener) returns error? = @java:Method {
     class: "org.ballerinalang.stdlib.file.service.endpoint.InitEndpoint",
     name: "initEndpoint"
@@ -99,3 +241,23 @@ function startEndpoint(Listener fileListener) returns error? = @java:Method {
     class: "org.ballerinalang.stdlib.file.service.endpoint.Start",
     name: "start"
 } external;
+
+function gracefulStop(Listener fileListener) returns error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.service.endpoint.Stop",
+    name: "gracefulStop"
+} external;
+
+function immediateStop(Listener fileListener) returns error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.service.endpoint.Stop",
+    name: "immediateStop"
+} external;
+
+function detach(Listener fileListener, service s) returns error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.service.endpoint.Detach",
+    name: "detach"
+} external;
+
+function getListenerStats(Listener fileListener) returns ListenerStats = @java:Method {
+    class: "org.ballerinalang.stdlib.file.service.endpoint.GetStats",
+    name: "getStats"
+} external;
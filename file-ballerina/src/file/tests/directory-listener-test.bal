@@ -17,6 +17,7 @@
 import ballerina/test;
 import ballerina/runtime;
 import ballerina/java;
+import ballerina/stringutils;
 
 listener Listener localFolder = new ({
     path: "src/file/tests/resources",
@@ -42,6 +43,228 @@ service fileSystem on localFolder {
     }
 }
 
+string debouncedDir = checkpanic createListenerDir("listener-debounce");
+
+listener Listener debouncedFolder = new ({
+    path: debouncedDir,
+    recursive: false,
+    debounce: 500,
+    coalesce: true
+});
+
+int burstCreateCount = 0;
+int burstModifyCount = 0;
+
+service debouncedFileSystem on debouncedFolder {
+
+    resource function onCreate(FileEvent m) {
+        if (stringutils:contains(m.name, "burst.txt")) {
+            burstCreateCount += 1;
+        }
+    }
+
+    resource function onModify(FileEvent m) {
+        if (stringutils:contains(m.name, "burst.txt")) {
+            burstModifyCount += 1;
+        }
+    }
+}
+
+string batchedDir = checkpanic createListenerDir("listener-batch");
+
+listener Listener batchedFolder = new ({
+    path: batchedDir,
+    recursive: false,
+    maxBatchSize: 5,
+    maxBatchDelay: 200
+});
+
+int batchedEventCount = 0;
+int largestBatchSize = 0;
+
+service batchedFileSystem on batchedFolder {
+
+    resource function onBatch(FileEvent[] events) {
+        foreach FileEvent event in events {
+            if (stringutils:contains(event.name, "burst.txt")) {
+                batchedEventCount += 1;
+            }
+        }
+        if (events.length() > largestBatchSize) {
+            largestBatchSize = events.length();
+        }
+    }
+}
+
+listener Listener polledFolder = new ({
+    path: "src/file/tests/resources",
+    recursive: false,
+    mode: POLL,
+    pollInterval: 200
+});
+
+boolean polledCreateInvoke = false;
+boolean polledDeleteInvoke = false;
+
+service polledFileSystem on polledFolder {
+
+    resource function onCreate(FileEvent m) {
+        polledCreateInvoke = true;
+    }
+
+    resource function onDelete(FileEvent m) {
+        polledDeleteInvoke = true;
+    }
+}
+
+string firstPathDir = checkpanic createListenerDir("listener-paths-first");
+string secondPathDir = checkpanic createListenerDir("listener-paths-second");
+
+listener Listener multiPathFolder = new ({
+    paths: [firstPathDir, {path: secondPathDir, recursive: false}]
+});
+
+int firstPathCreateCount = 0;
+int secondPathCreateCount = 0;
+
+service multiPathFileSystem on multiPathFolder {
+
+    resource function onCreate(FileEvent m) {
+        if (stringutils:contains(m.name, firstPathDir)) {
+            firstPathCreateCount += 1;
+        } else if (stringutils:contains(m.name, secondPathDir)) {
+            secondPathCreateCount += 1;
+        }
+    }
+}
+
+string filteredDir = checkpanic createListenerDir("listener-filters");
+
+listener Listener filteredFolder = new ({
+    path: filteredDir,
+    exclude: ["*.tmp"],
+    minSize: 10,
+    events: [CREATE, MODIFY]
+});
+
+boolean largeFileInvoke = false;
+boolean smallFileInvoke = false;
+boolean excludedFileInvoke = false;
+boolean filteredDeleteInvoke = false;
+
+service filteredFileSystem on filteredFolder {
+
+    resource function onCreate(FileEvent m) {
+        recordFilteredEvent(m);
+    }
+
+    resource function onModify(FileEvent m) {
+        recordFilteredEvent(m);
+    }
+
+    resource function onDelete(FileEvent m) {
+        if (stringutils:contains(m.name, "filter-")) {
+            filteredDeleteInvoke = true;
+        }
+    }
+}
+
+function recordFilteredEvent(FileEvent m) {
+    if (stringutils:contains(m.name, "filter-large.txt")) {
+        largeFileInvoke = true;
+    } else if (stringutils:contains(m.name, "filter-small.txt")) {
+        smallFileInvoke = true;
+    } else if (stringutils:contains(m.name, "filter-skip.tmp")) {
+        excludedFileInvoke = true;
+    }
+}
+
+const int SATURATING_EVENT_COUNT = 10;
+
+string blockingDir = checkpanic createListenerDir("listener-block");
+string dropOldestDir = checkpanic createListenerDir("listener-drop-oldest");
+string overflowDir = checkpanic createListenerDir("listener-overflow");
+
+listener Listener blockingFolder = new ({
+    path: blockingDir,
+    events: [CREATE],
+    maxInFlight: 1,
+    queueCapacity: 2,
+    overflowPolicy: BLOCK
+});
+
+listener Listener dropOldestFolder = new ({
+    path: dropOldestDir,
+    events: [CREATE],
+    maxInFlight: 1,
+    queueCapacity: 2,
+    overflowPolicy: DROP_OLDEST
+});
+
+listener Listener overflowFolder = new ({
+    path: overflowDir,
+    events: [CREATE],
+    maxInFlight: 1,
+    queueCapacity: 2,
+    overflowPolicy: OVERFLOW
+});
+
+string[] blockingDelivered = [];
+string[] dropOldestDelivered = [];
+string[] overflowDelivered = [];
+boolean overflowInvoke = false;
+
+service blockingFileSystem on blockingFolder {
+
+    resource function onCreate(FileEvent m) {
+        blockingDelivered.push(m.name);
+        runtime:sleep(100);
+    }
+}
+
+service dropOldestFileSystem on dropOldestFolder {
+
+    resource function onCreate(FileEvent m) {
+        dropOldestDelivered.push(m.name);
+        runtime:sleep(100);
+    }
+}
+
+service overflowFileSystem on overflowFolder {
+
+    resource function onCreate(FileEvent m) {
+        overflowDelivered.push(m.name);
+        runtime:sleep(100);
+    }
+
+    resource function onOverflow(FileEvent m) {
+        overflowInvoke = true;
+    }
+}
+
+service sharedFileSystem = service {
+
+    resource function onCreate(FileEvent m) {
+    }
+};
+
+int lifecycleCreateCount = 0;
+int detachedCreateCount = 0;
+
+service lifecycleFileSystem = service {
+
+    resource function onCreate(FileEvent m) {
+        lifecycleCreateCount += 1;
+    }
+};
+
+service detachedFileSystem = service {
+
+    resource function onCreate(FileEvent m) {
+        detachedCreateCount += 1;
+    }
+};
+
 @test:Config {}
 function isCreateInvoked() {
     error? fileResult = createTestFile();
@@ -75,6 +298,202 @@ function isDeleteInvoked() {
     }
 }
 
+@test:Config {}
+function isEventBurstCoalesced() {
+    error? fileResult = writeBurstFile(debouncedDir);
+    if (fileResult is error) {
+        test:assertFail("Burst file not written!");
+    } else {
+        runtime:sleep(2000);
+        test:assertEquals(burstCreateCount, 1, "File creation burst not coalesced!");
+        test:assertEquals(burstModifyCount, 0, "File modification burst not coalesced!");
+    }
+    error? deleteResult = deleteBurstFile(debouncedDir);
+}
+
+@test:Config {}
+function isEventBatchDelivered() {
+    error? fileResult = writeBurstFile(batchedDir);
+    if (fileResult is error) {
+        test:assertFail("Burst file not written!");
+    }
+    runtime:sleep(2000);
+    test:assertTrue(batchedEventCount > 0, "File events not delivered in batches!");
+    test:assertTrue(largestBatchSize <= 5, "Batch size exceeds the maxBatchSize!");
+    error? deleteResult = deleteBurstFile(batchedDir);
+}
+
+@test:Config { dependsOn: ["isDeleteInvoked", "isEventBurstCoalesced"]}
+function testListenerStats() {
+    ListenerStats stats = localFolder.getStats();
+    test:assertTrue(stats.serviceCreateEvents > 0, "File creation event not counted!");
+    test:assertTrue(stats.serviceDeleteEvents > 0, "File deletion event not counted!");
+    test:assertTrue(stats.dispatchedInvocations > 0, "Resource invocations not counted!");
+    test:assertTrue(stats.executionTime.count > 0, "Resource execution time not recorded!");
+    test:assertTrue(stats.lag.p99 <= stats.lag.max, "Invalid lag percentiles!");
+    test:assertEquals(stats.droppedEvents, 0);
+
+    ListenerStats debouncedStats = debouncedFolder.getStats();
+    test:assertTrue(debouncedStats.suppressedEvents > 0, "Debounced events not counted as suppressed!");
+}
+
+@test:Config { dependsOn: ["isDeleteInvoked"]}
+function isPolledEventInvoked() {
+    test:assertTrue(polledCreateInvoke, "File creation not detected by polling!");
+    test:assertTrue(polledDeleteInvoke, "File deletion not detected by polling!");
+}
+
+@test:Config {}
+function isMultiPathEventInvoked() {
+    string|error firstResult = createFile(firstPathDir + "/created.txt");
+    string|error secondResult = createFile(secondPathDir + "/created.txt");
+    if (firstResult is error || secondResult is error) {
+        test:assertFail("Listened files not created!");
+    }
+    runtime:sleep(2000);
+    test:assertEquals(firstPathCreateCount, 1, "File creation event of the first path not captured!");
+    test:assertEquals(secondPathCreateCount, 1, "File creation event of the second path not captured!");
+}
+
+@test:Config { dependsOn: ["isMultiPathEventInvoked"]}
+function testSharedDirectoryWatch() {
+    int baselineWatches = getWatchHandleCount();
+    Listener sharedFolder = new ({
+        path: firstPathDir
+    });
+    checkpanic sharedFolder.__attach(sharedFileSystem);
+    checkpanic sharedFolder.__start();
+    if (baselineWatches >= 0) {
+        test:assertEquals(getWatchHandleCount(), baselineWatches, "Shared directory watched twice!");
+    }
+    checkpanic sharedFolder.__gracefulStop();
+    if (baselineWatches >= 0) {
+        test:assertEquals(getWatchHandleCount(), baselineWatches, "Shared directory watch released!");
+    }
+
+    // The directory is still watched for the listener which shares it.
+    string|error fileResult = createFile(firstPathDir + "/shared.txt");
+    runtime:sleep(2000);
+    test:assertEquals(firstPathCreateCount, 2, "File creation event of the shared path not captured!");
+}
+
+@test:Config { dependsOn: ["testSharedDirectoryWatch", "testListenerStats", "isPolledEventInvoked"]}
+function testListenerLifecycle() {
+    string lifecycleDir = getTmpDir() + "/listener-lifecycle";
+    string|error dirResult = createDir(lifecycleDir);
+    if (dirResult is error) {
+        test:assertFail("Listened directory not created!");
+    }
+    int baselineThreads = getListenerThreadCount();
+    int baselineWatches = getWatchHandleCount();
+
+    Listener lifecycleFolder = new ({
+        path: lifecycleDir,
+        recursive: true,
+        debounce: 100,
+        maxInFlight: 2
+    });
+    checkpanic lifecycleFolder.__attach(lifecycleFileSystem);
+    checkpanic lifecycleFolder.__attach(detachedFileSystem);
+    checkpanic lifecycleFolder.__start();
+    // The services share the threads of the listeners, even with a bounded number of in-flight invocations.
+    test:assertEquals(getListenerThreadCount(), baselineThreads, "Threads added per service!");
+    if (baselineWatches >= 0) {
+        test:assertTrue(getWatchHandleCount() > baselineWatches, "Directory not watched!");
+    }
+
+    string|error sharedResult = createFile(lifecycleDir + "/shared.txt");
+    runtime:sleep(1000);
+    test:assertEquals(lifecycleCreateCount, 1, "File creation event not captured!");
+    test:assertEquals(detachedCreateCount, 1, "File creation event not captured by the second service!");
+    ListenerStats sharedStats = lifecycleFolder.getStats();
+    test:assertEquals(sharedStats.dispatchedInvocations, 2, "Invocations of the services not summed!");
+    test:assertEquals(sharedStats.serviceCreateEvents, 2, "Received events of the services not summed!");
+    test:assertEquals(sharedStats.serviceFilteredEvents, 0, "Unfiltered events counted as filtered!");
+
+    checkpanic lifecycleFolder.__detach(detachedFileSystem);
+    string|error fileResult = createFile(lifecycleDir + "/created.txt");
+    runtime:sleep(1000);
+    test:assertEquals(lifecycleCreateCount, 2, "File creation event not captured!");
+    test:assertEquals(detachedCreateCount, 1, "File creation event delivered to a detached service!");
+    ListenerStats detachedStats = lifecycleFolder.getStats();
+    test:assertEquals(detachedStats.dispatchedInvocations, 3, "Invocations of the detached service not kept!");
+    test:assertEquals(detachedStats.serviceCreateEvents, 3, "Event counted for a detached service!");
+
+    checkpanic lifecycleFolder.__gracefulStop();
+    runtime:sleep(500);
+    test:assertEquals(getListenerThreadCount(), baselineThreads, "Listener threads added!");
+    if (baselineWatches >= 0) {
+        test:assertEquals(getWatchHandleCount(), baselineWatches, "Watch handles not released!");
+    }
+    error? removeResult = remove(lifecycleDir, true);
+}
+
+@test:Config {}
+function testListenerFilters() {
+    error? fileResult = writeFilterFiles(filteredDir);
+    if (fileResult is error) {
+        test:assertFail("Filtered files not written!");
+    }
+    runtime:sleep(2000);
+    error? deleteResult = deleteFilterFiles(filteredDir);
+    runtime:sleep(1000);
+    test:assertTrue(largeFileInvoke, "File event not captured!");
+    test:assertFalse(smallFileInvoke, "Event of a file smaller than minSize delivered!");
+    test:assertFalse(excludedFileInvoke, "Event of an excluded file delivered!");
+    test:assertFalse(filteredDeleteInvoke, "Event of a filtered event type delivered!");
+    test:assertTrue(filteredFolder.getStats().serviceFilteredEvents > 0, "Filtered events not counted!");
+}
+
+@test:Config {}
+function testSaturatedDispatchQueue() {
+    error? blockingResult = createEventFiles(blockingDir, SATURATING_EVENT_COUNT);
+    error? dropOldestResult = createEventFiles(dropOldestDir, SATURATING_EVENT_COUNT);
+    error? overflowResult = createEventFiles(overflowDir, SATURATING_EVENT_COUNT);
+    if (blockingResult is error || dropOldestResult is error || overflowResult is error) {
+        test:assertFail("Event files not created!");
+    }
+    runtime:sleep(3000);
+
+    test:assertEquals(blockingFolder.getStats().droppedEvents, 0, "Event dropped by the BLOCK policy!");
+    test:assertEquals(blockingDelivered.length(), SATURATING_EVENT_COUNT, "Events not delivered!");
+    assertDeliveredInOrder(blockingDelivered, blockingDir);
+
+    int dropped = dropOldestFolder.getStats().droppedEvents;
+    test:assertTrue(dropped > 0, "Events not dropped by the DROP_OLDEST policy!");
+    test:assertEquals(dropOldestDelivered.length() + dropped, SATURATING_EVENT_COUNT, "Events lost!");
+    test:assertEquals(dropOldestDelivered[dropOldestDelivered.length() - 1],
+        dropOldestDir + "/event-" + (SATURATING_EVENT_COUNT - 1).toString(), "Newest event dropped!");
+    assertDeliveredInOrder(dropOldestDelivered, dropOldestDir);
+
+    dropped = overflowFolder.getStats().droppedEvents;
+    test:assertTrue(dropped > 0, "Events not dropped by the OVERFLOW policy!");
+    test:assertEquals(overflowDelivered.length() + dropped, SATURATING_EVENT_COUNT, "Events lost!");
+    test:assertEquals(overflowDelivered[0], overflowDir + "/event-0", "Oldest event dropped!");
+    test:assertTrue(overflowInvoke, "Overflow not notified!");
+    assertDeliveredInOrder(overflowDelivered, overflowDir);
+}
+
+function assertDeliveredInOrder(string[] delivered, string dir) {
+    int previous = -1;
+    foreach string name in delivered {
+        int index = SATURATING_EVENT_COUNT;
+        foreach int i in 0 ..< SATURATING_EVENT_COUNT {
+            if (name == dir + "/event-" + i.toString()) {
+                index = i;
+            }
+        }
+        test:assertTrue(index > previous, "Event " + name + " not delivered in order!");
+        previous = index;
+    }
+}
+
+// Counts the threads of the listeners, apart from the shared pools which grow and shrink with the load.
+function getListenerThreadCount() returns int {
+    return getThreadCount("ballerina-file-listener") - getThreadCount("ballerina-file-listener-event")
+        - getThreadCount("ballerina-file-listener-scan");
+}
+
 function createTestFile() returns error? = @java:Method {
     class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
 } external;
@@ -86,3 +505,35 @@ function modifyTestFile() returns error? = @java:Method {
 function deleteTestFile() returns error? = @java:Method {
     class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
 } external;
+
+function writeBurstFile(string dir) returns error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
+
+function deleteBurstFile(string dir) returns error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
+
+function getThreadCount(string prefix) returns int = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
+
+function getWatchHandleCount() returns int = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
+
+function writeFilterFiles(string dir) returns error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
+
+function deleteFilterFiles(string dir) returns error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
+
+function createListenerDir(string name) returns string|error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
+
+function createEventFiles(string dir, int count) returns error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
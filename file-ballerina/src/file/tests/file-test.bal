@@ -16,6 +16,7 @@
 
 import ballerina/test;
 import ballerina/java;
+import ballerina/runtime;
 import ballerina/stringutils;
 
 string tmpdir = tempDir();
@@ -83,6 +84,30 @@ function testCopyDir() {
     }
 }
 
+@test:Config {}
+function testCopyDirParallel() {
+    error? copyResult = copy(srcDir, tmpdir + "/src-dir-parallel", true, 4);
+    if (copyResult is error) {
+        test:assertFail("Directory not copied!");
+    }
+    test:assertTrue(exists(tmpdir + "/src-dir-parallel/nested-file.txt"), "Nested file not copied!");
+    error? removeResult = remove(tmpdir + "/src-dir-parallel", true);
+    if (removeResult is error) {
+        test:assertFail("Error removing test resource!");
+    }
+}
+
+@test:Config {}
+function testCopyDirInvalidParallelism() {
+    error? copyResult = copy(srcDir, tmpdir + "/src-dir-parallel", true, 0);
+    if (copyResult is error) {
+        string expectedErrMsg = "Invalid parallelism value";
+        test:assertTrue(stringutils:contains(copyResult.message(), expectedErrMsg));
+    } else {
+        test:assertFail("Directory copied with an invalid parallelism!");
+    }
+}
+
 @test:Config {dependsOn: ["testCopyDir"]}
 function testRemoverecursivefalse() {
     error? removeResult = remove(tmpdir + "/src-dir", false);
@@ -100,6 +125,77 @@ function testRemoverecursiveTrue() {
     }
 }
 
+@test:Config {}
+function testRemoveRecursiveParallel() {
+    error? copyResult = copy(srcDir, tmpdir + "/src-dir-remove", true);
+    if (copyResult is error) {
+        test:assertFail("Directory not copied!");
+    }
+    error? removeResult = remove(tmpdir + "/src-dir-remove", true, 4);
+    if (removeResult is error) {
+        test:assertFail("Directory not removed!");
+    }
+    test:assertFalse(exists(tmpdir + "/src-dir-remove"), "Directory not removed!");
+}
+
+@test:Config {}
+function testRemoveTree() {
+    string treeDir = tmpdir + "/remove-tree";
+    error? copyResult = copy(rdDir, treeDir, true);
+    if (copyResult is error) {
+        test:assertFail("Directory not copied!");
+    }
+    RemoveResult|error removeResult = removeTree(treeDir, 4, function (int files, int directories) {});
+    if (removeResult is RemoveResult) {
+        test:assertEquals(removeResult.filesDeleted, 2, "Invalid deleted file count!");
+        test:assertEquals(removeResult.directoriesDeleted, 2, "Invalid deleted directory count!");
+        test:assertEquals(removeResult.failures.length(), 0, "Invalid failure count!");
+    } else {
+        test:assertFail("Directory not removed!");
+    }
+    test:assertFalse(exists(treeDir), "Directory not removed!");
+
+    RemoveResult|error missing = removeTree(treeDir);
+    if (missing is error) {
+        test:assertTrue(missing is FileNotFoundError, "Invalid error type!");
+    } else {
+        test:assertFail("Missing directory removed!");
+    }
+}
+
+@test:Config {}
+function testRemoveInBackground() {
+    error? copyResult = copy(srcDir, tmpdir + "/src-dir-background", true);
+    if (copyResult is error) {
+        test:assertFail("Directory not copied!");
+    }
+    error? removeResult = remove(tmpdir + "/src-dir-background", true, background = true);
+    if (removeResult is error) {
+        test:assertFail("Directory not removed!");
+    }
+    test:assertFalse(exists(tmpdir + "/src-dir-background"), "Directory not moved out of the path!");
+}
+
+@test:Config {}
+function testRemoveInBackgroundNonRecursive() {
+    string backgroundFile = tmpdir + "/background-non-recursive.txt";
+    if (!exists(backgroundFile)) {
+        string|error created = createFile(backgroundFile);
+        if (created is error) {
+            test:assertFail("Error creating the test file!");
+        }
+    }
+    error? removeResult = remove(backgroundFile, background = true);
+    if (removeResult is error) {
+        string expectedErrMsg = "only supported for recursive removal";
+        test:assertTrue(stringutils:contains(removeResult.message(), expectedErrMsg));
+        test:assertTrue(exists(backgroundFile), "File removed despite the error!");
+    } else {
+        test:assertFail("File removed in the background without the recursive flag!");
+    }
+    error? cleanupResult = remove(backgroundFile);
+}
+
 @test:Config {}
 function testRemoveNonExistingFile() {
     error? removeResult = remove(tmpdir + noFile);
@@ -115,6 +211,8 @@ function testFileInfo() {
     if (fileInfo is FileInfo) {
         test:assertEquals(fileInfo.getName(), "src-file.txt", "Incorrect file name!");
         test:assertFalse(fileInfo.isDir(), "Incorrect file info!");
+        test:assertEquals(fileInfo.getLastModifiedTime().zone.id, "Z", "Incorrect modified time zone!");
+        test:assertTrue(fileInfo.getLastModifiedTime().time > 0, "Incorrect modified time!");
         error? removeResult = remove(tmpdir + srcFileRaw);
         if (removeResult is error) {
             test:assertFail("Error removing test resource!");
@@ -157,6 +255,504 @@ function testReadDirWithMaxLength1() {
     }
 }
 
+@test:Config {}
+function testReadDirWithFilter() {
+    FileInfo[]|error included = readDir(rdDir, filter = {include: ["*.txt"]});
+    if (included is FileInfo[]) {
+        test:assertEquals(included.length(), 2, "Invalid file info!");
+    } else {
+        test:assertFail("Error reading the directory!");
+    }
+    FileInfo[]|error excluded = readDir(rdDir, filter = {exclude: ["temp-dir"]});
+    if (excluded is FileInfo[]) {
+        test:assertEquals(excluded.length(), 1, "Excluded directory was read!");
+        test:assertEquals(excluded[0].getName(), "temp-file1.txt", "Invalid file info!");
+    } else {
+        test:assertFail("Error reading the directory!");
+    }
+    FileInfo[]|error dirs = readDir(rdDir, filter = {dirsOnly: true});
+    if (dirs is FileInfo[]) {
+        test:assertEquals(dirs.length(), 1, "Invalid file info!");
+        test:assertTrue(dirs[0].isDir(), "Invalid file info!");
+    } else {
+        test:assertFail("Error reading the directory!");
+    }
+    FileInfo[]|error matched = readDir(rdDir, filter = {pattern: ".*file2\\.txt", minSize: 0});
+    if (matched is FileInfo[]) {
+        test:assertEquals(matched.length(), 1, "Invalid file info!");
+    } else {
+        test:assertFail("Error reading the directory!");
+    }
+}
+
+@test:Config {}
+function testReadDirInParallel() {
+    FileInfo[]|error sequential = readDir(rdDir);
+    FileInfo[]|error ordered = readDir(rdDir, parallelism = 4);
+    if (sequential is FileInfo[] && ordered is FileInfo[]) {
+        test:assertEquals(ordered.length(), sequential.length(), "Invalid file info!");
+        foreach int i in 0 ..< sequential.length() {
+            test:assertEquals(ordered[i].getName(), sequential[i].getName(), "Entries not in the walk order!");
+        }
+    } else {
+        test:assertFail("Error reading the directory!");
+    }
+    FileInfo[]|error unordered = readDir(rdDir, parallelism = 4, ordered = false);
+    if (unordered is FileInfo[]) {
+        test:assertEquals(unordered.length(), 3, "Invalid file info!");
+    } else {
+        test:assertFail("Error reading the directory!");
+    }
+}
+
+@test:Config {}
+function testReadDirInvalidParallelism() {
+    FileInfo[]|error fileInfo = readDir(rdDir, parallelism = 0);
+    if (fileInfo is error) {
+        test:assertTrue(stringutils:contains(fileInfo.message(), "Invalid parallelism value"));
+    } else {
+        test:assertFail("Directory read with an invalid parallelism!");
+    }
+}
+
+@test:Config {}
+function testDiskUsage() {
+    int expectedSize = 0;
+    FileInfo[]|error files = readDir(rdDir, filter = {filesOnly: true});
+    if (files is FileInfo[]) {
+        foreach FileInfo file in files {
+            expectedSize += file.getSize();
+        }
+    }
+    DiskUsage|error usage = diskUsage(rdDir, breakdown = true);
+    if (usage is DiskUsage) {
+        test:assertEquals(usage.fileCount, 2, "Invalid file count!");
+        test:assertEquals(usage.dirCount, 1, "Invalid directory count!");
+        test:assertEquals(usage.totalSize, expectedSize, "Invalid total size!");
+        test:assertEquals(usage.children.length(), 2, "Invalid breakdown!");
+    } else {
+        test:assertFail("Error computing the disk usage!");
+    }
+    DiskUsage|error parallelUsage = diskUsage(rdDir, parallelism = 4);
+    if (parallelUsage is DiskUsage) {
+        test:assertEquals(parallelUsage.totalSize, expectedSize, "Invalid total size!");
+        test:assertEquals(parallelUsage.children.length(), 0, "Breakdown returned when not requested!");
+    } else {
+        test:assertFail("Error computing the disk usage!");
+    }
+}
+
+@test:Config {}
+function testDiskUsageHardLinks() {
+    string linkDir = tmpdir + "/disk-usage-links";
+    error? staleResult = remove(linkDir, true);
+    error? copyResult = copy(rdDir, linkDir);
+    error? linkResult = createHardLink(linkDir + "/temp-dir/linked-file.txt", linkDir + "/temp-file1.txt");
+    if (linkResult is error) {
+        test:assertFail("Error creating the hard link!");
+    }
+    DiskUsage|error expected = diskUsage(rdDir);
+    foreach int parallelism in [1, 4] {
+        DiskUsage|error usage = diskUsage(linkDir, parallelism = parallelism);
+        if (usage is DiskUsage && expected is DiskUsage) {
+            test:assertEquals(usage.fileCount, 2, "Hard link counted twice!");
+            test:assertEquals(usage.totalSize, expected.totalSize, "Hard link counted twice in the total size!");
+        } else {
+            test:assertFail("Error computing the disk usage!");
+        }
+    }
+    error? removeResult = remove(linkDir, true);
+}
+
+@test:Config {}
+function testDiskUsageMaxDepth() {
+    FileInfo|error topFile = getFileInfo(rdDir + "/temp-file1.txt");
+    DiskUsage|error usage = diskUsage(rdDir, maxDepth = 1, breakdown = true);
+    if (usage is DiskUsage && topFile is FileInfo) {
+        test:assertEquals(usage.fileCount, 1, "Files below the maximum depth counted!");
+        test:assertEquals(usage.dirCount, 1, "Invalid directory count!");
+        test:assertEquals(usage.totalSize, topFile.getSize(), "Invalid total size!");
+        test:assertEquals(usage.children.length(), 2, "Invalid breakdown!");
+        // The children are ordered by the path, and the directory is not walked.
+        test:assertEquals(usage.children[0].fileCount, 0, "Directory below the maximum depth walked!");
+        test:assertEquals(usage.children[1].fileCount, 1, "Invalid file count of the file!");
+    } else {
+        test:assertFail("Error computing the disk usage!");
+    }
+    DiskUsage|error invalid = diskUsage(rdDir, maxDepth = -2);
+    if (invalid is error) {
+        test:assertTrue(stringutils:contains(invalid.message(), "Invalid maxDepth value"));
+    } else {
+        test:assertFail("Disk usage computed with an invalid maxDepth!");
+    }
+}
+
+@test:Config {}
+function testSnapshotDiff() {
+    string treeDir = tmpdir + "/snapshot-tree";
+    string snapshotFile = tmpdir + "/snapshot-tree.snapshot";
+    error? copyResult = copy(rdDir, treeDir, true);
+    int|error entries = createSnapshot(treeDir, snapshotFile);
+    if (entries is int) {
+        test:assertEquals(entries, 3, "Invalid snapshot entries!");
+    } else {
+        test:assertFail("Error creating the snapshot!");
+    }
+    TreeDiff|error unchanged = diff(snapshotFile, treeDir);
+    if (unchanged is TreeDiff) {
+        test:assertEquals(unchanged.added.length() + unchanged.removed.length() + unchanged.modified.length(), 0,
+                          "Changes found in an unchanged tree!");
+    } else {
+        test:assertFail("Error comparing the snapshot!");
+    }
+
+    string|error created = createFile(treeDir + "/temp-dir/new-file.txt");
+    error? removeResult = remove(treeDir + "/temp-file1.txt");
+    error? modifyResult = writeAtomically(treeDir + "/temp-dir/temp-file2.txt", "modified content".toBytes());
+    if (modifyResult is error) {
+        test:assertFail("Error modifying the file!");
+    }
+    TreeDiff|error changes = diff(snapshotFile, treeDir);
+    if (changes is TreeDiff) {
+        test:assertEquals(changes.added, ["temp-dir/new-file.txt"], "Invalid added entries!");
+        test:assertEquals(changes.removed, ["temp-file1.txt"], "Invalid removed entries!");
+        test:assertEquals(changes.modified, ["temp-dir/temp-file2.txt"], "Invalid modified entries!");
+    } else {
+        test:assertFail("Error comparing the snapshot!");
+    }
+    error? removeTree = remove(treeDir, true);
+    error? removeSnapshot = remove(snapshotFile);
+}
+
+@test:Config {}
+function testChecksum() {
+    string|error sha256 = checksum(srcFile);
+    test:assertEquals(sha256, "7e77ce330a0e04b0b633e079463c98a42405648287061b6bedf9437c241bce6b",
+                      "Invalid SHA-256 checksum!");
+    string|error crc32 = checksum(srcFile, CRC32);
+    test:assertEquals(crc32, "0e0e1922", "Invalid CRC32 checksum!");
+    string|error sequentialTree = checksum(srcFile, XXH64, 16);
+    string|error parallelTree = checksum(srcFile, XXH64, 16, 4);
+    if (sequentialTree is string && parallelTree is string) {
+        test:assertEquals(parallelTree, sequentialTree, "Parallel tree checksum mismatch!");
+    } else {
+        test:assertFail("Error computing the tree checksum!");
+    }
+    string|error dirChecksum = checksum(srcDir);
+    if (dirChecksum is error) {
+        test:assertTrue(stringutils:contains(dirChecksum.message(), "Cannot compute the checksum of a directory"));
+    } else {
+        test:assertFail("Checksum computed for a directory!");
+    }
+}
+
+@test:Config {}
+function testChecksumKnownAnswers() {
+    string vectorFile = tmpdir + "/checksum-vector.txt";
+    // The check value of CRC-32C and the reference vectors of XXH64 with a seed of 0.
+    [ChecksumAlgorithm, string, string][] vectors = [
+        [CRC32C, "123456789", "e3069283"],
+        [XXH64, "", "ef46db3751d8e999"],
+        [XXH64, "a", "d24ec4f1a98c6e5b"],
+        [XXH64, "abc", "44bc2cf5ad770999"],
+        [XXH64, "Nobody inspects the spammish repetition", "fbcea83c8a378bf1"]
+    ];
+    foreach var [algorithm, content, expected] in vectors {
+        error? result = writeAtomically(vectorFile, content.toBytes());
+        if (result is error) {
+            test:assertFail("Vector file not written!");
+        }
+        test:assertEquals(checksum(vectorFile, algorithm), expected,
+            "Invalid " + algorithm + " checksum of \"" + content + "\"!");
+    }
+
+    // A chunk per byte splits a file larger than 1 MiB into too many chunks.
+    byte[] largeContent = [];
+    largeContent[1048576] = 0;
+    error? largeResult = writeAtomically(vectorFile, largeContent);
+    string|error tooManyChunks = checksum(vectorFile, XXH64, 1);
+    if (tooManyChunks is error) {
+        test:assertTrue(stringutils:contains(tooManyChunks.message(), "use a chunkSize of at least 2"));
+    } else {
+        test:assertFail("Checksum computed with more chunks than supported!");
+    }
+    error? removeResult = remove(vectorFile);
+}
+
+@test:Config {}
+function testCopyWithVerify() {
+    error? copyResult = copy(srcFile, tmpdir + "/verified-file.txt", true, options = {verify: true});
+    if (copyResult is error) {
+        test:assertFail("File not copied!");
+    }
+    test:assertEquals(checksum(tmpdir + "/verified-file.txt", CRC32C), checksum(srcFile, CRC32C),
+                      "Copied file checksum mismatch!");
+    error? removeResult = remove(tmpdir + "/verified-file.txt");
+}
+
+@test:Config {}
+function testSync() {
+    string syncDir = tmpdir + "/sync-dir";
+    SyncSummary|error initial = sync(rdDir, syncDir);
+    if (initial is SyncSummary) {
+        test:assertEquals(initial.filesCopied, 2, "Invalid copied file count!");
+        test:assertEquals(initial.filesSkipped, 0, "Invalid skipped file count!");
+        test:assertEquals(initial.failures.length(), 0, "Invalid failure count!");
+    } else {
+        test:assertFail("Error synchronizing the directory!");
+    }
+    string|error extraneous = createFile(syncDir + "/extraneous.txt");
+    SyncSummary|error unchanged = sync(rdDir, syncDir, 4, {deleteExtraneous: true});
+    if (unchanged is SyncSummary) {
+        test:assertEquals(unchanged.filesCopied, 0, "Unchanged files copied!");
+        test:assertEquals(unchanged.filesSkipped, 2, "Invalid skipped file count!");
+        test:assertEquals(unchanged.entriesDeleted, 1, "Extraneous file not deleted!");
+        test:assertEquals(unchanged.failures.length(), 0, "Invalid failure count!");
+    } else {
+        test:assertFail("Error synchronizing the directory!");
+    }
+    test:assertFalse(exists(syncDir + "/extraneous.txt"), "Extraneous file exists!");
+    SyncSummary|error compared = sync(rdDir, syncDir, options = {checksum: true});
+    if (compared is SyncSummary) {
+        test:assertEquals(compared.filesSkipped, 2, "Invalid skipped file count!");
+        test:assertEquals(compared.bytesCopied, 0, "Unchanged files copied!");
+    } else {
+        test:assertFail("Error synchronizing the directory!");
+    }
+    error? removeResult = remove(syncDir, true);
+}
+
+@test:Config {}
+function testCopyTreeWithFailures() {
+    string treeDir = tmpdir + "/copy-tree";
+    string checkpointFile = tmpdir + "/copy-tree.checkpoint";
+    error? dirResult = createDir(treeDir);
+    // A file in the place of a directory of the source fails the copy of the directory.
+    string|error blockingFile = createFile(treeDir + "/temp-dir");
+    CopyResult|error partial = copyTree(rdDir, treeDir, checkpoint = checkpointFile);
+    if (partial is CopyResult) {
+        test:assertEquals(partial.filesCopied, 1, "Invalid copied file count!");
+        test:assertEquals(partial.failures.length(), 1, "Invalid failure count!");
+        test:assertTrue(stringutils:contains(partial.failures[0].path, "temp-dir"), "Invalid failed path!");
+    } else {
+        test:assertFail("Error copying the directory!");
+    }
+    test:assertTrue(exists(checkpointFile), "Checkpoint file not found!");
+
+    error? removeResult = remove(treeDir + "/temp-dir");
+    CopyResult|error resumed = copyTree(rdDir, treeDir, parallelism = 4, checkpoint = checkpointFile);
+    if (resumed is CopyResult) {
+        test:assertEquals(resumed.filesCopied, 1, "Completed entries copied again!");
+        test:assertEquals(resumed.failures.length(), 0, "Invalid failure count!");
+    } else {
+        test:assertFail("Error resuming the copy!");
+    }
+    test:assertTrue(exists(treeDir + "/temp-dir/temp-file2.txt"), "Failed entry not copied!");
+    test:assertFalse(exists(checkpointFile), "Checkpoint file not deleted!");
+    error? removeTree = remove(treeDir, true);
+}
+
+@test:Config {}
+function testCopyTreeResumeInsideDirectory() {
+    string sourceDir = tmpdir + "/copy-resume-src";
+    string targetDir = tmpdir + "/copy-resume-dst";
+    string checkpointFile = tmpdir + "/copy-resume.checkpoint";
+    error? sourceResult = createDir(sourceDir + "/dir", true);
+    error? first = writeAtomically(sourceDir + "/a.txt", "first file".toBytes());
+    error? second = writeAtomically(sourceDir + "/dir/b.txt", "file being copied when interrupted".toBytes());
+    error? third = writeAtomically(sourceDir + "/dir/c.txt", "file not yet copied".toBytes());
+    error? fourth = writeAtomically(sourceDir + "/z.txt", "last file".toBytes());
+
+    // The interrupted copy created the directory and left its first file half written.
+    error? targetResult = createDir(targetDir + "/dir", true);
+    error? copied = writeAtomically(targetDir + "/a.txt", "first file".toBytes());
+    error? partial = writeAtomically(targetDir + "/dir/b.txt", "file being".toBytes());
+    error? checkpointResult = writeCopyCheckpoint(checkpointFile, sourceDir, targetDir, "dir");
+    if (checkpointResult is error) {
+        test:assertFail("Checkpoint not written!");
+    }
+
+    CopyResult|error resumed = copyTree(sourceDir, targetDir, checkpoint = checkpointFile);
+    if (resumed is CopyResult) {
+        test:assertEquals(resumed.filesCopied, 3, "Entries of the interrupted directory not copied!");
+        test:assertEquals(resumed.failures.length(), 0, "Invalid failure count!");
+    } else {
+        test:assertFail("Error resuming the copy!");
+    }
+    foreach string file in ["a.txt", "dir/b.txt", "dir/c.txt", "z.txt"] {
+        test:assertEquals(checksum(targetDir + "/" + file), checksum(sourceDir + "/" + file),
+            "Invalid content of the resumed file " + file);
+    }
+    test:assertFalse(exists(checkpointFile), "Checkpoint file not deleted!");
+    error? removeSource = remove(sourceDir, true);
+    error? removeTarget = remove(targetDir, true);
+}
+
+@test:Config {}
+function testWriteAtomically() {
+    string atomicFile = tmpdir + "/atomic-file.txt";
+    error? result = writeAtomically(atomicFile, "first content".toBytes());
+    if (result is error) {
+        test:assertFail("File not written!");
+    }
+    error? permissionResult = setPosixPermissions(atomicFile, "rw-r-----");
+    byte[][] chunks = ["second ".toBytes(), "content".toBytes()];
+    result = writeAtomically(atomicFile, chunks.toStream(), false);
+    if (result is error) {
+        test:assertFail("File not written from the stream!");
+    }
+    string|error permissions = getPosixPermissions(atomicFile);
+    if (permissionResult is () && permissions is string) {
+        test:assertEquals(permissions, "rw-r-----", "Permissions of the replaced file not kept!");
+    }
+    FileInfo|error fileInfo = getFileInfo(atomicFile);
+    if (fileInfo is FileInfo) {
+        test:assertEquals(fileInfo.getSize(), 14, "Invalid file size!");
+    } else {
+        test:assertFail("File not found!");
+    }
+    FileInfo[]|error entries = readDir(tmpdir, 1, {include: [".atomic-file.txt.*"]});
+    if (entries is FileInfo[]) {
+        test:assertEquals(entries.length(), 0, "Temporary file left behind!");
+    }
+    error? dirResult = writeAtomically(tmpdir, "content".toBytes());
+    if (dirResult is error) {
+        test:assertTrue(stringutils:contains(dirResult.message(), "Cannot write to a directory"));
+    } else {
+        test:assertFail("Directory replaced by a file!");
+    }
+    error? removeResult = remove(atomicFile);
+}
+
+@test:Config {}
+function testBatchOperations() {
+    string batchDir = tmpdir + "/batch-dir";
+    error? dirResult = createDir(batchDir);
+    string[] paths = [];
+    foreach int i in 0 ..< 100 {
+        string|error created = createFile(batchDir + "/file-" + i.toString() + ".txt");
+        paths.push(batchDir + "/file-" + i.toString() + ".txt");
+    }
+    paths.push(batchDir + "/no-file.txt");
+
+    boolean[]|error existing = existsAll(paths, 4);
+    if (existing is boolean[]) {
+        test:assertEquals(existing.length(), 101, "Invalid result count!");
+        test:assertTrue(existing[0] && existing[99], "Existing files not found!");
+        test:assertFalse(existing[100], "Missing file found!");
+    } else {
+        test:assertFail("Error checking the files!");
+    }
+
+    BatchResult|error renamed = renameAll({[batchDir + "/file-0.txt"]: batchDir + "/renamed-0.txt",
+                                           [batchDir + "/no-file.txt"]: batchDir + "/renamed-1.txt"});
+    if (renamed is BatchResult) {
+        test:assertEquals(renamed.succeeded, 1, "Invalid renamed count!");
+        test:assertEquals(renamed.failed, [batchDir + "/no-file.txt"], "Invalid failed paths!");
+    } else {
+        test:assertFail("Error renaming the files!");
+    }
+    test:assertTrue(exists(batchDir + "/renamed-0.txt"), "File not renamed!");
+
+    paths[0] = batchDir + "/renamed-0.txt";
+    BatchResult|error removed = removeAll(paths, parallelism = 4);
+    if (removed is BatchResult) {
+        test:assertEquals(removed.succeeded, 100, "Invalid removed count!");
+        test:assertEquals(removed.failed.length(), 1, "Invalid failure count!");
+        test:assertTrue(stringutils:contains(removed.messages[0], "File not found"), "Invalid failure message!");
+    } else {
+        test:assertFail("Error removing the files!");
+    }
+    error? removeResult = remove(batchDir, true);
+}
+
+@test:Config {}
+function testOperationStats() {
+    enableInstrumentation();
+    FileInfo[]|error entries = readDir(rdDir);
+    FileInfo|error noFileInfo = getFileInfo(noFile);
+    string|error digest = checksum(srcFile);
+    OperationStats[] stats = getOperationStats();
+    disableInstrumentation();
+
+    boolean readDirFound = false;
+    boolean getFileInfoFound = false;
+    foreach OperationStats operationStats in stats {
+        if (operationStats.operation == "readDir") {
+            readDirFound = true;
+            test:assertEquals(operationStats.calls, 1);
+            if (entries is FileInfo[]) {
+                test:assertEquals(operationStats.entries, entries.length());
+            } else {
+                test:assertFail("Directory not read!");
+            }
+            test:assertEquals(operationStats.latency.count, 1);
+            test:assertTrue(operationStats.latency.p50 <= operationStats.latency.max);
+        } else if (operationStats.operation == "getFileInfo") {
+            getFileInfoFound = true;
+            test:assertEquals(operationStats.errors["FileNotFoundError"], 1);
+        } else if (operationStats.operation == "checksum") {
+            test:assertTrue(operationStats.bytes > 0, "Hashed bytes not counted!");
+        }
+    }
+    test:assertTrue(readDirFound, "readDir not instrumented!");
+    test:assertTrue(getFileInfoFound, "getFileInfo not instrumented!");
+    test:assertEquals(getOperationStats().length(), 0);
+}
+
+@test:Config {}
+function testReadDirWithInvalidFilter() {
+    FileInfo[]|error fileInfo = readDir(rdDir, filter = {filesOnly: true, dirsOnly: true});
+    if (fileInfo is error) {
+        test:assertTrue(stringutils:contains(fileInfo.message(), "Invalid filter"));
+    } else {
+        test:assertFail("Directory read with an invalid filter!");
+    }
+}
+
+@test:Config {}
+function testReadDirStream() {
+    stream<FileInfo, Error>|Error result = readDirStream(rdDir);
+    if (result is stream<FileInfo, Error>) {
+        int count = 0;
+        record {| FileInfo value; |}|Error? entry = result.next();
+        while (entry is record {| FileInfo value; |}) {
+            count += 1;
+            entry = result.next();
+        }
+        test:assertTrue(entry is (), "Error while reading the directory stream!");
+        test:assertEquals(count, 3, "Invalid file info!");
+    } else {
+        test:assertFail("Read directory stream failed!");
+    }
+}
+
+@test:Config {}
+function testReadDirStreamClose() {
+    stream<FileInfo, Error>|Error result = readDirStream(rdDir, 1);
+    if (result is stream<FileInfo, Error>) {
+        record {| FileInfo value; |}|Error? entry = result.next();
+        test:assertTrue(entry is record {| FileInfo value; |}, "Invalid file info!");
+        Error? closeResult = result.close();
+        if (closeResult is error) {
+            test:assertFail("Error closing the directory stream!");
+        }
+    } else {
+        test:assertFail("Read directory stream failed!");
+    }
+}
+
+@test:Config {}
+function testReadNonExistingDirStream() {
+    stream<FileInfo, Error>|Error result = readDirStream(noDir);
+    if (result is error) {
+        string expectedErrMsg = "File not found";
+        test:assertTrue(stringutils:contains(result.message(), expectedErrMsg));
+    } else {
+        test:assertFail("Non existing directory read as a stream!");
+    }
+}
+
 @test:Config {}
 function testReadNonExistingDir() {
     FileInfo[]|error fileInfo = readDir(noDir);
@@ -311,6 +907,76 @@ function testCopyFileReplaceTrue() {
     }
 }
 
+@test:Config {}
+function testCopyFileWithProgress() {
+    int progressCalls = 0;
+    int lastBytesCopied = 0;
+    int lastTotalBytes = -1;
+    error? copyResult = copy(srcFile, tmpdir + "/progress-file.txt", true, options = {
+        chunkSize: 16,
+        progress: function (string path, int bytesCopied, int totalBytes) {
+            progressCalls += 1;
+            lastBytesCopied = bytesCopied;
+            lastTotalBytes = totalBytes;
+        }
+    });
+    if (copyResult is error) {
+        test:assertFail("File not copied!");
+    }
+    // The copy does not wait for the progress updates.
+    int waited = 0;
+    while (progressCalls < 4 && waited < 2000) {
+        runtime:sleep(50);
+        waited += 50;
+    }
+    test:assertEquals(progressCalls, 4, "Incorrect number of progress updates!");
+    test:assertEquals(lastBytesCopied, lastTotalBytes, "File not completely copied!");
+    FileInfo|error fileInfo = getFileInfo(tmpdir + "/progress-file.txt");
+    if (fileInfo is FileInfo) {
+        test:assertEquals(fileInfo.getSize(), lastTotalBytes, "File size mismatch!");
+    } else {
+        test:assertFail("Error retrieving destination file size!");
+    }
+    error? removeResult = remove(tmpdir + "/progress-file.txt");
+    if (removeResult is error) {
+        test:assertFail("Error removing test resource!");
+    }
+}
+
+@test:Config {}
+function testCopyFileResume() {
+    string resumedFile = tmpdir + "/resume-file.txt";
+    error? copyResult = copy(srcModifiedFile, resumedFile, true);
+    if (copyResult is error) {
+        test:assertFail("File not copied!");
+    }
+    // Leaves the destination as a partial copy of the source.
+    error? truncateResult = truncateFile(resumedFile, 20);
+    if (truncateResult is error) {
+        test:assertFail("File not truncated!");
+    }
+    copyResult = copy(srcModifiedFile, resumedFile, options = {resume: true});
+    if (copyResult is error) {
+        test:assertFail("File not resumed!");
+    }
+    test:assertEquals(checksum(resumedFile), checksum(srcModifiedFile), "Content of the resumed file mismatch!");
+    error? removeResult = remove(resumedFile);
+    if (removeResult is error) {
+        test:assertFail("Error removing test resource!");
+    }
+}
+
+@test:Config {}
+function testCopyInvalidChunkSize() {
+    error? copyResult = copy(srcFile, tmpdir + "/chunk-file.txt", true, options = {chunkSize: -1});
+    if (copyResult is error) {
+        string expectedErrMsg = "Invalid chunkSize value";
+        test:assertTrue(stringutils:contains(copyResult.message(), expectedErrMsg));
+    } else {
+        test:assertFail("File copied with an invalid chunk size!");
+    }
+}
+
 @test:Config {}
 function testCopyFileNonExistSource() {
     error? copyResult = copy("src/file/tests/resources/no-file.txt", tmpdir + noFile);
@@ -320,6 +986,44 @@ function testCopyFileNonExistSource() {
     }
 }
 
+@test:Config {}
+function testMetadataCache() {
+    error? enableResult = enableMetadataCache({maxSize: 10, ttl: 60000});
+    string cachedFile = tmpdir + "/cached-file.txt";
+    error? copyResult = copy(srcFile, cachedFile, true);
+    boolean existsFirst = exists(cachedFile);
+    boolean existsSecond = exists(cachedFile);
+    FileInfo|error info = getFileInfo(cachedFile);
+    MetadataCacheStats stats = getMetadataCacheStats();
+    error? removeResult = remove(cachedFile);
+    boolean existsRemoved = exists(cachedFile);
+    // Disabled before the assertions, so that a failure does not leave the cache enabled for the other tests.
+    disableMetadataCache();
+
+    if (enableResult is error) {
+        test:assertFail("Metadata cache not enabled!");
+    }
+    test:assertTrue(existsFirst, "File not found!");
+    test:assertTrue(existsSecond, "File not found!");
+    if (info is error) {
+        test:assertFail("Error reading the file info!");
+    }
+    test:assertEquals(stats.misses, 1, "Metadata read more than once!");
+    test:assertEquals(stats.hits, 2, "Metadata not read from the cache!");
+    test:assertFalse(existsRemoved, "Removed file found in the cache!");
+    test:assertEquals(getMetadataCacheStats().size, 0, "Metadata cache not disabled!");
+}
+
+@test:Config {}
+function testMetadataCacheInvalidSize() {
+    error? enableResult = enableMetadataCache({maxSize: 0});
+    if (enableResult is error) {
+        test:assertTrue(stringutils:contains(enableResult.message(), "Invalid maxSize value"));
+    } else {
+        test:assertFail("Metadata cache enabled with an invalid size!");
+    }
+}
+
 @test:Config {}
 function testGetCurrentDirectory() {
     string currentDir = getCurrentDirectory();
@@ -334,3 +1038,24 @@ function getTmpDir() returns string = @java:Method {
 function getUserDir() returns string = @java:Method {
     class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
 } external;
+
+function writeCopyCheckpoint(string checkpoint, string sourcePath, string targetPath, string completedPath)
+        returns error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
+
+function setPosixPermissions(string path, string permissions) returns error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
+
+function getPosixPermissions(string path) returns string|error = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
+
+function truncateFile(string path, int size) returns error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
+
+function createHardLink(string link, string existing) returns error? = @java:Method {
+    class: "org.ballerinalang.stdlib.file.testutils.TestUtil"
+} external;
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Generates synthetic directory trees for the benchmarks. Trees are created under the directory given by the
+ * {@code benchmark.dir} system property, which should point to a tmpfs mount to keep the disk out of the
+ * measurements, or under the default temp directory.
+ */
+final class BenchmarkTrees {
+
+    private static final String BENCHMARK_DIR_PROPERTY = "benchmark.dir";
+
+    private BenchmarkTrees() {
+    }
+
+    /**
+     * Creates a new empty directory for a benchmark.
+     *
+     * @param prefix prefix of the directory name
+     * @return the created directory
+     * @throws IOException if the directory cannot be created
+     */
+    static Path createBaseDir(String prefix) throws IOException {
+        String baseDir = System.getProperty(BENCHMARK_DIR_PROPERTY);
+        if (baseDir == null) {
+            return Files.createTempDirectory(prefix);
+        }
+        return Files.createTempDirectory(Files.createDirectories(Paths.get(baseDir)), prefix);
+    }
+
+    /**
+     * Creates a tree with {@code width} directories on each level, {@code depth} levels deep, and
+     * {@code filesPerDir} files of {@code fileSize} bytes in each directory.
+     *
+     * @param root        root of the tree
+     * @param width       number of subdirectories in each directory
+     * @param depth       number of directory levels
+     * @param filesPerDir number of files in each directory
+     * @param fileSize    size of each file in bytes
+     * @throws IOException if the tree cannot be created
+     */
+    static void createTree(Path root, int width, int depth, int filesPerDir, int fileSize) throws IOException {
+        byte[] content = new byte[fileSize];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        createLevel(root, width, depth, filesPerDir, content);
+    }
+
+    private static void createLevel(Path dir, int width, int depth, int filesPerDir, byte[] content)
+            throws IOException {
+        Files.createDirectories(dir);
+        for (int i = 0; i < filesPerDir; i++) {
+            Files.write(dir.resolve("file-" + i + ".dat"), content);
+        }
+        if (depth > 0) {
+            for (int i = 0; i < width; i++) {
+                createLevel(dir.resolve("dir-" + i), width, depth - 1, filesPerDir, content);
+            }
+        }
+    }
+
+    /**
+     * Deletes the given tree if it exists.
+     *
+     * @param root root of the tree
+     * @throws IOException if the tree cannot be deleted
+     */
+    static void deleteTree(Path root) throws IOException {
+        if (Files.notExists(root)) {
+            return;
+        }
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
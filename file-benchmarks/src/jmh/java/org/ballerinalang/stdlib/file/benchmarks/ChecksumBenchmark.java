@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.benchmarks;
+
+import org.ballerinalang.stdlib.file.nativeimpl.FileChecksum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the checksum algorithms over a large file, hashed as a whole and as a tree of chunks hashed
+ * concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChecksumBenchmark {
+
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+    private static final long CHUNK_SIZE = 16L * 1024 * 1024;
+
+    @Param({"CRC32", "CRC32C", "SHA-256", "XXH64"})
+    public String algorithm;
+
+    @Param({"268435456"})
+    public long fileSize;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private Path baseDir;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void createFile() throws IOException {
+        baseDir = BenchmarkTrees.createBaseDir("checksum-benchmark");
+        file = baseDir.resolve("file.dat");
+        byte[] buffer = new byte[WRITE_BUFFER_SIZE];
+        new Random(42).nextBytes(buffer);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            for (long written = 0; written < fileSize; written += buffer.length) {
+                out.write(buffer, 0, (int) Math.min(buffer.length, fileSize - written));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        BenchmarkTrees.deleteTree(baseDir);
+    }
+
+    @Benchmark
+    public String wholeFile() throws IOException {
+        return FileChecksum.compute(file, algorithm, 0, 1);
+    }
+
+    @Benchmark
+    public String chunkTree() throws IOException {
+        return FileChecksum.compute(file, algorithm, CHUNK_SIZE, parallelism);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.benchmarks;
+
+import org.ballerinalang.stdlib.file.nativeimpl.CopyOptions;
+import org.ballerinalang.stdlib.file.nativeimpl.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the serial copy visitor (parallelism 1) with the parallel copy engine on a tree of small files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CopyBenchmark {
+
+    @Param({"1", "4", "8"})
+    public int parallelism;
+
+    @Param({"10"})
+    public int width;
+
+    @Param({"100"})
+    public int filesPerDir;
+
+    @Param({"4096"})
+    public int fileSize;
+
+    private Path baseDir;
+    private Path source;
+    private Path destination;
+
+    @Setup(Level.Trial)
+    public void createSource() throws IOException {
+        baseDir = BenchmarkTrees.createBaseDir("copy-benchmark");
+        source = baseDir.resolve("source");
+        destination = baseDir.resolve("destination");
+        BenchmarkTrees.createTree(source, width, 2, filesPerDir, fileSize);
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteDestination() throws IOException {
+        BenchmarkTrees.deleteTree(destination);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteSource() throws IOException {
+        BenchmarkTrees.deleteTree(baseDir);
+    }
+
+    @Benchmark
+    public Object copyTree() {
+        return Utils.copyTree(source, destination, false, parallelism, CopyOptions.DEFAULT);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.benchmarks;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.nativeimpl.Utils;
+import org.ballerinalang.stdlib.file.utils.MetadataCache;
+import org.ballerinalang.stdlib.file.utils.OperationMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the metadata lookups of {@code file:exists} and {@code file:getFileInfo} on a single hot path, with and
+ * without the metadata cache, and the overhead of the operation instrumentation on {@code file:exists}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FileInfoBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    @Param({"false", "true"})
+    public boolean instrumented;
+
+    private Path baseDir;
+    private Path file;
+    private BString filePath;
+
+    @Setup(Level.Trial)
+    public void createFile() throws IOException {
+        baseDir = BenchmarkTrees.createBaseDir("file-info-benchmark");
+        file = baseDir.resolve("file.dat");
+        Files.write(file, new byte[1024]);
+        filePath = StringUtils.fromString(file.toString());
+        if (cached) {
+            MetadataCache.enable(10000, TimeUnit.MINUTES.toMillis(10));
+        }
+        if (instrumented) {
+            OperationMetrics.enable();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        MetadataCache.disable();
+        OperationMetrics.disable();
+        BenchmarkTrees.deleteTree(baseDir);
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return Utils.exists(filePath);
+    }
+
+    @Benchmark
+    public BasicFileAttributes getFileInfo() throws IOException {
+        // The attribute read of getFileInfo, which is followed by the creation of the FileInfo object.
+        return Utils.readAttributes(file.toAbsolutePath());
+    }
+}
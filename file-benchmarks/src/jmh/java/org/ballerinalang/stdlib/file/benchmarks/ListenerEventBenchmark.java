@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.benchmarks;
+
+import org.ballerinalang.stdlib.file.service.EventBatcher;
+import org.ballerinalang.stdlib.file.service.EventCoalescer;
+import org.ballerinalang.stdlib.file.service.SharedExecutors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemEvent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the throughput of the stages which the directory listener runs for each event before the resource is
+ * invoked, as invoking the resource needs the Ballerina runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ListenerEventBenchmark {
+
+    private static final int PATH_COUNT = 1024;
+    private static final String[] OPERATIONS = {"create", "modify", "modify", "delete"};
+
+    private LocalFileSystemEvent[] events;
+    private EventCoalescer coalescer;
+    private EventBatcher batcher;
+    private SharedExecutors executors;
+    private final LongAdder delivered = new LongAdder();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void createPipeline() {
+        events = new LocalFileSystemEvent[PATH_COUNT * OPERATIONS.length];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new LocalFileSystemEvent("/tmp/listener-benchmark/file-" + (i % PATH_COUNT) + ".dat",
+                                                 OPERATIONS[i / PATH_COUNT]);
+        }
+        executors = SharedExecutors.acquire();
+        coalescer = new EventCoalescer(50, true, executors.getTimer(), Runnable::run, event -> delivered.increment());
+        batcher = new EventBatcher(100, 50, executors.getTimer(), Runnable::run, batch -> delivered.add(batch.size()));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopPipeline() {
+        coalescer.stop();
+        batcher.stop();
+        executors.release();
+    }
+
+    @Benchmark
+    public void coalesce() {
+        coalescer.submit(nextEvent());
+    }
+
+    @Benchmark
+    public void batch() {
+        batcher.add(nextEvent());
+    }
+
+    private LocalFileSystemEvent nextEvent() {
+        LocalFileSystemEvent event = events[next];
+        next = (next + 1) % events.length;
+        return event;
+    }
+}
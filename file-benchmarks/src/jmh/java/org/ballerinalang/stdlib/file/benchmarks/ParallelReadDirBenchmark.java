@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.benchmarks;
+
+import org.ballerinalang.stdlib.file.nativeimpl.ParallelFileTreeWalker;
+import org.ballerinalang.stdlib.file.nativeimpl.ReadDirFilter;
+import org.ballerinalang.stdlib.file.nativeimpl.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the parallel walk of {@code file:readDir} scales with the parallelism, compared to the sequential
+ * walk (parallelism 1), on a tree of about 100k entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelReadDirBenchmark {
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int parallelism;
+
+    @Param({"true", "false"})
+    public boolean ordered;
+
+    private Path baseDir;
+    private Path root;
+
+    @Setup(Level.Trial)
+    public void createTree() throws IOException {
+        baseDir = BenchmarkTrees.createBaseDir("parallel-read-dir-benchmark");
+        root = baseDir.resolve("root");
+        // 20 directories on each of 2 levels with 200 files in each directory.
+        BenchmarkTrees.createTree(root, 20, 2, 200, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteTree() throws IOException {
+        BenchmarkTrees.deleteTree(baseDir);
+    }
+
+    @Benchmark
+    public List<?> readDir() throws IOException {
+        if (parallelism == 1) {
+            return Utils.collectFileTree(root, Integer.MAX_VALUE, ReadDirFilter.NONE, (path, attrs) -> attrs);
+        }
+        return new ParallelFileTreeWalker(parallelism, ordered).walk(root, Integer.MAX_VALUE, ReadDirFilter.NONE);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.benchmarks;
+
+import org.ballerinalang.stdlib.file.nativeimpl.ReadDirFilter;
+import org.ballerinalang.stdlib.file.nativeimpl.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the tree walk of {@code file:readDir} on a wide and a deep tree with various depth limits. The walk maps
+ * the entries to their attributes, as creating the {@code FileInfo} objects needs the Ballerina runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadDirBenchmark {
+
+    @Param({"wide", "deep"})
+    public String shape;
+
+    @Param({"1", "3", "-1"})
+    public int maxDepth;
+
+    private Path baseDir;
+    private Path root;
+
+    @Setup(Level.Trial)
+    public void createTree() throws IOException {
+        baseDir = BenchmarkTrees.createBaseDir("read-dir-benchmark");
+        root = baseDir.resolve("root");
+        if ("wide".equals(shape)) {
+            // 50 directories of 20 files below the root.
+            BenchmarkTrees.createTree(root, 50, 1, 20, 0);
+        } else {
+            // A binary tree 8 levels deep with 5 files in each directory.
+            BenchmarkTrees.createTree(root, 2, 8, 5, 0);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteTree() throws IOException {
+        BenchmarkTrees.deleteTree(baseDir);
+    }
+
+    @Benchmark
+    public List<BasicFileAttributes> readDir() throws IOException {
+        return Utils.collectFileTree(root, maxDepth < 0 ? Integer.MAX_VALUE : maxDepth, ReadDirFilter.NONE,
+                                     (path, attrs) -> attrs);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.benchmarks;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.stdlib.file.nativeimpl.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the serial recursive remove (parallelism 1) with the parallel remove on a tree of small files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RemoveBenchmark {
+
+    @Param({"1", "4", "8"})
+    public int parallelism;
+
+    @Param({"10"})
+    public int width;
+
+    @Param({"100"})
+    public int filesPerDir;
+
+    private Path baseDir;
+    private Path tree;
+
+    @Setup(Level.Trial)
+    public void createBaseDir() throws IOException {
+        baseDir = BenchmarkTrees.createBaseDir("remove-benchmark");
+        tree = baseDir.resolve("tree");
+    }
+
+    @Setup(Level.Invocation)
+    public void createTree() throws IOException {
+        BenchmarkTrees.createTree(tree, width, 2, filesPerDir, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteBaseDir() throws IOException {
+        BenchmarkTrees.deleteTree(baseDir);
+    }
+
+    @Benchmark
+    public Object remove() {
+        return Utils.remove(StringUtils.fromString(tree.toString()), true, parallelism, false);
+    }
+}
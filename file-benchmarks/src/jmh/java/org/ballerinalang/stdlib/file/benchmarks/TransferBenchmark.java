@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.file.benchmarks;
+
+import org.ballerinalang.stdlib.file.nativeimpl.CopyOptions;
+import org.ballerinalang.stdlib.file.nativeimpl.FileTransfer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default {@link Files#copy} path with the channel transfer path for a single file of various sizes,
+ * and measures the cost of verifying the copy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TransferBenchmark {
+
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+
+    @Param({"65536", "16777216", "268435456"})
+    public long fileSize;
+
+    @Param({"1048576", "8388608"})
+    public long chunkSize;
+
+    private Path baseDir;
+    private Path source;
+    private Path destination;
+    private CopyOptions transferOptions;
+    private CopyOptions verifiedOptions;
+
+    @Setup(Level.Trial)
+    public void createSource() throws IOException {
+        baseDir = BenchmarkTrees.createBaseDir("transfer-benchmark");
+        source = baseDir.resolve("source.dat");
+        destination = baseDir.resolve("destination.dat");
+        byte[] buffer = new byte[WRITE_BUFFER_SIZE];
+        for (int i = 0; i < buffer.length; i++) {
+            buffer[i] = (byte) i;
+        }
+        try (OutputStream out = Files.newOutputStream(source)) {
+            for (long written = 0; written < fileSize; written += buffer.length) {
+                out.write(buffer, 0, (int) Math.min(buffer.length, fileSize - written));
+            }
+        }
+        transferOptions = new CopyOptions(chunkSize, false, null);
+        verifiedOptions = new CopyOptions(chunkSize, false, null, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteSource() throws IOException {
+        BenchmarkTrees.deleteTree(baseDir);
+    }
+
+    @Benchmark
+    public Path filesCopy() throws IOException {
+        return Files.copy(source, destination, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Benchmark
+    public long channelTransfer() throws IOException {
+        return FileTransfer.transfer(source, destination, true, transferOptions);
+    }
+
+    @Benchmark
+    public long verifiedTransfer() throws IOException {
+        return FileTransfer.transfer(source, destination, true, verifiedOptions);
+    }
+}
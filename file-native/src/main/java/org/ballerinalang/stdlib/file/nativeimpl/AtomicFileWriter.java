@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.UUID;
+
+/**
+ * Writes a file atomically by writing the content to a temporary sibling of the file and moving it over the file
+ * once the content is complete. Readers of the file, and the watchers of its directory, see either the previous
+ * file or the complete new file. The small chunks of a stream are gathered in a heap buffer, allocated on the first
+ * of them, so that they are written with few large writes, while the larger chunks are written as they are. The
+ * new file takes the permissions and the owner of the file it replaces.
+ *
+ * @since 0.5.1
+ */
+class AtomicFileWriter implements Closeable {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path target;
+    private final Path tempFile;
+    private final boolean sync;
+    private final FileChannel channel;
+    private ByteBuffer buffer;
+
+    /**
+     * Creates the temporary file of a file.
+     *
+     * @param target the file to write
+     * @param sync   whether the content and the directory entry are flushed to the storage device before the write
+     *               completes
+     * @throws IOException if the temporary file cannot be created
+     */
+    AtomicFileWriter(Path target, boolean sync) throws IOException {
+        this.target = target.toAbsolutePath();
+        this.sync = sync;
+        Path fileName = this.target.getFileName();
+        if (fileName == null) {
+            throw new IOException("Cannot write the root directory " + target);
+        }
+        this.tempFile = this.target.resolveSibling("." + fileName + "." + UUID.randomUUID() + ".tmp");
+        this.channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW);
+    }
+
+    Path getTarget() {
+        return target;
+    }
+
+    /**
+     * Appends bytes to the content.
+     *
+     * @param bytes the bytes
+     * @throws IOException if the bytes cannot be written to the temporary file
+     */
+    void write(byte[] bytes) throws IOException {
+        if (bytes.length >= BUFFER_SIZE) {
+            flush();
+            writeFully(ByteBuffer.wrap(bytes));
+            return;
+        }
+        if (buffer == null) {
+            buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+        int offset = 0;
+        while (offset < bytes.length) {
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Completes the content and replaces the file with it.
+     *
+     * @throws IOException if the content cannot be written or the file cannot be replaced
+     */
+    void commit() throws IOException {
+        try {
+            flush();
+            if (sync) {
+                channel.force(true);
+            }
+            channel.close();
+            copyPosixAttributes(target, tempFile);
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                // Only possible if the target is a mount point of another file system.
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+        if (sync) {
+            syncDirectory(target.getParent());
+        }
+    }
+
+    /**
+     * Discards the content and deletes the temporary file, if the file was not replaced.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            // The temporary file is hidden and named uniquely, hence a leftover does not affect later writes.
+        }
+    }
+
+    private void flush() throws IOException {
+        if (buffer != null && buffer.position() > 0) {
+            buffer.flip();
+            writeFully(buffer);
+            buffer.clear();
+        }
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    /**
+     * Gives a new file the permissions, the owner and the group of the file it replaces, where the file system
+     * supports them.
+     */
+    private static void copyPosixAttributes(Path file, Path newFile) throws IOException {
+        PosixFileAttributeView view = Files.getFileAttributeView(newFile, PosixFileAttributeView.class);
+        if (view == null || !Files.exists(file)) {
+            return;
+        }
+        PosixFileAttributes attributes = Files.readAttributes(file, PosixFileAttributes.class);
+        try {
+            view.setOwner(attributes.owner());
+            view.setGroup(attributes.group());
+        } catch (FileSystemException e) {
+            // Only a privileged user can give a file away, in which case the new file is owned by the writer.
+        }
+        // Set last, as changing the owner clears the set-user-ID and set-group-ID bits.
+        view.setPermissions(attributes.permissions());
+    }
+
+    /**
+     * Flushes the entries of a directory, which makes the rename durable on file systems which need it.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened or flushed on some platforms, such as Windows, where the rename is
+            // already durable.
+        }
+    }
+}
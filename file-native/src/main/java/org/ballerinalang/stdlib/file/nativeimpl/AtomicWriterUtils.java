@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+import org.ballerinalang.stdlib.file.utils.FileUtils;
+import org.ballerinalang.stdlib.file.utils.MetadataCache;
+import org.ballerinalang.stdlib.file.utils.OperationMetrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Native function implementations of the atomic file writer.
+ *
+ * @since 0.5.1
+ */
+public class AtomicWriterUtils {
+    public static Object openAtomicWriter(ObjectValue writer, BString path, boolean sync) {
+        Path targetPath = Paths.get(path.getValue());
+        if (Files.isDirectory(targetPath)) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Cannot write to a directory: " + path);
+        }
+        try {
+            writer.addNativeData(FileConstants.ATOMIC_WRITER, new AtomicFileWriter(targetPath, sync));
+            return null;
+        } catch (NoSuchFileException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
+                    "The parent directory does not exist in path " + path);
+        } catch (IOException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
+        } catch (SecurityException e) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, e);
+        }
+    }
+
+    public static Object writeAtomicChunk(ObjectValue writer, ArrayValue content) {
+        AtomicFileWriter atomicWriter = (AtomicFileWriter) writer.getNativeData(FileConstants.ATOMIC_WRITER);
+        if (atomicWriter == null) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, "The writer is closed");
+        }
+        try {
+            byte[] bytes = content.getBytes();
+            atomicWriter.write(bytes);
+            OperationMetrics.addProcessed(FileConstants.OP_WRITE_ATOMICALLY, 0, bytes.length);
+            return null;
+        } catch (IOException e) {
+            closeAtomicWriter(writer);
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
+        }
+    }
+
+    public static Object commitAtomicWriter(ObjectValue writer) {
+        long startTime = OperationMetrics.start();
+        Object result = commitWriter(writer);
+        return OperationMetrics.record(FileConstants.OP_WRITE_ATOMICALLY, startTime, result);
+    }
+
+    private static Object commitWriter(ObjectValue writer) {
+        AtomicFileWriter atomicWriter = (AtomicFileWriter) writer.getNativeData(FileConstants.ATOMIC_WRITER);
+        if (atomicWriter == null) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, "The writer is closed");
+        }
+        writer.addNativeData(FileConstants.ATOMIC_WRITER, null);
+        try {
+            atomicWriter.commit();
+            OperationMetrics.addProcessed(FileConstants.OP_WRITE_ATOMICALLY, 1, 0);
+            return null;
+        } catch (IOException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
+        } catch (SecurityException e) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, e);
+        } finally {
+            MetadataCache.invalidatePath(atomicWriter.getTarget(), false);
+        }
+    }
+
+    public static Object abortAtomicWriter(ObjectValue writer, BString reason) {
+        AtomicFileWriter atomicWriter = (AtomicFileWriter) writer.getNativeData(FileConstants.ATOMIC_WRITER);
+        closeAtomicWriter(writer);
+        String target = atomicWriter != null ? atomicWriter.getTarget().toString() : "file";
+        return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR,
+                "Failed to write " + target + ": " + reason);
+    }
+
+    private static void closeAtomicWriter(ObjectValue writer) {
+        AtomicFileWriter atomicWriter = (AtomicFileWriter) writer.getNativeData(FileConstants.ATOMIC_WRITER);
+        if (atomicWriter != null) {
+            writer.addNativeData(FileConstants.ATOMIC_WRITER, null);
+            atomicWriter.close();
+        }
+    }
+}
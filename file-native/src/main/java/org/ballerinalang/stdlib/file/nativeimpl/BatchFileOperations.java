@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.stdlib.file.utils.FileUtils;
+import org.ballerinalang.stdlib.file.utils.MetadataCache;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs a file operation on each path of a batch. A failure of an item is recorded as a message and does not stop
+ * the batch, and the items can be processed concurrently.
+ *
+ * @since 0.5.1
+ */
+final class BatchFileOperations {
+
+    private static final String CURRENT_DIR_PROPERTY_KEY = "user.dir";
+    // Items handled by a task before it stops splitting, which keeps the tasks coarse for cheap operations.
+    private static final int MIN_ITEMS_PER_TASK = 64;
+
+    private BatchFileOperations() {
+    }
+
+    /**
+     * Checks whether each path exists, using the metadata cache if it is enabled.
+     *
+     * @param paths       the paths
+     * @param parallelism number of paths checked concurrently
+     * @return whether each path exists
+     */
+    static boolean[] exists(String[] paths, int parallelism) {
+        boolean[] results = new boolean[paths.length];
+        MetadataCache cache = MetadataCache.getInstance();
+        run(paths.length, parallelism, i -> {
+            try {
+                Path path = Paths.get(paths[i]);
+                results[i] = cache != null ? cache.getAttributes(path) != null : Files.exists(path);
+            } catch (IOException | InvalidPathException e) {
+                results[i] = false;
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Removes each path.
+     *
+     * @param paths       the paths
+     * @param recursive   whether directories are removed with their content
+     * @param parallelism number of paths removed concurrently
+     * @return the failure message of each path, or null for the paths which were removed
+     */
+    static String[] remove(String[] paths, boolean recursive, int parallelism) {
+        String[] failures = new String[paths.length];
+        Path workingDirectory = Paths.get(FileUtils.getSystemProperty(CURRENT_DIR_PROPERTY_KEY)).toAbsolutePath();
+        run(paths.length, parallelism, i -> {
+            Path path;
+            try {
+                path = Paths.get(paths[i]).toAbsolutePath().normalize();
+            } catch (InvalidPathException e) {
+                failures[i] = e.getMessage();
+                return;
+            }
+            if (path.equals(workingDirectory)) {
+                failures[i] = "Cannot delete the current working directory " + path;
+                return;
+            }
+            try {
+                if (recursive && Files.isDirectory(path)) {
+                    Files.walkFileTree(path, new Utils.RecursiveFileVisitor());
+                } else {
+                    Files.delete(path);
+                }
+            } catch (IOException | SecurityException e) {
+                failures[i] = describe(e);
+            } finally {
+                MetadataCache.invalidatePath(path, recursive);
+            }
+        });
+        return failures;
+    }
+
+    /**
+     * Renames each old path to the corresponding new path. Renames which depend on each other, such as renaming a
+     * path to the old path of another item, are only ordered when the batch is not processed concurrently.
+     *
+     * @param oldPaths    the old paths
+     * @param newPaths    the new paths
+     * @param parallelism number of paths renamed concurrently
+     * @return the failure message of each old path, or null for the paths which were renamed
+     */
+    static String[] rename(String[] oldPaths, String[] newPaths, int parallelism) {
+        String[] failures = new String[oldPaths.length];
+        run(oldPaths.length, parallelism, i -> {
+            Path oldPath;
+            Path newPath;
+            try {
+                oldPath = Paths.get(oldPaths[i]).toAbsolutePath();
+                newPath = Paths.get(newPaths[i]).toAbsolutePath();
+            } catch (InvalidPathException e) {
+                failures[i] = e.getMessage();
+                return;
+            }
+            try {
+                Files.move(oldPath, newPath);
+            } catch (IOException | SecurityException e) {
+                failures[i] = describe(e);
+            } finally {
+                MetadataCache.invalidatePath(oldPath, true);
+                MetadataCache.invalidatePath(newPath, true);
+            }
+        });
+        return failures;
+    }
+
+    private static String describe(Exception e) {
+        if (e instanceof NoSuchFileException) {
+            return "File not found: " + ((NoSuchFileException) e).getFile();
+        } else if (e instanceof FileAlreadyExistsException) {
+            return "File already exists: " + ((FileAlreadyExistsException) e).getOtherFile();
+        } else if (e instanceof DirectoryNotEmptyException) {
+            return "Directory is not empty: " + ((DirectoryNotEmptyException) e).getFile();
+        } else if (e instanceof AccessDeniedException) {
+            return "Permission denied: " + ((AccessDeniedException) e).getFile();
+        }
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    private static void run(int count, int parallelism, IntConsumer operation) {
+        if (parallelism <= 1 || count <= MIN_ITEMS_PER_TASK) {
+            for (int i = 0; i < count; i++) {
+                operation.accept(i);
+            }
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism, new FileWorkerThreadFactory("batch"), null, false);
+        try {
+            pool.invoke(new RangeTask(operation, 0, count));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs the operation on a range of items, splitting the range in halves down to {@link #MIN_ITEMS_PER_TASK}.
+     */
+    private static class RangeTask extends RecursiveAction {
+
+        private final IntConsumer operation;
+        private final int from;
+        private final int to;
+
+        RangeTask(IntConsumer operation, int from, int to) {
+            this.operation = operation;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > MIN_ITEMS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeTask(operation, from, middle), new RangeTask(operation, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                operation.accept(i);
+            }
+        }
+    }
+}
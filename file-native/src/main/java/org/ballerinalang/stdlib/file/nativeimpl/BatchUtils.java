@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+import org.ballerinalang.stdlib.file.utils.OperationMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native function implementations of the batch file operations, which process each path of a batch independently of
+ * the failures of the other paths.
+ *
+ * @since 0.5.1
+ */
+public class BatchUtils {
+    public static Object existsAll(ArrayValue paths, long parallelism) {
+        long startTime = OperationMetrics.start();
+        Object result = checkAllExist(paths, parallelism);
+        return OperationMetrics.record(FileConstants.OP_EXISTS_ALL, startTime, result);
+    }
+
+    private static Object checkAllExist(ArrayValue paths, long parallelism) {
+        Object parallelismError = Utils.validateParallelism(parallelism);
+        if (parallelismError != null) {
+            return parallelismError;
+        }
+        String[] existPaths = paths.getStringArray();
+        OperationMetrics.addProcessed(FileConstants.OP_EXISTS_ALL, existPaths.length, 0);
+        return new ArrayValueImpl(BatchFileOperations.exists(existPaths, (int) parallelism));
+    }
+
+    public static Object removeAll(ArrayValue paths, boolean recursive, long parallelism) {
+        long startTime = OperationMetrics.start();
+        Object result = removeAllPaths(paths, recursive, parallelism);
+        return OperationMetrics.record(FileConstants.OP_REMOVE_ALL, startTime, result);
+    }
+
+    private static Object removeAllPaths(ArrayValue paths, boolean recursive, long parallelism) {
+        Object parallelismError = Utils.validateParallelism(parallelism);
+        if (parallelismError != null) {
+            return parallelismError;
+        }
+        String[] removePaths = paths.getStringArray();
+        OperationMetrics.addProcessed(FileConstants.OP_REMOVE_ALL, removePaths.length, 0);
+        return createBatchResult(removePaths, BatchFileOperations.remove(removePaths, recursive, (int) parallelism));
+    }
+
+    public static Object renameAll(MapValue<BString, Object> paths, long parallelism) {
+        long startTime = OperationMetrics.start();
+        Object result = renameAllPaths(paths, parallelism);
+        return OperationMetrics.record(FileConstants.OP_RENAME_ALL, startTime, result);
+    }
+
+    private static Object renameAllPaths(MapValue<BString, Object> paths, long parallelism) {
+        Object parallelismError = Utils.validateParallelism(parallelism);
+        if (parallelismError != null) {
+            return parallelismError;
+        }
+        String[] oldPaths = new String[paths.size()];
+        String[] newPaths = new String[oldPaths.length];
+        int i = 0;
+        for (Map.Entry<BString, Object> entry : paths.entrySet()) {
+            oldPaths[i] = entry.getKey().getValue();
+            newPaths[i] = ((BString) entry.getValue()).getValue();
+            i++;
+        }
+        OperationMetrics.addProcessed(FileConstants.OP_RENAME_ALL, oldPaths.length, 0);
+        return createBatchResult(oldPaths, BatchFileOperations.rename(oldPaths, newPaths, (int) parallelism));
+    }
+
+    private static MapValue<BString, Object> createBatchResult(String[] paths, String[] failures) {
+        List<BString> failedPaths = new ArrayList<>();
+        List<BString> messages = new ArrayList<>();
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null) {
+                failedPaths.add(StringUtils.fromString(paths[i]));
+                messages.add(StringUtils.fromString(failures[i]));
+            }
+        }
+        MapValue<BString, Object> result = BallerinaValues.createRecordValue(FileConstants.FILE_PACKAGE_ID,
+                FileConstants.BATCH_RESULT_TYPE);
+        result.put(StringUtils.fromString(FileConstants.BATCH_RESULT_SUCCEEDED),
+                (long) (paths.length - failedPaths.size()));
+        result.put(StringUtils.fromString(FileConstants.BATCH_RESULT_FAILED),
+                new ArrayValueImpl(failedPaths.toArray(new BString[0])));
+        result.put(StringUtils.fromString(FileConstants.BATCH_RESULT_MESSAGES),
+                new ArrayValueImpl(messages.toArray(new BString[0])));
+        return result;
+    }
+}
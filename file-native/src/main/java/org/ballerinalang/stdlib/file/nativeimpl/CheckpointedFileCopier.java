@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Copies a directory tree without stopping at the entries which fail to copy, and records its progress in a
+ * checkpoint file so that an interrupted or partially failed copy can be continued.
+ * <p>
+ * The tree is walked in the order of {@link SortedTreeWalker}, so the progress is a single path: every entry up to
+ * and including it is either copied or recorded as failed. The checkpoint holds this path and the failed entries,
+ * and is replaced atomically about once a second. A copy started with an existing checkpoint skips the completed
+ * entries and retries the failed ones. The files after the completed path may have been left half written by the
+ * interrupted copy, hence a resumed copy replaces the files it copies instead of keeping the existing ones. The
+ * checkpoint is deleted once the copy completes without failures.
+ *
+ * @since 0.5.1
+ */
+class CheckpointedFileCopier {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckpointedFileCopier.class);
+    private static final int MAGIC = 0x42464331;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PENDING_TASKS_PER_WORKER = 64;
+    private static final long CHECKPOINT_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final LinkOption[] NO_FOLLOW = {LinkOption.NOFOLLOW_LINKS};
+    private static final String SEPARATOR = String.valueOf(SortedTreeWalker.SEPARATOR);
+
+    private final Path source;
+    private final Path target;
+    private final boolean replaceExisting;
+    private final CopyOptions options;
+    private final Path checkpointFile;
+    private final ExecutorService workers;
+    private final Semaphore pendingTasks;
+    private final Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+    private final LongAdder filesCopied = new LongAdder();
+    private final LongAdder bytesCopied = new LongAdder();
+    private final LongAdder filesSkipped = new LongAdder();
+    // Files being copied by the workers, by their order in the walk, mapped to the path of the entry before them.
+    private final ConcurrentSkipListMap<Long, String> inFlight = new ConcurrentSkipListMap<>();
+    private String lastPath = "";
+    private long sequence;
+
+    /**
+     * Creates a copier.
+     *
+     * @param source          source file or directory
+     * @param target          target file or directory
+     * @param replaceExisting whether existing files in the target should be replaced
+     * @param parallelism     number of concurrent file copies
+     * @param options         options of the file copies
+     * @param checkpointFile  checkpoint file or null to copy without a checkpoint
+     */
+    CheckpointedFileCopier(Path source, Path target, boolean replaceExisting, int parallelism, CopyOptions options,
+                           Path checkpointFile) {
+        this.source = source;
+        this.target = target;
+        this.replaceExisting = replaceExisting;
+        this.options = options;
+        this.checkpointFile = checkpointFile;
+        if (parallelism > 1) {
+            this.workers = Executors.newFixedThreadPool(parallelism, new FileWorkerThreadFactory("copy"));
+            this.pendingTasks = new Semaphore(parallelism * PENDING_TASKS_PER_WORKER);
+        } else {
+            this.workers = null;
+            this.pendingTasks = null;
+        }
+    }
+
+    /**
+     * Copies the source into the target and waits until all the copies are complete. The entries which fail to copy
+     * are available from {@link #getFailures}.
+     *
+     * @throws IOException              if the source cannot be read or the checkpoint cannot be read or written
+     * @throws IllegalArgumentException if the checkpoint is not valid or belongs to another copy
+     */
+    void copy() throws IOException {
+        if (!Files.isDirectory(source, NO_FOLLOW)) {
+            copyFile(source, target, "", Files.size(source), replaceExisting);
+            return;
+        }
+        Progress resumed = checkpointFile != null && Files.exists(checkpointFile) ? readCheckpoint() : null;
+        // The existing files which are not completed may be the partial copies of the interrupted copy.
+        boolean replace = replaceExisting || resumed != null;
+        try {
+            if (createDirectory(source, target, "")) {
+                walk(resumed, replace);
+            }
+        } finally {
+            if (workers != null) {
+                workers.shutdown();
+                awaitWorkers();
+            }
+        }
+        if (checkpointFile != null) {
+            if (failures.isEmpty()) {
+                Files.deleteIfExists(checkpointFile);
+            } else {
+                writeCheckpoint();
+            }
+        }
+    }
+
+    private void walk(Progress resumed, boolean replace) throws IOException {
+        SortedTreeWalker walker = new SortedTreeWalker(source, Integer.MAX_VALUE);
+        long lastCheckpoint = System.nanoTime();
+        while (true) {
+            SortedTreeWalker.Entry entry;
+            try {
+                entry = walker.next();
+            } catch (IOException | SecurityException e) {
+                // The directory which could not be listed is not returned by the walker, hence the walk continues
+                // with its next sibling.
+                addFailure(getFailedPath(e), e);
+                continue;
+            }
+            if (entry == null) {
+                return;
+            }
+            String relativePath = entry.relativePath;
+            Path file = source.resolve(relativePath);
+            Path newFile = target.resolve(relativePath);
+            if (resumed != null && resumed.isCompleted(relativePath)) {
+                if (entry.attributes.isDirectory() && resumed.isSubtreeCompleted(relativePath)) {
+                    walker.skipSubtree();
+                }
+            } else if (entry.attributes.isDirectory()) {
+                if (!createDirectory(file, newFile, relativePath)) {
+                    walker.skipSubtree();
+                }
+            } else if (workers == null) {
+                copyFile(file, newFile, relativePath, entry.attributes.size(), replace);
+            } else if (!submit(file, newFile, relativePath, entry.attributes.size(), replace)) {
+                return;
+            }
+            lastPath = relativePath;
+            if (checkpointFile != null && System.nanoTime() - lastCheckpoint >= CHECKPOINT_INTERVAL) {
+                writeCheckpoint();
+                lastCheckpoint = System.nanoTime();
+            }
+        }
+    }
+
+    private boolean submit(Path file, Path newFile, String relativePath, long size, boolean replace) {
+        try {
+            pendingTasks.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            addFailure(relativePath, e);
+            return false;
+        }
+        long order = sequence++;
+        inFlight.put(order, lastPath);
+        workers.execute(() -> {
+            try {
+                copyFile(file, newFile, relativePath, size, replace);
+            } finally {
+                inFlight.remove(order);
+                pendingTasks.release();
+            }
+        });
+        return true;
+    }
+
+    private boolean createDirectory(Path dir, Path newDirectory, String relativePath) {
+        try {
+            if (!Files.isDirectory(newDirectory)) {
+                if (replaceExisting) {
+                    Files.copy(dir, newDirectory, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    Files.copy(dir, newDirectory);
+                }
+            }
+            return true;
+        } catch (IOException | SecurityException e) {
+            addFailure(relativePath, e);
+            return false;
+        }
+    }
+
+    private void copyFile(Path file, Path newFile, String relativePath, long size, boolean replace) {
+        try {
+            Utils.copyFile(file, newFile, replace, options);
+            filesCopied.increment();
+            bytesCopied.add(size);
+        } catch (FileAlreadyExistsException e) {
+            log.debug("File already exists in the path " + newFile + ", Hence skipping the file.");
+            filesSkipped.increment();
+        } catch (IOException | SecurityException e) {
+            addFailure(relativePath, e);
+        }
+    }
+
+    private void addFailure(String relativePath, Exception e) {
+        failures.add(new Failure(relativePath, e.getMessage()));
+        log.debug("Error while copying " + source.resolve(relativePath), e);
+    }
+
+    private String getFailedPath(Exception e) {
+        if (e instanceof FileSystemException && ((FileSystemException) e).getFile() != null) {
+            Path failedPath = Paths.get(((FileSystemException) e).getFile());
+            if (failedPath.startsWith(source)) {
+                return source.relativize(failedPath).toString().replace(
+                        source.getFileSystem().getSeparator(), SEPARATOR);
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Returns the path up to which all the entries of the walk are complete.
+     */
+    private String getCompletedPath() {
+        Map.Entry<Long, String> firstInFlight = inFlight.firstEntry();
+        return firstInFlight != null ? firstInFlight.getValue() : lastPath;
+    }
+
+    private void writeCheckpoint() throws IOException {
+        String completedPath = getCompletedPath();
+        List<Failure> failedEntries = new ArrayList<>(failures);
+        Path parent = checkpointFile.toAbsolutePath().getParent();
+        Path tempFile = parent.resolve("." + checkpointFile.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempFile), BUFFER_SIZE))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeUTF(source.toAbsolutePath().toString());
+                output.writeUTF(target.toAbsolutePath().toString());
+                output.writeUTF(completedPath);
+                output.writeInt(failedEntries.size());
+                for (Failure failure : failedEntries) {
+                    output.writeUTF(failure.relativePath);
+                }
+            }
+            Files.move(tempFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private Progress readCheckpoint() throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(checkpointFile), BUFFER_SIZE))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IllegalArgumentException("Invalid checkpoint file " + checkpointFile);
+            }
+            if (!input.readUTF().equals(source.toAbsolutePath().toString())
+                    || !input.readUTF().equals(target.toAbsolutePath().toString())) {
+                throw new IllegalArgumentException("Checkpoint file " + checkpointFile
+                        + " belongs to a copy of another source or target");
+            }
+            Progress progress = new Progress(input.readUTF());
+            int failedCount = input.readInt();
+            for (int i = 0; i < failedCount; i++) {
+                progress.failedPaths.add(input.readUTF());
+            }
+            return progress;
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("Truncated checkpoint file " + checkpointFile);
+        }
+    }
+
+    private void awaitWorkers() {
+        try {
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.debug("Waiting for the file copies from " + source + " to complete.");
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    long getFilesCopied() {
+        return filesCopied.sum();
+    }
+
+    long getBytesCopied() {
+        return bytesCopied.sum();
+    }
+
+    long getFilesSkipped() {
+        return filesSkipped.sum();
+    }
+
+    List<Failure> getFailures() {
+        return new ArrayList<>(failures);
+    }
+
+    /**
+     * An entry which failed to copy.
+     */
+    static class Failure {
+
+        final String relativePath;
+        final String message;
+
+        Failure(String relativePath, String message) {
+            this.relativePath = relativePath;
+            this.message = message;
+        }
+    }
+
+    /**
+     * The progress of a previous copy read from a checkpoint.
+     */
+    private static class Progress {
+
+        private final String completedPath;
+        private final TreeSet<String> failedPaths = new TreeSet<>(SortedTreeWalker::comparePaths);
+
+        Progress(String completedPath) {
+            this.completedPath = completedPath;
+        }
+
+        /**
+         * Returns whether the entry was copied by the previous copy, which is when it is not after the completed
+         * path and neither it nor one of its parents failed.
+         */
+        boolean isCompleted(String relativePath) {
+            if (SortedTreeWalker.comparePaths(relativePath, completedPath) > 0) {
+                return false;
+            }
+            String path = relativePath;
+            while (!path.isEmpty()) {
+                if (failedPaths.contains(path)) {
+                    return false;
+                }
+                int separator = path.lastIndexOf(SortedTreeWalker.SEPARATOR);
+                path = separator < 0 ? "" : path.substring(0, separator);
+            }
+            return true;
+        }
+
+        /**
+         * Returns whether the whole content of a completed directory was copied by the previous copy, which is when
+         * the completed path is past the directory and all its content. The completed path may be the directory
+         * itself, as a directory is complete once it is created, before any of its content is copied.
+         */
+        boolean isSubtreeCompleted(String relativePath) {
+            String prefix = relativePath + SortedTreeWalker.SEPARATOR;
+            if (SortedTreeWalker.comparePaths(completedPath, relativePath) <= 0 || completedPath.startsWith(prefix)) {
+                return false;
+            }
+            String firstFailed = failedPaths.ceiling(prefix);
+            return firstFailed == null || !firstFailed.startsWith(prefix);
+        }
+    }
+}
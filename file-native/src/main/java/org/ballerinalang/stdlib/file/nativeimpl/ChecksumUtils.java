@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+import org.ballerinalang.stdlib.file.utils.FileUtils;
+import org.ballerinalang.stdlib.file.utils.OperationMetrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Native function implementations of the file checksums.
+ *
+ * @since 0.5.1
+ */
+public class ChecksumUtils {
+    public static Object checksum(BString path, BString algorithm, long chunkSize, long parallelism) {
+        long startTime = OperationMetrics.start();
+        Object result = computeChecksum(path, algorithm, chunkSize, parallelism);
+        return OperationMetrics.record(FileConstants.OP_CHECKSUM, startTime, result);
+    }
+
+    private static Object computeChecksum(BString path, BString algorithm, long chunkSize, long parallelism) {
+        Path inputPath = Paths.get(path.getValue()).toAbsolutePath();
+        if (Files.notExists(inputPath)) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+        }
+        if (Files.isDirectory(inputPath)) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Cannot compute the checksum of a directory: " + path);
+        }
+        if (chunkSize < 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid chunkSize value " + chunkSize);
+        }
+        Object parallelismError = Utils.validateParallelism(parallelism);
+        if (parallelismError != null) {
+            return parallelismError;
+        }
+        try {
+            String digest = FileChecksum.compute(inputPath, algorithm.getValue(), chunkSize, (int) parallelism);
+            if (OperationMetrics.getInstance() != null) {
+                OperationMetrics.addProcessed(FileConstants.OP_CHECKSUM, 1, Files.size(inputPath));
+            }
+            return StringUtils.fromString(digest);
+        } catch (IllegalArgumentException ex) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, ex.getMessage());
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } catch (SecurityException ex) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+
+/**
+ * Java representation of the {@code file:CopyOptions} record.
+ *
+ * @since 0.5.1
+ */
+public class CopyOptions {
+
+    /**
+     * Options which copy the file content with the default copy of the platform.
+     */
+    public static final CopyOptions DEFAULT = new CopyOptions(0, false, null, false);
+
+    static final long DEFAULT_CHUNK_SIZE = 8L * 1024 * 1024;
+
+    private final long chunkSize;
+    private final boolean resume;
+    private final TransferProgress progress;
+    private final boolean verify;
+
+    /**
+     * Creates copy options which do not verify the copied files.
+     *
+     * @param chunkSize maximum number of bytes transferred at once, or 0 to use the default copy of the platform
+     * @param resume    whether partially copied files are continued from the current length of the destination
+     * @param progress  receiver of the progress of each file or null
+     */
+    public CopyOptions(long chunkSize, boolean resume, TransferProgress progress) {
+        this(chunkSize, resume, progress, false);
+    }
+
+    /**
+     * Creates copy options.
+     *
+     * @param chunkSize maximum number of bytes transferred at once, or 0 to use the default copy of the platform
+     * @param resume    whether partially copied files are continued from the current length of the destination
+     * @param progress  receiver of the progress of each file or null
+     * @param verify    whether the checksum of each copied file is compared with the checksum of the source
+     */
+    public CopyOptions(long chunkSize, boolean resume, TransferProgress progress, boolean verify) {
+        this.chunkSize = chunkSize;
+        this.resume = resume;
+        this.progress = progress;
+        this.verify = verify;
+    }
+
+    @SuppressWarnings("unchecked")
+    static CopyOptions fromRecord(MapValue<BString, Object> options) {
+        long chunkSize = options.getIntValue(StringUtils.fromString(FileConstants.COPY_OPTION_CHUNK_SIZE));
+        boolean resume = options.getBooleanValue(StringUtils.fromString(FileConstants.COPY_OPTION_RESUME));
+        boolean verify = options.getBooleanValue(StringUtils.fromString(FileConstants.COPY_OPTION_VERIFY));
+        Object progressFunction = options.get(StringUtils.fromString(FileConstants.COPY_OPTION_PROGRESS));
+        TransferProgress progress = null;
+        if (progressFunction instanceof FPValue) {
+            progress = new FunctionTransferProgress((FPValue<Object[], Object>) progressFunction);
+        }
+        return new CopyOptions(chunkSize, resume, progress, verify);
+    }
+
+    /**
+     * Returns whether the file content should be copied with channel transfers instead of the default copy of the
+     * platform, which offers no control over the chunk size, progress, resuming or verification.
+     */
+    boolean useChannelTransfer() {
+        return chunkSize > 0 || resume || progress != null || verify;
+    }
+
+    long getChunkSize() {
+        return chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+    }
+
+    long getRequestedChunkSize() {
+        return chunkSize;
+    }
+
+    boolean isResume() {
+        return resume;
+    }
+
+    TransferProgress getProgress() {
+        return progress;
+    }
+
+    boolean isVerify() {
+        return verify;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Lazily walks a directory tree and hands out one entry at a time. The underlying directory handles are held only
+ * while the walk is in progress and are released once the walk is exhausted or the iterator is closed.
+ *
+ * @since 0.5.1
+ */
+class DirectoryIterator implements Closeable {
+
+    private final Stream<Path> walk;
+    private final Iterator<Path> iterator;
+
+    DirectoryIterator(Path root, int maxDepth) throws IOException {
+        this.walk = Files.walk(root, maxDepth);
+        this.iterator = walk.iterator();
+        // The first entry of the walk is the root directory itself, which is not part of the result.
+        try {
+            if (iterator.hasNext()) {
+                iterator.next();
+            }
+        } catch (UncheckedIOException | SecurityException e) {
+            // Release the directory handles, as the iterator is never handed out.
+            walk.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the next entry of the walk.
+     *
+     * @return the path of the next entry or null if the walk is exhausted
+     */
+    Path next() {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    @Override
+    public void close() {
+        walk.close();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+import org.ballerinalang.stdlib.file.utils.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Native function implementations of the lazily evaluated directory iterator.
+ *
+ * @since 0.5.1
+ */
+public class DirectoryIteratorUtils {
+    public static Object openDirStream(ObjectValue iterator, BString path, long maxDepth) {
+        File inputFile = Paths.get(path.getValue()).toAbsolutePath().toFile();
+        Object validationError = Utils.validateReadDir(inputFile, path, maxDepth);
+        if (validationError != null) {
+            return validationError;
+        }
+        try {
+            iterator.addNativeData(FileConstants.DIR_ITERATOR,
+                    new DirectoryIterator(inputFile.toPath(), Utils.getWalkDepth(maxDepth)));
+            return null;
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } catch (UncheckedIOException ex) {
+            // Thrown when the first entry of the walk cannot be read.
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex.getCause());
+        } catch (SecurityException ex) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
+        }
+    }
+
+    public static Object nextDirEntry(ObjectValue iterator) {
+        DirectoryIterator dirIterator = (DirectoryIterator) iterator.getNativeData(FileConstants.DIR_ITERATOR);
+        if (dirIterator == null) {
+            return null;
+        }
+        try {
+            Path entry = dirIterator.next();
+            if (entry == null) {
+                // Release the directory handles as soon as the walk is exhausted.
+                closeDirStream(iterator);
+                return null;
+            }
+            return FileUtils.getFileInfo(entry);
+        } catch (IOException | UncheckedIOException ex) {
+            closeDirStream(iterator);
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } catch (SecurityException ex) {
+            closeDirStream(iterator);
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
+        }
+    }
+
+    public static Object closeDirStream(ObjectValue iterator) {
+        DirectoryIterator dirIterator = (DirectoryIterator) iterator.getNativeData(FileConstants.DIR_ITERATOR);
+        if (dirIterator != null) {
+            iterator.addNativeData(FileConstants.DIR_ITERATOR, null);
+            dirIterator.close();
+        }
+        return null;
+    }
+}
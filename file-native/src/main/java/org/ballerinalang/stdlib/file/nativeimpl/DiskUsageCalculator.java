@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Computes the disk usage of a directory tree from the attributes read by the walk, without keeping an object for
+ * each entry. The tree is walked with {@link ParallelFileTreeWalker} in the unordered mode and the entries of each
+ * directory are added up as soon as the directory is read.
+ * <p>
+ * Where the platform reports the number of links of a file, a file with more than one link is counted only the first
+ * time one of its links is found, using its file key. Symbolic links are counted as files and not followed.
+ *
+ * @since 0.5.1
+ */
+class DiskUsageCalculator {
+
+    private static final LinkOption[] NO_FOLLOW = { LinkOption.NOFOLLOW_LINKS };
+    private static final boolean UNIX_VIEW = FileSystems.getDefault().supportedFileAttributeViews().contains("unix");
+    private static final String UNIX_ATTRIBUTES = "unix:size,isDirectory,isRegularFile,isSymbolicLink,isOther,"
+            + "lastModifiedTime,lastAccessTime,creationTime,nlink,fileKey";
+
+    private final int parallelism;
+    // Guarded by this calculator, as the entries are added up under its lock.
+    private final Set<Object> linkedFiles = new HashSet<>();
+
+    DiskUsageCalculator(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Computes the disk usage of the given path.
+     *
+     * @param path      file or directory path
+     * @param maxDepth  maximum number of directory levels to visit
+     * @param breakdown whether the usage of each entry directly inside the directory is kept as well
+     * @return the usage of the path
+     * @throws IOException if a directory cannot be read
+     */
+    Usage calculate(Path path, int maxDepth, boolean breakdown) throws IOException {
+        Usage usage = new Usage(path);
+        if (!Files.isDirectory(path)) {
+            usage.addFile(Files.size(path));
+            return usage;
+        }
+        Map<Path, Usage> children = breakdown ? new HashMap<>() : null;
+        ParallelFileTreeWalker walker = new ParallelFileTreeWalker(parallelism, false,
+                UNIX_VIEW ? LinkAttributes::read
+                        : child -> Files.readAttributes(child, BasicFileAttributes.class, NO_FOLLOW));
+        walker.walk(path, maxDepth, ReadDirFilter.NONE, entries -> addEntries(path, usage, children, entries));
+        if (children != null) {
+            List<Usage> childUsages = new ArrayList<>(children.values());
+            childUsages.sort(Comparator.comparing(Usage::getPath));
+            usage.children = childUsages;
+        }
+        return usage;
+    }
+
+    /**
+     * Adds the entries of a directory to the usage of the tree and to the usage of the entry directly inside the
+     * root which contains them.
+     */
+    private synchronized void addEntries(Path root, Usage usage, Map<Path, Usage> children,
+                                         List<ParallelFileTreeWalker.WalkEntry> entries) {
+        for (ParallelFileTreeWalker.WalkEntry entry : entries) {
+            BasicFileAttributes attributes = entry.getAttributes();
+            if (isCountedLink(attributes)) {
+                continue;
+            }
+            usage.addEntry(attributes);
+            if (children != null) {
+                Path relativePath = root.relativize(entry.getPath());
+                Usage childUsage = children.computeIfAbsent(root.resolve(relativePath.getName(0)), Usage::new);
+                // The usage of a directory is the usage of its contents.
+                if (relativePath.getNameCount() > 1 || !attributes.isDirectory()) {
+                    childUsage.addEntry(attributes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether the entry is another link of a file which is already counted.
+     */
+    private boolean isCountedLink(BasicFileAttributes attributes) {
+        return attributes instanceof LinkAttributes && !attributes.isDirectory()
+                && ((LinkAttributes) attributes).getLinkCount() > 1 && !linkedFiles.add(attributes.fileKey());
+    }
+
+    /**
+     * Disk usage of a file or the contents of a directory.
+     */
+    static class Usage {
+
+        private final Path path;
+        private long size;
+        private long fileCount;
+        private long dirCount;
+        private List<Usage> children = Collections.emptyList();
+
+        Usage(Path path) {
+            this.path = path;
+        }
+
+        private void addFile(long fileSize) {
+            size += fileSize;
+            fileCount++;
+        }
+
+        private void addEntry(BasicFileAttributes attributes) {
+            if (attributes.isDirectory()) {
+                dirCount++;
+            } else {
+                addFile(attributes.size());
+            }
+        }
+
+        Path getPath() {
+            return path;
+        }
+
+        long getSize() {
+            return size;
+        }
+
+        long getFileCount() {
+            return fileCount;
+        }
+
+        long getDirCount() {
+            return dirCount;
+        }
+
+        List<Usage> getChildren() {
+            return children;
+        }
+    }
+
+    /**
+     * Attributes read from the unix view, which also reports the number of links of a file.
+     */
+    private static final class LinkAttributes implements BasicFileAttributes {
+
+        private final Map<String, Object> attributes;
+
+        private LinkAttributes(Map<String, Object> attributes) {
+            this.attributes = attributes;
+        }
+
+        static BasicFileAttributes read(Path path) throws IOException {
+            return new LinkAttributes(Files.readAttributes(path, UNIX_ATTRIBUTES, NO_FOLLOW));
+        }
+
+        int getLinkCount() {
+            return (Integer) attributes.get("nlink");
+        }
+
+        @Override
+        public FileTime lastModifiedTime() {
+            return (FileTime) attributes.get("lastModifiedTime");
+        }
+
+        @Override
+        public FileTime lastAccessTime() {
+            return (FileTime) attributes.get("lastAccessTime");
+        }
+
+        @Override
+        public FileTime creationTime() {
+            return (FileTime) attributes.get("creationTime");
+        }
+
+        @Override
+        public boolean isRegularFile() {
+            return (Boolean) attributes.get("isRegularFile");
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return (Boolean) attributes.get("isDirectory");
+        }
+
+        @Override
+        public boolean isSymbolicLink() {
+            return (Boolean) attributes.get("isSymbolicLink");
+        }
+
+        @Override
+        public boolean isOther() {
+            return (Boolean) attributes.get("isOther");
+        }
+
+        @Override
+        public long size() {
+            return (Long) attributes.get("size");
+        }
+
+        @Override
+        public Object fileKey() {
+            return attributes.get("fileKey");
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes checksums of file content. The content is read with positional reads into reusable direct buffers, so
+ * the bytes are not copied onto the Java heap, and a large file can be hashed as a tree of fixed size chunks which
+ * are hashed concurrently.
+ *
+ * @since 0.5.1
+ */
+public final class FileChecksum {
+
+    static final int BUFFER_SIZE = 1024 * 1024;
+    // The checksums of all the chunks are held until they are hashed together.
+    static final long MAX_CHUNKS = 1 << 20;
+    private static final ThreadLocal<ByteBuffer> BUFFERS =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private FileChecksum() {
+    }
+
+    /**
+     * Computes the checksum of a file. When a chunk size is given, the file is split into chunks of that size, the
+     * checksum of each chunk is computed separately and the result is the checksum of the concatenated chunk
+     * checksums, which differs from the checksum of the whole content and depends on the chunk size.
+     *
+     * @param file        the file
+     * @param algorithm   the checksum algorithm
+     * @param chunkSize   size of the chunks in bytes, or 0 to compute the checksum of the whole content
+     * @param parallelism number of chunks hashed concurrently
+     * @return the checksum as a lowercase hexadecimal string
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the algorithm is not supported or the chunk size splits the file into more
+     *                                  than {@link #MAX_CHUNKS} chunks
+     */
+    public static String compute(Path file, String algorithm, long chunkSize, int parallelism) throws IOException {
+        FileHasher hasher = FileHasher.create(algorithm);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (chunkSize <= 0) {
+                update(hasher, channel, 0, size);
+                return toHex(hasher.digest());
+            }
+            long chunks = (size + chunkSize - 1) / chunkSize;
+            if (chunks > MAX_CHUNKS) {
+                throw new IllegalArgumentException("chunkSize " + chunkSize + " splits the file into more than "
+                        + MAX_CHUNKS + " chunks, use a chunkSize of at least "
+                        + ((size + MAX_CHUNKS - 1) / MAX_CHUNKS));
+            }
+            int chunkCount = (int) chunks;
+            byte[][] chunkDigests = new byte[chunkCount][];
+            ChunkTask task = new ChunkTask(channel, algorithm, chunkSize, size, chunkDigests, 0, chunkCount);
+            if (parallelism > 1 && chunkCount > 1) {
+                ForkJoinPool pool = new ForkJoinPool(parallelism, new FileWorkerThreadFactory("checksum"), null,
+                        false);
+                try {
+                    pool.invoke(task);
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                } finally {
+                    pool.shutdownNow();
+                }
+            } else {
+                try {
+                    task.compute();
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+            for (byte[] chunkDigest : chunkDigests) {
+                hasher.update(ByteBuffer.wrap(chunkDigest));
+            }
+            return toHex(hasher.digest());
+        }
+    }
+
+    /**
+     * Adds a range of the content of a file to a checksum. FileChannel positional reads are safe to use
+     * concurrently, so the ranges of a channel can be hashed by several threads.
+     *
+     * @param hasher   the checksum
+     * @param channel  channel of the file
+     * @param position position of the first byte of the range
+     * @param end      position after the last byte of the range
+     * @throws IOException if the file cannot be read
+     */
+    static void update(FileHasher hasher, FileChannel channel, long position, long end) throws IOException {
+        ByteBuffer buffer = getBuffer();
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                // The file was truncated while it was being read.
+                break;
+            }
+            position += read;
+            buffer.flip();
+            hasher.update(buffer);
+        }
+    }
+
+    /**
+     * Returns the direct read buffer of the current thread.
+     */
+    static ByteBuffer getBuffer() {
+        return BUFFERS.get();
+    }
+
+    static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >>> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Computes the checksums of a range of chunks, splitting the range in halves until a single chunk remains.
+     */
+    private static class ChunkTask extends RecursiveAction {
+
+        private final FileChannel channel;
+        private final String algorithm;
+        private final long chunkSize;
+        private final long size;
+        private final byte[][] chunkDigests;
+        private final int from;
+        private final int to;
+
+        ChunkTask(FileChannel channel, String algorithm, long chunkSize, long size, byte[][] chunkDigests, int from,
+                  int to) {
+            this.channel = channel;
+            this.algorithm = algorithm;
+            this.chunkSize = chunkSize;
+            this.size = size;
+            this.chunkDigests = chunkDigests;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && getPool() != null && getPool().getParallelism() > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(channel, algorithm, chunkSize, size, chunkDigests, from, middle),
+                        new ChunkTask(channel, algorithm, chunkSize, size, chunkDigests, middle, to));
+                return;
+            }
+            try {
+                for (int chunk = from; chunk < to; chunk++) {
+                    FileHasher hasher = FileHasher.create(algorithm);
+                    long start = chunk * chunkSize;
+                    update(hasher, channel, start, Math.min(size, start + chunkSize));
+                    chunkDigests[chunk] = hasher.digest();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
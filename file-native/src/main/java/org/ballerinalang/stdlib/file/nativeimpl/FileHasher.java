@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.CRC32;
+
+/**
+ * Incremental checksum or hash of file content.
+ *
+ * @since 0.5.1
+ */
+interface FileHasher {
+
+    /**
+     * Adds the remaining bytes of the buffer to the checksum. The position of the buffer is moved to its limit.
+     *
+     * @param buffer content of the file
+     */
+    void update(ByteBuffer buffer);
+
+    /**
+     * Completes the checksum. The hasher cannot be used afterwards.
+     *
+     * @return the checksum in big-endian byte order
+     */
+    byte[] digest();
+
+    /**
+     * Creates a hasher of an algorithm.
+     *
+     * @param algorithm one of the checksum algorithm names of {@link FileConstants}
+     * @return the hasher
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    static FileHasher create(String algorithm) {
+        switch (algorithm) {
+            case FileConstants.CHECKSUM_CRC32:
+                CRC32 crc32 = new CRC32();
+                return new FileHasher() {
+                    @Override
+                    public void update(ByteBuffer buffer) {
+                        crc32.update(buffer);
+                    }
+
+                    @Override
+                    public byte[] digest() {
+                        long value = crc32.getValue();
+                        return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8),
+                                (byte) value};
+                    }
+                };
+            case FileConstants.CHECKSUM_CRC32C:
+                return new Crc32c();
+            case FileConstants.CHECKSUM_SHA256:
+                MessageDigest messageDigest;
+                try {
+                    messageDigest = MessageDigest.getInstance(algorithm);
+                } catch (NoSuchAlgorithmException e) {
+                    // Every Java platform is required to support SHA-256.
+                    throw new IllegalStateException(e);
+                }
+                return new FileHasher() {
+                    @Override
+                    public void update(ByteBuffer buffer) {
+                        messageDigest.update(buffer);
+                    }
+
+                    @Override
+                    public byte[] digest() {
+                        return messageDigest.digest();
+                    }
+                };
+            case FileConstants.CHECKSUM_XXH64:
+                return new XxHash64();
+            default:
+                throw new IllegalArgumentException("Unsupported checksum algorithm " + algorithm);
+        }
+    }
+}
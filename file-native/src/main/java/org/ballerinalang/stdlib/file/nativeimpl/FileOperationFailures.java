@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread safe collector of the per-entry failures of a bulk file operation. All the failures are available to the
+ * callers which report them entry by entry, while the flattened message only names the first few of them.
+ *
+ * @since 0.5.1
+ */
+class FileOperationFailures {
+
+    private static final int MAX_REPORTED_FAILURES = 10;
+
+    private final AtomicInteger count = new AtomicInteger();
+    private final Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+
+    void add(Path path, Exception e) {
+        failures.add(new Failure(path, e.getMessage()));
+        count.incrementAndGet();
+    }
+
+    int count() {
+        return count.get();
+    }
+
+    /**
+     * Returns a message describing the failed entries.
+     *
+     * @param operation description of the failed operation, e.g. "copy 3 entries from a to b"
+     * @return the failure message
+     */
+    String getMessage(String operation) {
+        StringBuilder message = new StringBuilder("Failed to ").append(operation).append(": ");
+        int reported = 0;
+        for (Failure failure : failures) {
+            if (reported == MAX_REPORTED_FAILURES) {
+                break;
+            }
+            if (reported++ > 0) {
+                message.append("; ");
+            }
+            message.append(failure.path).append(" (").append(failure.message).append(")");
+        }
+        int unreported = count.get() - reported;
+        if (unreported > 0) {
+            message.append(" and ").append(unreported).append(" more");
+        }
+        return message.toString();
+    }
+
+    List<Failure> getFailures() {
+        return new ArrayList<>(failures);
+    }
+
+    /**
+     * Failure to process an entry of the tree.
+     */
+    static class Failure {
+        final Path path;
+        final String message;
+
+        Failure(Path path, String message) {
+            this.path = path;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Copies file content with {@link FileChannel#transferTo}, which lets the operating system move the bytes
+ * between the files without copying them through the JVM (sendfile on Linux), in chunks of a configurable size.
+ * When the copy is verified, the content is instead copied through a direct buffer and hashed on the way, so that
+ * the source is read only once.
+ *
+ * @since 0.5.1
+ */
+public final class FileTransfer {
+
+    private static final OpenOption[] RESUME_OPTIONS = {StandardOpenOption.WRITE};
+    private static final OpenOption[] REPLACE_OPTIONS = {StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING};
+    private static final OpenOption[] CREATE_OPTIONS = {StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW};
+    private static final String VERIFY_ALGORITHM = FileConstants.CHECKSUM_XXH64;
+
+    private FileTransfer() {
+    }
+
+    /**
+     * Copies the content of the source file to the target file. In resume mode, a target which is shorter than
+     * the source is treated as a partial copy and the transfer continues from its current length, while a target
+     * of the same length is treated as a complete copy. In verify mode, the checksum of the whole target, including
+     * any part copied before resuming, is compared with the checksum of the source once the content is written.
+     *
+     * @param source          source file
+     * @param target          target file
+     * @param replaceExisting whether an existing target should be replaced
+     * @param options         copy options
+     * @return the number of bytes transferred
+     * @throws IOException if the transfer fails, the target exists and cannot be replaced or resumed, or the
+     *                     checksum of the target does not match the source
+     */
+    public static long transfer(Path source, Path target, boolean replaceExisting, CopyOptions options)
+            throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = in.size();
+            long position = 0;
+            OpenOption[] openOptions = replaceExisting ? REPLACE_OPTIONS : CREATE_OPTIONS;
+            if (options.isResume() && Files.isRegularFile(target)) {
+                long existingSize = Files.size(target);
+                if (existingSize <= size) {
+                    position = existingSize;
+                    openOptions = RESUME_OPTIONS;
+                }
+            }
+            long startPosition = position;
+            FileHasher sourceHasher = null;
+            if (options.isVerify()) {
+                sourceHasher = FileHasher.create(VERIFY_ALGORITHM);
+                FileChecksum.update(sourceHasher, in, 0, position);
+            }
+            try (FileChannel out = FileChannel.open(target, openOptions)) {
+                out.position(position);
+                long chunkSize = options.getChunkSize();
+                TransferProgress progress = options.getProgress();
+                while (position < size) {
+                    long count = Math.min(chunkSize, size - position);
+                    long transferred = sourceHasher != null ? copyAndHash(in, out, position, count, sourceHasher)
+                            : in.transferTo(position, count, out);
+                    if (transferred == 0) {
+                        // The source may have been truncated while it was being copied.
+                        size = Math.min(size, in.size());
+                        continue;
+                    }
+                    position += transferred;
+                    if (progress != null) {
+                        progress.update(source, position, size);
+                    }
+                }
+            }
+            if (sourceHasher != null) {
+                verify(source, target, position, sourceHasher.digest());
+            }
+            return position - startPosition;
+        }
+    }
+
+    /**
+     * Copies a range of the source to the current position of the target through the direct buffer of the thread,
+     * adding the copied bytes to the checksum of the source.
+     */
+    private static long copyAndHash(FileChannel in, FileChannel out, long position, long count, FileHasher hasher)
+            throws IOException {
+        ByteBuffer buffer = FileChecksum.getBuffer();
+        long copied = 0;
+        while (copied < count) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), count - copied));
+            int read = in.read(buffer, position + copied);
+            if (read <= 0) {
+                break;
+            }
+            buffer.flip();
+            hasher.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    private static void verify(Path source, Path target, long size, byte[] sourceDigest) throws IOException {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ)) {
+            FileHasher targetHasher = FileHasher.create(VERIFY_ALGORITHM);
+            if (channel.size() == size) {
+                FileChecksum.update(targetHasher, channel, 0, size);
+                if (Arrays.equals(sourceDigest, targetHasher.digest())) {
+                    return;
+                }
+            }
+        }
+        throw new IOException("Checksum of " + target + " does not match the source " + source);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.jvm.scheduling.StrandMetadata;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+
+import static org.ballerinalang.jvm.util.BLangConstants.BALLERINA_BUILTIN_PKG_PREFIX;
+
+/**
+ * Delivers the progress of a recursive removal to the Ballerina function given to {@code file:removeTree}. The
+ * function is invoked asynchronously through the runtime and the removal never waits for it. One invocation runs at
+ * a time; the updates made while it runs are merged into the latest counts, which are delivered once it returns.
+ *
+ * @since 0.5.1
+ */
+class FunctionRemoveProgress implements RemoveProgress {
+
+    private static final StrandMetadata PROGRESS_METADATA = new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX,
+                                                                               FileConstants.PACKAGE_NAME,
+                                                                               FileConstants.PACKAGE_VERSION,
+                                                                               "progress");
+
+    private final FPValue<Object[], Object> function;
+    // Latest counts which are not yet delivered, guarded by this.
+    private long pendingFiles;
+    private long pendingDirectories;
+    private boolean pending;
+    private boolean invoking;
+
+    FunctionRemoveProgress(FPValue<Object[], Object> function) {
+        this.function = function;
+    }
+
+    @Override
+    public void update(long filesDeleted, long directoriesDeleted) {
+        synchronized (this) {
+            // The counts only grow, but concurrent deletes may report them out of order.
+            pendingFiles = Math.max(pendingFiles, filesDeleted);
+            pendingDirectories = Math.max(pendingDirectories, directoriesDeleted);
+            if (invoking) {
+                pending = true;
+                return;
+            }
+            invoking = true;
+        }
+        invokeLatest();
+    }
+
+    private void invokeLatest() {
+        Object[] arguments;
+        synchronized (this) {
+            // The first argument is the strand, which is set by the scheduler.
+            arguments = new Object[]{null, pendingFiles, true, pendingDirectories, true};
+            pending = false;
+        }
+        try {
+            function.asyncCall(arguments, result -> {
+                delivered();
+                return result;
+            }, PROGRESS_METADATA);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                invoking = false;
+            }
+            throw e;
+        }
+    }
+
+    private void delivered() {
+        synchronized (this) {
+            if (!pending) {
+                invoking = false;
+                return;
+            }
+        }
+        invokeLatest();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.StrandMetadata;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.ballerinalang.jvm.util.BLangConstants.BALLERINA_BUILTIN_PKG_PREFIX;
+
+/**
+ * Delivers the progress of a copy to the Ballerina function of the {@code file:CopyOptions}. The function is invoked
+ * asynchronously through the runtime, on a strand of its own, so the thread which copies the content never runs
+ * Ballerina code. The updates are delivered one at a time in the order they were made. The copy never waits for
+ * the function, as blocking the copying thread on a strand could deadlock the scheduler, hence the updates of a file
+ * may still be delivered after its copy has completed.
+ *
+ * @since 0.5.1
+ */
+class FunctionTransferProgress implements TransferProgress {
+
+    private static final StrandMetadata PROGRESS_METADATA = new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX,
+                                                                               FileConstants.PACKAGE_NAME,
+                                                                               FileConstants.PACKAGE_VERSION,
+                                                                               "progress");
+
+    private final FPValue<Object[], Object> function;
+    // Updates made while the function runs for a previous update, guarded by this.
+    private final Queue<Object[]> updates = new ArrayDeque<>();
+    private boolean invoking;
+
+    FunctionTransferProgress(FPValue<Object[], Object> function) {
+        this.function = function;
+    }
+
+    @Override
+    public void update(Path file, long bytesCopied, long totalBytes) {
+        // The first argument is the strand, which is set by the scheduler.
+        Object[] arguments = {null, StringUtils.fromString(file.toString()), true, bytesCopied, true, totalBytes,
+                true};
+        synchronized (this) {
+            if (invoking) {
+                updates.add(arguments);
+                return;
+            }
+            invoking = true;
+        }
+        invoke(arguments);
+    }
+
+    private void invoke(Object[] arguments) {
+        try {
+            function.asyncCall(arguments, result -> {
+                delivered();
+                return result;
+            }, PROGRESS_METADATA);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                updates.clear();
+                invoking = false;
+            }
+            throw e;
+        }
+    }
+
+    private void delivered() {
+        Object[] next;
+        synchronized (this) {
+            next = updates.poll();
+            if (next == null) {
+                invoking = false;
+                return;
+            }
+        }
+        invoke(next);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+import org.ballerinalang.stdlib.file.utils.FileUtils;
+import org.ballerinalang.stdlib.file.utils.OperationMetrics;
+
+import java.util.Map;
+
+/**
+ * Native function implementations of the operation instrumentation.
+ *
+ * @since 0.5.1
+ */
+public class InstrumentationUtils {
+    public static void enableInstrumentation() {
+        OperationMetrics.enable();
+    }
+
+    public static void disableInstrumentation() {
+        OperationMetrics.disable();
+    }
+
+    public static ArrayValue getOperationStats() {
+        BType statsType = BallerinaValues.createRecordValue(FileConstants.FILE_PACKAGE_ID,
+                FileConstants.OPERATION_STATS_TYPE).getType();
+        OperationMetrics metrics = OperationMetrics.getInstance();
+        if (metrics == null) {
+            return new ArrayValueImpl(new Object[0], new BArrayType(statsType));
+        }
+        Map<String, OperationMetrics.OperationStats> operations = metrics.getOperations();
+        Object[] statsRecords = new Object[operations.size()];
+        int i = 0;
+        for (Map.Entry<String, OperationMetrics.OperationStats> operation : operations.entrySet()) {
+            OperationMetrics.OperationStats operationStats = operation.getValue();
+            MapValue<BString, Object> stats = BallerinaValues.createRecordValue(FileConstants.FILE_PACKAGE_ID,
+                    FileConstants.OPERATION_STATS_TYPE);
+            stats.put(StringUtils.fromString(FileConstants.OPERATION_STATS_OPERATION),
+                    StringUtils.fromString(operation.getKey()));
+            stats.put(StringUtils.fromString(FileConstants.OPERATION_STATS_CALLS), operationStats.getCalls());
+            MapValue<BString, Object> errors = new MapValueImpl<>(new BMapType(BTypes.typeInt));
+            for (Map.Entry<String, Long> error : operationStats.getErrors().entrySet()) {
+                errors.put(StringUtils.fromString(error.getKey()), error.getValue());
+            }
+            stats.put(StringUtils.fromString(FileConstants.OPERATION_STATS_ERRORS), errors);
+            stats.put(StringUtils.fromString(FileConstants.OPERATION_STATS_ENTRIES), operationStats.getEntries());
+            stats.put(StringUtils.fromString(FileConstants.OPERATION_STATS_BYTES), operationStats.getBytes());
+            stats.put(StringUtils.fromString(FileConstants.OPERATION_STATS_LATENCY),
+                    FileUtils.createLatencyStats(operationStats.getLatency()));
+            statsRecords[i++] = stats;
+        }
+        return new ArrayValueImpl(statsRecords, new BArrayType(statsType));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+import org.ballerinalang.stdlib.file.utils.FileUtils;
+import org.ballerinalang.stdlib.file.utils.MetadataCache;
+
+/**
+ * Native function implementations of the metadata cache of exists and getFileInfo.
+ *
+ * @since 0.5.1
+ */
+public class MetadataCacheUtils {
+    public static Object enableMetadataCache(MapValue<BString, Object> config) {
+        long maxSize = config.getIntValue(StringUtils.fromString(FileConstants.METADATA_CACHE_MAX_SIZE));
+        long ttl = config.getIntValue(StringUtils.fromString(FileConstants.METADATA_CACHE_TTL));
+        if (maxSize < 1 || maxSize > Integer.MAX_VALUE) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid maxSize value " + maxSize);
+        }
+        if (ttl < 1) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, "Invalid ttl value " + ttl);
+        }
+        MetadataCache.enable((int) maxSize, ttl);
+        return null;
+    }
+
+    public static void disableMetadataCache() {
+        MetadataCache.disable();
+    }
+
+    public static MapValue<BString, Object> getMetadataCacheStats() {
+        MapValue<BString, Object> stats = BallerinaValues.createRecordValue(FileConstants.FILE_PACKAGE_ID,
+                FileConstants.METADATA_CACHE_STATS_TYPE);
+        MetadataCache cache = MetadataCache.getInstance();
+        stats.put(StringUtils.fromString(FileConstants.METADATA_CACHE_HITS), cache != null ? cache.getHits() : 0L);
+        stats.put(StringUtils.fromString(FileConstants.METADATA_CACHE_MISSES), cache != null ? cache.getMisses() : 0L);
+        stats.put(StringUtils.fromString(FileConstants.METADATA_CACHE_EVICTIONS),
+                cache != null ? cache.getEvictions() : 0L);
+        stats.put(StringUtils.fromString(FileConstants.METADATA_CACHE_INVALIDATIONS),
+                cache != null ? cache.getInvalidations() : 0L);
+        stats.put(StringUtils.fromString(FileConstants.METADATA_CACHE_SIZE),
+                cache != null ? (long) cache.getSize() : 0L);
+        return stats;
+    }
+}
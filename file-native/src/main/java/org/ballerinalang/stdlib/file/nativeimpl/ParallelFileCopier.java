@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
+
+/**
+ * Copies a directory tree using a pool of worker threads. Directories are created in pre-order on the walking
+ * thread, so that they exist before any of their files are copied, while the file copies are fanned out to the
+ * workers. A failure to copy an entry does not stop the walk; the failures are collected and reported once the
+ * whole tree has been processed.
+ *
+ * @since 0.5.1
+ */
+class ParallelFileCopier extends SimpleFileVisitor<Path> {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelFileCopier.class);
+    private static final int PENDING_TASKS_PER_WORKER = 64;
+
+    private final Path source;
+    private final Path target;
+    private final boolean replaceExisting;
+    private final CopyOptions options;
+    private final ExecutorService workers;
+    private final Semaphore pendingTasks;
+    private final FileOperationFailures failures = new FileOperationFailures();
+    private final LongAdder filesCopied = new LongAdder();
+    private final LongAdder bytesCopied = new LongAdder();
+
+    ParallelFileCopier(Path source, Path target, boolean replaceExisting, int parallelism, CopyOptions options) {
+        this.source = source;
+        this.target = target;
+        this.replaceExisting = replaceExisting;
+        this.options = options;
+        this.workers = Executors.newFixedThreadPool(parallelism, new FileWorkerThreadFactory("copy"));
+        // Bounds the number of queued copies so that walking a huge tree does not outpace the workers.
+        this.pendingTasks = new Semaphore(parallelism * PENDING_TASKS_PER_WORKER);
+    }
+
+    /**
+     * Copies the source tree into the target and waits until all the copies are complete.
+     *
+     * @return the number of entries which failed to copy
+     * @throws IOException if the walk could not be started
+     */
+    int copy() throws IOException {
+        try {
+            Files.walkFileTree(source, this);
+        } finally {
+            workers.shutdown();
+            awaitWorkers();
+        }
+        return failures.count();
+    }
+
+    /**
+     * Returns a message describing the failed entries.
+     *
+     * @return the failure message
+     */
+    String getFailureMessage() {
+        return failures.getMessage("copy " + failures.count() + " entries from " + source + " to " + target);
+    }
+
+    long getFilesCopied() {
+        return filesCopied.sum();
+    }
+
+    long getBytesCopied() {
+        return bytesCopied.sum();
+    }
+
+    @Override
+    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+        Path newDirectory = target.resolve(source.relativize(dir));
+        try {
+            if (replaceExisting) {
+                Files.copy(dir, newDirectory, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.copy(dir, newDirectory);
+            }
+        } catch (FileAlreadyExistsException e) {
+            if (options.isResume() && Files.isDirectory(newDirectory)) {
+                // A partially copied directory, continue with its content.
+                return CONTINUE;
+            }
+            log.debug("Directory already exists in the path " + newDirectory + ", Hence skipping the subtree.");
+            return SKIP_SUBTREE;
+        } catch (IOException | SecurityException e) {
+            addFailure(dir, e);
+            return SKIP_SUBTREE;
+        }
+        return CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+        Path newFile = target.resolve(source.relativize(file));
+        try {
+            pendingTasks.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            addFailure(file, e);
+            return FileVisitResult.TERMINATE;
+        }
+        workers.execute(() -> {
+            try {
+                copyFile(file, newFile, attrs.size());
+            } finally {
+                pendingTasks.release();
+            }
+        });
+        return CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+        addFailure(file, exc);
+        return CONTINUE;
+    }
+
+    private void copyFile(Path file, Path newFile, long size) {
+        try {
+            Utils.copyFile(file, newFile, replaceExisting, options);
+            filesCopied.increment();
+            bytesCopied.add(size);
+        } catch (FileAlreadyExistsException e) {
+            log.debug("File already exists in the path " + newFile + ", Hence skipping the file.");
+        } catch (IOException | SecurityException e) {
+            addFailure(file, e);
+        }
+    }
+
+    private void addFailure(Path path, Exception e) {
+        failures.add(path, e);
+        log.debug("Error while copying " + path, e);
+    }
+
+    private void awaitWorkers() {
+        try {
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.debug("Waiting for the file copies from " + source + " to complete.");
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
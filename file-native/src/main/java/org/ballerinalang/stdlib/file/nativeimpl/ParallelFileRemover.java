@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+
+/**
+ * Deletes a directory tree using a pool of worker threads. The tree is walked on the calling thread and the files
+ * are deleted concurrently by the workers. Each directory keeps a count of its children which are not yet deleted
+ * and is deleted by whichever thread deletes its last child, so the directories are removed bottom-up as soon as
+ * they become empty. A failure to delete an entry does not stop the walk; the directories above it are left in
+ * place and the failures are reported once the whole tree has been processed. The counts of the deleted entries are
+ * optionally reported to a {@link RemoveProgress} while the tree is being deleted.
+ *
+ * @since 0.5.1
+ */
+class ParallelFileRemover extends SimpleFileVisitor<Path> {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelFileRemover.class);
+    private static final int PENDING_TASKS_PER_WORKER = 64;
+    private static final long PROGRESS_INTERVAL = 1000;
+
+    private final Path root;
+    private final ExecutorService workers;
+    private final Semaphore pendingTasks;
+    private final RemoveProgress progress;
+    private final Deque<DirectoryState> directories = new ArrayDeque<>();
+    private final FileOperationFailures failures = new FileOperationFailures();
+    private final AtomicLong deletedFiles = new AtomicLong();
+    private final AtomicLong deletedDirectories = new AtomicLong();
+    private final AtomicLong deletedEntries = new AtomicLong();
+
+    /**
+     * Creates a remover.
+     *
+     * @param root        directory to delete
+     * @param parallelism number of concurrent deletes
+     * @param progress    receiver of the counts of the deleted entries or null
+     */
+    ParallelFileRemover(Path root, int parallelism, RemoveProgress progress) {
+        this.root = root;
+        this.progress = progress;
+        this.workers = Executors.newFixedThreadPool(parallelism, new FileWorkerThreadFactory("remove"));
+        // Bounds the number of queued deletes so that walking a huge tree does not outpace the workers.
+        this.pendingTasks = new Semaphore(parallelism * PENDING_TASKS_PER_WORKER);
+    }
+
+    /**
+     * Deletes the tree and waits until all the deletes are complete.
+     *
+     * @return the number of entries which failed to delete
+     * @throws IOException if the walk could not be started
+     */
+    int remove() throws IOException {
+        try {
+            Files.walkFileTree(root, this);
+        } finally {
+            workers.shutdown();
+            awaitWorkers();
+        }
+        return failures.count();
+    }
+
+    /**
+     * Returns a message describing the failed entries.
+     *
+     * @return the failure message
+     */
+    String getFailureMessage() {
+        return failures.getMessage("delete " + failures.count() + " entries in " + root);
+    }
+
+    List<FileOperationFailures.Failure> getFailures() {
+        return failures.getFailures();
+    }
+
+    long getDeletedFiles() {
+        return deletedFiles.get();
+    }
+
+    long getDeletedDirectories() {
+        return deletedDirectories.get();
+    }
+
+    @Override
+    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+        DirectoryState parent = directories.peek();
+        if (parent != null) {
+            parent.pendingChildren.incrementAndGet();
+        }
+        directories.push(new DirectoryState(dir, parent));
+        return CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+        DirectoryState parent = directories.peek();
+        parent.pendingChildren.incrementAndGet();
+        try {
+            pendingTasks.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.add(file, e);
+            parent.failed = true;
+            release(parent);
+            return FileVisitResult.TERMINATE;
+        }
+        workers.execute(() -> {
+            try {
+                Files.delete(file);
+                deletedFiles.incrementAndGet();
+                reportProgress();
+            } catch (IOException | SecurityException e) {
+                addFailure(file, e);
+                parent.failed = true;
+            } finally {
+                pendingTasks.release();
+                release(parent);
+            }
+        });
+        return CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+        addFailure(file, exc);
+        DirectoryState parent = directories.peek();
+        if (parent != null) {
+            parent.failed = true;
+        }
+        return CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+        DirectoryState state = directories.pop();
+        if (exc != null) {
+            addFailure(dir, exc);
+            state.failed = true;
+        }
+        // Releases the hold which kept the directory from being deleted while its entries were being walked.
+        release(state);
+        return CONTINUE;
+    }
+
+    private void release(DirectoryState state) {
+        if (state.pendingChildren.decrementAndGet() > 0) {
+            return;
+        }
+        DirectoryState parent = state.parent;
+        if (state.failed) {
+            // The directory is not empty, hence it cannot be deleted and neither can its parents.
+            if (parent != null) {
+                parent.failed = true;
+            }
+        } else {
+            try {
+                Files.delete(state.path);
+                deletedDirectories.incrementAndGet();
+                reportProgress();
+            } catch (IOException | SecurityException e) {
+                addFailure(state.path, e);
+                if (parent != null) {
+                    parent.failed = true;
+                }
+            }
+        }
+        if (parent != null) {
+            release(parent);
+        }
+    }
+
+    private void reportProgress() {
+        if (deletedEntries.incrementAndGet() % PROGRESS_INTERVAL == 0 && progress != null) {
+            progress.update(deletedFiles.get(), deletedDirectories.get());
+        }
+    }
+
+    private void addFailure(Path path, Exception e) {
+        failures.add(path, e);
+        log.debug("Error while deleting " + path, e);
+    }
+
+    private void awaitWorkers() {
+        try {
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.debug("Waiting for the deletes in " + root + " to complete.");
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Deletion state of a directory. The pending count starts at one, for the walk of the directory itself, and
+     * is incremented for each child found by the walk.
+     */
+    private static class DirectoryState {
+
+        final Path path;
+        final DirectoryState parent;
+        final AtomicInteger pendingChildren = new AtomicInteger(1);
+        volatile boolean failed;
+
+        DirectoryState(Path path, DirectoryState parent) {
+            this.path = path;
+            this.parent = parent;
+        }
+    }
+}
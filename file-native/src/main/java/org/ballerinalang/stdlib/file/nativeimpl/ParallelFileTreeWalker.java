@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * Walks a directory tree with a fork join pool, which lists and reads the attributes of the sub directories
+ * concurrently and balances the uneven sub trees by work stealing.
+ * <p>
+ * In the ordered mode the entries are returned in the same order as a sequential walk, i.e. each directory is
+ * followed by its contents. In the unordered mode the entries are returned in the order they were read, which avoids
+ * holding back the entries of the finished sub trees.
+ *
+ * @since 0.5.1
+ */
+public class ParallelFileTreeWalker {
+
+    private static final LinkOption[] NO_FOLLOW = { LinkOption.NOFOLLOW_LINKS };
+
+    private final int parallelism;
+    private final boolean ordered;
+    private final AttributeReader attributeReader;
+
+    /**
+     * Creates a walker.
+     *
+     * @param parallelism number of directories read concurrently
+     * @param ordered     whether the entries are returned in the order of a sequential walk
+     */
+    public ParallelFileTreeWalker(int parallelism, boolean ordered) {
+        this(parallelism, ordered, path -> Files.readAttributes(path, BasicFileAttributes.class, NO_FOLLOW));
+    }
+
+    /**
+     * Creates a walker which reads the attributes of the entries with the given reader.
+     *
+     * @param parallelism     number of directories read concurrently
+     * @param ordered         whether the entries are returned in the order of a sequential walk
+     * @param attributeReader reads the attributes of an entry, without following symbolic links
+     */
+    ParallelFileTreeWalker(int parallelism, boolean ordered, AttributeReader attributeReader) {
+        this.parallelism = parallelism;
+        this.ordered = ordered;
+        this.attributeReader = attributeReader;
+    }
+
+    /**
+     * Walks the tree below the given root.
+     *
+     * @param root     root directory, which is not part of the result
+     * @param maxDepth maximum number of directory levels to visit
+     * @param filter   filter of the entries
+     * @return the accepted entries
+     * @throws IOException if a directory cannot be read
+     */
+    public List<WalkEntry> walk(Path root, int maxDepth, ReadDirFilter filter) throws IOException {
+        if (maxDepth < 1) {
+            return Collections.emptyList();
+        }
+        if (!ordered) {
+            Queue<WalkEntry> unorderedEntries = new ConcurrentLinkedQueue<>();
+            walk(root, maxDepth, filter, unorderedEntries::addAll);
+            return new ArrayList<>(unorderedEntries);
+        }
+        return invoke(new DirectoryTask(root, root, 1, maxDepth, filter.isEmpty() ? null : filter, null));
+    }
+
+    /**
+     * Walks the tree below the given root and hands over the accepted entries of each directory as soon as the
+     * directory is read, without holding the entries of the whole tree. The entries of different directories are
+     * handed over in no particular order and possibly concurrently.
+     *
+     * @param root      root directory, which is not part of the result
+     * @param maxDepth  maximum number of directory levels to visit
+     * @param filter    filter of the entries
+     * @param collector receives the accepted entries of each directory
+     * @throws IOException if a directory cannot be read
+     */
+    void walk(Path root, int maxDepth, ReadDirFilter filter, Consumer<List<WalkEntry>> collector) throws IOException {
+        if (maxDepth < 1) {
+            return;
+        }
+        invoke(new DirectoryTask(root, root, 1, maxDepth, filter.isEmpty() ? null : filter, collector));
+    }
+
+    private List<WalkEntry> invoke(DirectoryTask task) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism, new FileWorkerThreadFactory("walk"), null, false);
+        try {
+            return pool.invoke(task);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the attributes of an entry found by the walk.
+     */
+    @FunctionalInterface
+    interface AttributeReader {
+
+        BasicFileAttributes read(Path path) throws IOException;
+    }
+
+    /**
+     * A file or directory found by the walk, with the attributes read by the walk.
+     */
+    public static class WalkEntry {
+
+        private final Path path;
+        private final BasicFileAttributes attributes;
+
+        WalkEntry(Path path, BasicFileAttributes attributes) {
+            this.path = path;
+            this.attributes = attributes;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public BasicFileAttributes getAttributes() {
+            return attributes;
+        }
+    }
+
+    /**
+     * Reads a single directory and forks a task for each of its sub directories which should be walked.
+     */
+    private class DirectoryTask extends RecursiveTask<List<WalkEntry>> {
+
+        private final Path root;
+        private final Path directory;
+        private final int depth;
+        private final int maxDepth;
+        private final ReadDirFilter filter;
+        private final Consumer<List<WalkEntry>> collector;
+
+        DirectoryTask(Path root, Path directory, int depth, int maxDepth, ReadDirFilter filter,
+                      Consumer<List<WalkEntry>> collector) {
+            this.root = root;
+            this.directory = directory;
+            this.depth = depth;
+            this.maxDepth = maxDepth;
+            this.filter = filter;
+            this.collector = collector;
+        }
+
+        @Override
+        protected List<WalkEntry> compute() {
+            List<WalkEntry> entries = new ArrayList<>();
+            // In the ordered mode, the position in the entries after which the contents of each sub directory go.
+            List<Integer> positions = new ArrayList<>();
+            List<DirectoryTask> subTasks = new ArrayList<>();
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(directory)) {
+                for (Path child : children) {
+                    BasicFileAttributes attributes = attributeReader.read(child);
+                    if (filter != null) {
+                        Path relativePath = root.relativize(child);
+                        if (filter.isExcluded(relativePath)) {
+                            continue;
+                        }
+                        if (filter.accepts(relativePath, attributes)) {
+                            entries.add(new WalkEntry(child, attributes));
+                        }
+                    } else {
+                        entries.add(new WalkEntry(child, attributes));
+                    }
+                    if (attributes.isDirectory() && depth < maxDepth) {
+                        DirectoryTask subTask = new DirectoryTask(root, child, depth + 1, maxDepth, filter,
+                                                                  collector);
+                        if (collector != null) {
+                            // Started right away, the entries are not stitched together in the end.
+                            subTask.fork();
+                        }
+                        subTasks.add(subTask);
+                        positions.add(entries.size());
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (collector != null) {
+                collector.accept(entries);
+                for (DirectoryTask subTask : subTasks) {
+                    subTask.join();
+                }
+                return Collections.emptyList();
+            }
+            if (subTasks.isEmpty()) {
+                return entries;
+            }
+            invokeAll(subTasks);
+            List<WalkEntry> result = new ArrayList<>();
+            int start = 0;
+            for (int i = 0; i < subTasks.size(); i++) {
+                int position = positions.get(i);
+                result.addAll(entries.subList(start, position));
+                result.addAll(subTasks.get(i).join());
+                start = position;
+            }
+            result.addAll(entries.subList(start, entries.size()));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.regex.Pattern;
+
+/**
+ * Java representation of the {@code file:ReadDirFilter} record. The filter is evaluated on the attributes read by
+ * the tree walk, so that the entries which do not match are never converted to {@code FileInfo} objects.
+ * <p>
+ * Globs without a path separator are matched against the file name and the other globs and the regular expression
+ * against the path relative to the walked directory.
+ *
+ * @since 0.5.1
+ */
+public class ReadDirFilter {
+
+    /**
+     * Filter which accepts every entry.
+     */
+    public static final ReadDirFilter NONE = new ReadDirFilter(new PathMatcher[0], new PathMatcher[0], null,
+            -1, -1, -1, -1, false, false);
+
+    private final PathMatcher[] includes;
+    private final PathMatcher[] excludes;
+    private final Pattern pattern;
+    private final long minSize;
+    private final long maxSize;
+    private final long modifiedAfter;
+    private final long modifiedBefore;
+    private final boolean filesOnly;
+    private final boolean dirsOnly;
+
+    private ReadDirFilter(PathMatcher[] includes, PathMatcher[] excludes, Pattern pattern, long minSize,
+                          long maxSize, long modifiedAfter, long modifiedBefore, boolean filesOnly,
+                          boolean dirsOnly) {
+        this.includes = includes;
+        this.excludes = excludes;
+        this.pattern = pattern;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.modifiedAfter = modifiedAfter;
+        this.modifiedBefore = modifiedBefore;
+        this.filesOnly = filesOnly;
+        this.dirsOnly = dirsOnly;
+    }
+
+    /**
+     * Creates the filter of the given record.
+     *
+     * @param filter {@code file:ReadDirFilter} record
+     * @return the filter
+     * @throws IllegalArgumentException if a glob or the regular expression is invalid, or the options contradict
+     */
+    static ReadDirFilter fromRecord(MapValue<BString, Object> filter) {
+        FileSystem fileSystem = FileSystems.getDefault();
+        PathMatcher[] includes = getMatchers(fileSystem,
+                filter.getArrayValue(StringUtils.fromString(FileConstants.READ_DIR_FILTER_INCLUDE)));
+        PathMatcher[] excludes = getMatchers(fileSystem,
+                filter.getArrayValue(StringUtils.fromString(FileConstants.READ_DIR_FILTER_EXCLUDE)));
+        Object regex = filter.get(StringUtils.fromString(FileConstants.READ_DIR_FILTER_PATTERN));
+        Pattern pattern = regex instanceof BString ? Pattern.compile(((BString) regex).getValue()) : null;
+        long minSize = getOptionalInt(filter, FileConstants.READ_DIR_FILTER_MIN_SIZE);
+        long maxSize = getOptionalInt(filter, FileConstants.READ_DIR_FILTER_MAX_SIZE);
+        long modifiedAfter = getOptionalInt(filter, FileConstants.READ_DIR_FILTER_MODIFIED_AFTER);
+        long modifiedBefore = getOptionalInt(filter, FileConstants.READ_DIR_FILTER_MODIFIED_BEFORE);
+        boolean filesOnly = filter.getBooleanValue(StringUtils.fromString(FileConstants.READ_DIR_FILTER_FILES_ONLY));
+        boolean dirsOnly = filter.getBooleanValue(StringUtils.fromString(FileConstants.READ_DIR_FILTER_DIRS_ONLY));
+        if (filesOnly && dirsOnly) {
+            throw new IllegalArgumentException("filesOnly and dirsOnly cannot be used together");
+        }
+        if (minSize >= 0 && maxSize >= 0 && minSize > maxSize) {
+            throw new IllegalArgumentException("minSize " + minSize + " is greater than maxSize " + maxSize);
+        }
+        return new ReadDirFilter(includes, excludes, pattern, minSize, maxSize, modifiedAfter, modifiedBefore,
+                filesOnly, dirsOnly);
+    }
+
+    /**
+     * Creates a filter which only selects by the include and exclude globs, e.g. for the events of a directory
+     * listener.
+     *
+     * @param includes globs of the included entries, or empty to include every entry
+     * @param excludes globs of the excluded entries
+     * @return the filter
+     * @throws IllegalArgumentException if a glob is invalid
+     */
+    public static ReadDirFilter ofGlobs(String[] includes, String[] excludes) {
+        FileSystem fileSystem = FileSystems.getDefault();
+        return new ReadDirFilter(getMatchers(fileSystem, includes), getMatchers(fileSystem, excludes), null, -1, -1,
+                -1, -1, false, false);
+    }
+
+    private static PathMatcher[] getMatchers(FileSystem fileSystem, ArrayValue globs) {
+        return getMatchers(fileSystem, globs.getStringArray());
+    }
+
+    private static PathMatcher[] getMatchers(FileSystem fileSystem, String[] values) {
+        PathMatcher[] matchers = new PathMatcher[values.length];
+        for (int i = 0; i < values.length; i++) {
+            String glob = values[i];
+            PathMatcher matcher = fileSystem.getPathMatcher("glob:" + glob);
+            if (glob.indexOf('/') < 0 && glob.indexOf(fileSystem.getSeparator().charAt(0)) < 0) {
+                matchers[i] = path -> {
+                    Path fileName = path.getFileName();
+                    return fileName != null && matcher.matches(fileName);
+                };
+            } else {
+                matchers[i] = matcher;
+            }
+        }
+        return matchers;
+    }
+
+    private static long getOptionalInt(MapValue<BString, Object> filter, String field) {
+        Object value = filter.get(StringUtils.fromString(field));
+        return value instanceof Long ? (Long) value : -1;
+    }
+
+    /**
+     * Checks whether the entry is excluded. The walk does not descend into an excluded directory.
+     *
+     * @param relativePath path of the entry relative to the walked directory
+     * @return true if the entry is excluded
+     */
+    public boolean isExcluded(Path relativePath) {
+        return matchesAny(excludes, relativePath);
+    }
+
+    /**
+     * Checks whether the entry matches the include globs, if there are any.
+     *
+     * @param relativePath path of the entry relative to the walked directory
+     * @return true if there are no include globs or the entry matches one of them
+     */
+    public boolean isIncluded(Path relativePath) {
+        return includes.length == 0 || matchesAny(includes, relativePath);
+    }
+
+    /**
+     * Checks whether a entry which is not excluded is part of the result.
+     *
+     * @param relativePath path of the entry relative to the walked directory
+     * @param attributes   attributes of the entry
+     * @return true if the entry is part of the result
+     */
+    boolean accepts(Path relativePath, BasicFileAttributes attributes) {
+        boolean directory = attributes.isDirectory();
+        if (filesOnly && directory || dirsOnly && !directory) {
+            return false;
+        }
+        if (!directory && (minSize >= 0 && attributes.size() < minSize
+                || maxSize >= 0 && attributes.size() > maxSize)) {
+            return false;
+        }
+        if (modifiedAfter >= 0 || modifiedBefore >= 0) {
+            long modifiedTime = attributes.lastModifiedTime().toMillis();
+            if (modifiedAfter >= 0 && modifiedTime <= modifiedAfter
+                    || modifiedBefore >= 0 && modifiedTime >= modifiedBefore) {
+                return false;
+            }
+        }
+        if (!isIncluded(relativePath)) {
+            return false;
+        }
+        return pattern == null || pattern.matcher(relativePath.toString()).matches();
+    }
+
+    private static boolean matchesAny(PathMatcher[] matchers, Path path) {
+        for (PathMatcher matcher : matchers) {
+            if (matcher.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the filter accepts every entry, in which case the relative paths need not be computed.
+     */
+    public boolean isEmpty() {
+        return includes.length == 0 && excludes.length == 0 && pattern == null && minSize < 0 && maxSize < 0
+                && modifiedAfter < 0 && modifiedBefore < 0 && !filesOnly && !dirsOnly;
+    }
+}
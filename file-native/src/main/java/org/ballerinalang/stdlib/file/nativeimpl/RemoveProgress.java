@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+/**
+ * Receives the progress of the recursive removal of a directory.
+ *
+ * @since 0.5.1
+ */
+public interface RemoveProgress {
+
+    /**
+     * Called periodically while the entries of the directory are being deleted.
+     *
+     * @param filesDeleted       number of files deleted so far
+     * @param directoriesDeleted number of directories deleted so far
+     */
+    void update(long filesDeleted, long directoriesDeleted);
+}
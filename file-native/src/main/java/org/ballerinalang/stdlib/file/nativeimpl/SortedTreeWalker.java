@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Walks a directory tree depth first with the entries of each directory sorted by name, which visits the tree in
+ * the order of {@link #comparePaths}. Only the listings of the directories on the current branch are held in memory.
+ * <p>
+ * Paths are relative to the walked directory and always use {@code /} as the separator.
+ *
+ * @since 0.5.1
+ */
+class SortedTreeWalker {
+
+    private static final LinkOption[] NO_FOLLOW = { LinkOption.NOFOLLOW_LINKS };
+    static final char SEPARATOR = '/';
+
+    private final int maxDepth;
+    private final Deque<Level> levels = new ArrayDeque<>();
+    private boolean descended;
+
+    SortedTreeWalker(Path root, int maxDepth) throws IOException {
+        this.maxDepth = maxDepth;
+        if (maxDepth > 0) {
+            levels.push(new Level(root, "", 1));
+        }
+    }
+
+    /**
+     * Returns the next entry of the walk.
+     *
+     * @return the next entry or null if the walk is complete
+     * @throws IOException if a directory cannot be read
+     */
+    Entry next() throws IOException {
+        descended = false;
+        while (!levels.isEmpty()) {
+            Level level = levels.peek();
+            if (!level.names.hasNext()) {
+                levels.pop();
+                continue;
+            }
+            String name = level.names.next();
+            Path path = level.directory.resolve(name);
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(path, BasicFileAttributes.class, NO_FOLLOW);
+            } catch (NoSuchFileException e) {
+                // Removed after the directory was listed.
+                continue;
+            }
+            String relativePath = level.prefix + name;
+            if (attributes.isDirectory() && level.depth < maxDepth) {
+                levels.push(new Level(path, relativePath + SEPARATOR, level.depth + 1));
+                descended = true;
+            }
+            return new Entry(relativePath, attributes);
+        }
+        return null;
+    }
+
+    /**
+     * Skips the content of the directory returned by the last call to {@link #next}. Does nothing if the last entry
+     * is not a directory or its content is not visited.
+     */
+    void skipSubtree() {
+        if (descended) {
+            levels.pop();
+            descended = false;
+        }
+    }
+
+    /**
+     * Compares two relative paths component by component, which is the order of a depth first walk with the entries
+     * of each directory sorted by name. It equals comparing the paths as strings with the separator ordered before
+     * every other character.
+     *
+     * @param first  first path
+     * @param second second path
+     * @return a negative integer, zero or a positive integer as the first path is less than, equal to, or greater
+     * than the second path
+     */
+    static int comparePaths(String first, String second) {
+        int length = Math.min(first.length(), second.length());
+        for (int i = 0; i < length; i++) {
+            char a = first.charAt(i);
+            char b = second.charAt(i);
+            if (a != b) {
+                return (a == SEPARATOR ? -1 : a) - (b == SEPARATOR ? -1 : b);
+            }
+        }
+        return first.length() - second.length();
+    }
+
+    /**
+     * An entry of the walk with the attributes read by the walk.
+     */
+    static class Entry {
+
+        final String relativePath;
+        final BasicFileAttributes attributes;
+
+        Entry(String relativePath, BasicFileAttributes attributes) {
+            this.relativePath = relativePath;
+            this.attributes = attributes;
+        }
+    }
+
+    private static class Level {
+
+        private final Path directory;
+        private final String prefix;
+        private final int depth;
+        private final Iterator<String> names;
+
+        Level(Path directory, String prefix, int depth) throws IOException {
+            this.directory = directory;
+            this.prefix = prefix;
+            this.depth = depth;
+            List<String> children = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path child : stream) {
+                    children.add(child.getFileName().toString());
+                }
+            }
+            Collections.sort(children);
+            this.names = children.iterator();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import java.nio.file.Path;
+
+/**
+ * Receives the progress of a file content transfer.
+ *
+ * @since 0.5.1
+ */
+public interface TransferProgress {
+
+    /**
+     * Called on the copying thread after each chunk of the file is transferred, hence it should not wait.
+     *
+     * @param file        source file
+     * @param bytesCopied number of bytes of the file copied so far
+     * @param totalBytes  size of the file
+     */
+    void update(Path file, long bytesCopied, long totalBytes);
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Captures the state of a directory tree to a snapshot file and compares a tree with a snapshot.
+ * <p>
+ * A snapshot holds the path, type, size, modified time and file key of each entry, in the order of
+ * {@link SortedTreeWalker}. Each path is stored as the length of the prefix it shares with the previous path and the
+ * rest of the path. Since the tree is walked in the same order when it is compared, the snapshot and the walk are
+ * merged as two sorted sequences, and neither the snapshot nor the tree is held in memory.
+ *
+ * @since 0.5.1
+ */
+class TreeSnapshot {
+
+    private static final int MAGIC = 0x42465331;
+    private static final int VERSION = 1;
+    private static final byte END = 0;
+    private static final byte FILE = 1;
+    private static final byte DIRECTORY = 2;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private TreeSnapshot() {
+    }
+
+    /**
+     * Writes the snapshot of a tree. The snapshot file is replaced atomically, hence an existing snapshot is kept
+     * if the walk fails.
+     *
+     * @param root         root directory of the tree
+     * @param maxDepth     maximum number of directory levels to visit
+     * @param snapshotFile snapshot file
+     * @return the number of entries in the snapshot
+     * @throws IOException if the tree cannot be read or the snapshot cannot be written
+     */
+    static long write(Path root, int maxDepth, Path snapshotFile) throws IOException {
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        Path tempFile = parent.resolve("." + snapshotFile.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        long count = 0;
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempFile), BUFFER_SIZE))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(maxDepth);
+                SortedTreeWalker walker = new SortedTreeWalker(root, maxDepth);
+                String previousPath = "";
+                SortedTreeWalker.Entry entry;
+                while ((entry = walker.next()) != null) {
+                    BasicFileAttributes attributes = entry.attributes;
+                    int prefixLength = getCommonPrefixLength(previousPath, entry.relativePath);
+                    output.writeByte(attributes.isDirectory() ? DIRECTORY : FILE);
+                    output.writeInt(prefixLength);
+                    output.writeUTF(entry.relativePath.substring(prefixLength));
+                    output.writeLong(attributes.size());
+                    output.writeLong(attributes.lastModifiedTime().toMillis());
+                    output.writeInt(getFileKey(attributes));
+                    previousPath = entry.relativePath;
+                    count++;
+                }
+                output.writeByte(END);
+            }
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return count;
+    }
+
+    /**
+     * Compares a tree with a snapshot.
+     *
+     * @param snapshotFile snapshot file
+     * @param root         root directory of the tree
+     * @return the changes of the tree since the snapshot
+     * @throws IOException              if the tree or the snapshot cannot be read
+     * @throws IllegalArgumentException if the file is not a valid snapshot
+     */
+    static Changes diff(Path snapshotFile, Path root) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(snapshotFile), BUFFER_SIZE))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IllegalArgumentException("Invalid snapshot file " + snapshotFile);
+            }
+            SnapshotReader snapshot = new SnapshotReader(input);
+            SortedTreeWalker walker = new SortedTreeWalker(root, input.readInt());
+            Changes changes = new Changes();
+            boolean hasSnapshotEntry = snapshot.next();
+            SortedTreeWalker.Entry entry = walker.next();
+            while (hasSnapshotEntry || entry != null) {
+                int order = !hasSnapshotEntry ? 1 : entry == null ? -1
+                        : SortedTreeWalker.comparePaths(snapshot.path, entry.relativePath);
+                if (order < 0) {
+                    changes.removed.add(snapshot.path);
+                    hasSnapshotEntry = snapshot.next();
+                } else if (order > 0) {
+                    changes.added.add(entry.relativePath);
+                    entry = walker.next();
+                } else {
+                    if (snapshot.isModified(entry.attributes)) {
+                        changes.modified.add(entry.relativePath);
+                    }
+                    hasSnapshotEntry = snapshot.next();
+                    entry = walker.next();
+                }
+            }
+            return changes;
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("Truncated snapshot file " + snapshotFile);
+        }
+    }
+
+    private static int getCommonPrefixLength(String first, String second) {
+        int length = Math.min(first.length(), second.length());
+        int i = 0;
+        while (i < length && first.charAt(i) == second.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int getFileKey(BasicFileAttributes attributes) {
+        Object fileKey = attributes.fileKey();
+        return fileKey != null ? fileKey.hashCode() : 0;
+    }
+
+    /**
+     * Paths relative to the root of the tree which were added, removed or modified since the snapshot.
+     */
+    static class Changes {
+
+        final List<String> added = new ArrayList<>();
+        final List<String> removed = new ArrayList<>();
+        final List<String> modified = new ArrayList<>();
+    }
+
+    /**
+     * Reads the entries of a snapshot one at a time.
+     */
+    private static class SnapshotReader {
+
+        private final DataInputStream input;
+        private String path = "";
+        private boolean directory;
+        private long size;
+        private long modifiedTime;
+        private int fileKey;
+
+        SnapshotReader(DataInputStream input) {
+            this.input = input;
+        }
+
+        boolean next() throws IOException {
+            byte type = input.readByte();
+            if (type == END) {
+                return false;
+            }
+            if (type != FILE && type != DIRECTORY) {
+                throw new IllegalArgumentException("Invalid entry type " + type + " in the snapshot file");
+            }
+            int prefixLength = input.readInt();
+            if (prefixLength < 0 || prefixLength > path.length()) {
+                throw new IllegalArgumentException("Invalid path prefix length " + prefixLength
+                                                           + " in the snapshot file");
+            }
+            path = path.substring(0, prefixLength) + input.readUTF();
+            directory = type == DIRECTORY;
+            size = input.readLong();
+            modifiedTime = input.readLong();
+            fileKey = input.readInt();
+            return true;
+        }
+
+        /**
+         * Checks whether the current entry was modified. Only the type of a directory is compared, as the changes of
+         * its contents are reported separately.
+         */
+        boolean isModified(BasicFileAttributes attributes) {
+            if (directory != attributes.isDirectory()) {
+                return true;
+            }
+            return !directory && (size != attributes.size()
+                    || modifiedTime != attributes.lastModifiedTime().toMillis()
+                    || fileKey != getFileKey(attributes));
+        }
+    }
+}
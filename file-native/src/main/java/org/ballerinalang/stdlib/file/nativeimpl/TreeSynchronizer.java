@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
+
+/**
+ * Makes a destination tree a copy of a source tree by copying only the files which differ. A file is considered
+ * unchanged when the destination has a regular file with the same size and modified time, or, in checksum mode,
+ * with the same size and content. The modified time of each copied file is set to the time of the source file, so
+ * that the next synchronization can skip it. Entries of the destination which are not in the source can optionally
+ * be deleted. Like {@link ParallelFileCopier}, the files can be copied by a pool of workers and a failure to
+ * synchronize an entry does not stop the walk.
+ *
+ * @since 0.5.1
+ */
+class TreeSynchronizer extends SimpleFileVisitor<Path> {
+
+    private static final Logger log = LoggerFactory.getLogger(TreeSynchronizer.class);
+    private static final int PENDING_TASKS_PER_WORKER = 64;
+    private static final LinkOption[] NO_FOLLOW = {LinkOption.NOFOLLOW_LINKS};
+
+    private final Path source;
+    private final Path target;
+    private final boolean checksum;
+    private final boolean deleteExtraneous;
+    private final CopyOptions options;
+    private final ExecutorService workers;
+    private final Semaphore pendingTasks;
+    private final FileOperationFailures failures = new FileOperationFailures();
+    private final LongAdder filesCopied = new LongAdder();
+    private final LongAdder bytesCopied = new LongAdder();
+    private final LongAdder filesSkipped = new LongAdder();
+    private final LongAdder bytesSkipped = new LongAdder();
+    private final LongAdder entriesDeleted = new LongAdder();
+
+    /**
+     * Creates a synchronizer.
+     *
+     * @param source           source file or directory
+     * @param target           destination file or directory
+     * @param checksum         whether files of the same size are compared by content instead of modified time
+     * @param deleteExtraneous whether destination entries which are not in the source are deleted
+     * @param parallelism      number of concurrent file copies
+     * @param options          options of the file copies
+     */
+    TreeSynchronizer(Path source, Path target, boolean checksum, boolean deleteExtraneous, int parallelism,
+                     CopyOptions options) {
+        this.source = source;
+        this.target = target;
+        this.checksum = checksum;
+        this.deleteExtraneous = deleteExtraneous;
+        this.options = options;
+        if (parallelism > 1) {
+            this.workers = Executors.newFixedThreadPool(parallelism, new FileWorkerThreadFactory("sync"));
+            this.pendingTasks = new Semaphore(parallelism * PENDING_TASKS_PER_WORKER);
+        } else {
+            this.workers = null;
+            this.pendingTasks = null;
+        }
+    }
+
+    /**
+     * Synchronizes the target with the source and waits until all the copies are complete.
+     *
+     * @return the number of entries which failed to synchronize
+     * @throws IOException if the walk could not be started
+     */
+    int sync() throws IOException {
+        try {
+            Files.walkFileTree(source, this);
+        } finally {
+            if (workers != null) {
+                workers.shutdown();
+                awaitWorkers();
+            }
+        }
+        return failures.count();
+    }
+
+    List<FileOperationFailures.Failure> getFailures() {
+        return failures.getFailures();
+    }
+
+    long getFilesCopied() {
+        return filesCopied.sum();
+    }
+
+    long getBytesCopied() {
+        return bytesCopied.sum();
+    }
+
+    long getFilesSkipped() {
+        return filesSkipped.sum();
+    }
+
+    long getBytesSkipped() {
+        return bytesSkipped.sum();
+    }
+
+    long getEntriesDeleted() {
+        return entriesDeleted.sum();
+    }
+
+    @Override
+    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+        Path newDirectory = target.resolve(source.relativize(dir));
+        try {
+            if (!Files.isDirectory(newDirectory, NO_FOLLOW)) {
+                if (Files.exists(newDirectory, NO_FOLLOW)) {
+                    delete(newDirectory);
+                }
+                Files.copy(dir, newDirectory);
+            } else if (deleteExtraneous) {
+                deleteExtraneous(dir, newDirectory);
+            }
+        } catch (IOException | SecurityException e) {
+            addFailure(dir, e);
+            return SKIP_SUBTREE;
+        }
+        return CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+        Path newFile = target.resolve(source.relativize(file));
+        if (workers == null) {
+            syncFile(file, attrs, newFile);
+            return CONTINUE;
+        }
+        try {
+            pendingTasks.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            addFailure(file, e);
+            return FileVisitResult.TERMINATE;
+        }
+        workers.execute(() -> {
+            try {
+                syncFile(file, attrs, newFile);
+            } finally {
+                pendingTasks.release();
+            }
+        });
+        return CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+        addFailure(file, exc);
+        return CONTINUE;
+    }
+
+    private void syncFile(Path file, BasicFileAttributes attrs, Path newFile) {
+        try {
+            BasicFileAttributes targetAttrs = readAttributes(newFile);
+            if (targetAttrs != null && isUnchanged(file, attrs, newFile, targetAttrs)) {
+                filesSkipped.increment();
+                bytesSkipped.add(attrs.size());
+                return;
+            }
+            if (targetAttrs != null && targetAttrs.isDirectory()) {
+                delete(newFile);
+            }
+            Utils.copyFile(file, newFile, true, options);
+            Files.setLastModifiedTime(newFile, attrs.lastModifiedTime());
+            filesCopied.increment();
+            bytesCopied.add(attrs.size());
+        } catch (IOException | SecurityException e) {
+            addFailure(file, e);
+        }
+    }
+
+    private boolean isUnchanged(Path file, BasicFileAttributes attrs, Path newFile, BasicFileAttributes targetAttrs)
+            throws IOException {
+        if (!targetAttrs.isRegularFile() || targetAttrs.size() != attrs.size()) {
+            return false;
+        }
+        if (!checksum) {
+            return targetAttrs.lastModifiedTime().toMillis() == attrs.lastModifiedTime().toMillis();
+        }
+        String algorithm = FileConstants.CHECKSUM_XXH64;
+        if (!FileChecksum.compute(file, algorithm, 0, 1).equals(FileChecksum.compute(newFile, algorithm, 0, 1))) {
+            return false;
+        }
+        if (!targetAttrs.lastModifiedTime().equals(attrs.lastModifiedTime())) {
+            // Lets the next synchronization skip the file without reading it, if it is not in checksum mode.
+            Files.setLastModifiedTime(newFile, attrs.lastModifiedTime());
+        }
+        return true;
+    }
+
+    /**
+     * Deletes the entries of the target directory which do not exist in the source directory.
+     */
+    private void deleteExtraneous(Path dir, Path newDirectory) throws IOException {
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(newDirectory)) {
+            for (Path child : children) {
+                if (!Files.exists(dir.resolve(child.getFileName().toString()), NO_FOLLOW)) {
+                    delete(child);
+                    entriesDeleted.increment();
+                }
+            }
+        }
+    }
+
+    private static void delete(Path path) throws IOException {
+        if (Files.isDirectory(path, NO_FOLLOW)) {
+            Files.walkFileTree(path, new Utils.RecursiveFileVisitor());
+        } else {
+            Files.delete(path);
+        }
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) throws IOException {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class, NO_FOLLOW);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private void addFailure(Path path, Exception e) {
+        failures.add(path, e);
+        log.debug("Error while synchronizing " + path, e);
+    }
+
+    private void awaitWorkers() {
+        try {
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.debug("Waiting for the file copies from " + source + " to complete.");
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
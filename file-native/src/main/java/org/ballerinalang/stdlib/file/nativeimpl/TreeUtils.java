@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.nativeimpl;
+
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+import org.ballerinalang.stdlib.file.utils.FileUtils;
+import org.ballerinalang.stdlib.file.utils.MetadataCache;
+import org.ballerinalang.stdlib.file.utils.OperationMetrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Native function implementations of the operations on a directory tree as a whole: resumable copies, synchronization,
+ * removal, disk usage and snapshots.
+ *
+ * @since 0.5.1
+ */
+public class TreeUtils {
+    public static Object copyTreeWithCheckpoint(BString sourcePath, BString destinationPath, boolean replaceExisting,
+                                                long parallelism, MapValue<BString, Object> options,
+                                                Object checkpointPath) {
+        long startTime = OperationMetrics.start();
+        Object result = copyTreeResumably(sourcePath, destinationPath, replaceExisting, parallelism, options,
+                checkpointPath);
+        return OperationMetrics.record(FileConstants.OP_COPY_TREE, startTime, result);
+    }
+
+    private static Object copyTreeResumably(BString sourcePath, BString destinationPath, boolean replaceExisting,
+                                            long parallelism, MapValue<BString, Object> options,
+                                            Object checkpointPath) {
+        Path srcPath = Paths.get(sourcePath.getValue());
+        Path destPath = Paths.get(destinationPath.getValue());
+
+        CopyOptions copyOptions = CopyOptions.fromRecord(options);
+        Object validationError = Utils.validateCopy(srcPath, sourcePath, parallelism, copyOptions);
+        if (validationError != null) {
+            return validationError;
+        }
+        Path checkpointFile = checkpointPath instanceof BString ? Paths.get(((BString) checkpointPath).getValue())
+                : null;
+        CheckpointedFileCopier copier = new CheckpointedFileCopier(srcPath, destPath, replaceExisting,
+                (int) parallelism, copyOptions, checkpointFile);
+        try {
+            copier.copy();
+        } catch (IllegalArgumentException ex) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, ex.getMessage());
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } catch (SecurityException ex) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
+        } finally {
+            MetadataCache.invalidatePath(destPath, true);
+            OperationMetrics.addProcessed(FileConstants.OP_COPY_TREE, copier.getFilesCopied(),
+                    copier.getBytesCopied());
+        }
+        MapValue<BString, Object> result = BallerinaValues.createRecordValue(FileConstants.FILE_PACKAGE_ID,
+                FileConstants.COPY_RESULT_TYPE);
+        result.put(StringUtils.fromString(FileConstants.COPY_RESULT_FILES_COPIED), copier.getFilesCopied());
+        result.put(StringUtils.fromString(FileConstants.COPY_RESULT_BYTES_COPIED), copier.getBytesCopied());
+        result.put(StringUtils.fromString(FileConstants.COPY_RESULT_FILES_SKIPPED), copier.getFilesSkipped());
+        result.put(StringUtils.fromString(FileConstants.COPY_RESULT_FAILURES),
+                createCopyFailures(srcPath, copier.getFailures()));
+        return result;
+    }
+
+    private static ArrayValueImpl createCopyFailures(Path srcPath, List<CheckpointedFileCopier.Failure> failures) {
+        Object[] failureRecords = new Object[failures.size()];
+        for (int i = 0; i < failureRecords.length; i++) {
+            CheckpointedFileCopier.Failure failure = failures.get(i);
+            failureRecords[i] = createCopyFailure(srcPath.resolve(failure.relativePath), failure.message);
+        }
+        return createCopyFailureArray(failureRecords);
+    }
+
+    static ArrayValueImpl createCopyFailures(List<FileOperationFailures.Failure> failures) {
+        Object[] failureRecords = new Object[failures.size()];
+        for (int i = 0; i < failureRecords.length; i++) {
+            FileOperationFailures.Failure failure = failures.get(i);
+            failureRecords[i] = createCopyFailure(failure.path, failure.message);
+        }
+        return createCopyFailureArray(failureRecords);
+    }
+
+    private static MapValue<BString, Object> createCopyFailure(Path path, String message) {
+        MapValue<BString, Object> failureRecord = BallerinaValues.createRecordValue(FileConstants.FILE_PACKAGE_ID,
+                FileConstants.COPY_FAILURE_TYPE);
+        failureRecord.put(StringUtils.fromString(FileConstants.COPY_FAILURE_PATH),
+                StringUtils.fromString(path.toString()));
+        failureRecord.put(StringUtils.fromString(FileConstants.COPY_FAILURE_MESSAGE),
+                StringUtils.fromString(String.valueOf(message)));
+        return failureRecord;
+    }
+
+    private static ArrayValueImpl createCopyFailureArray(Object[] failureRecords) {
+        BType failureType = BallerinaValues.createRecordValue(FileConstants.FILE_PACKAGE_ID,
+                FileConstants.COPY_FAILURE_TYPE).getType();
+        return new ArrayValueImpl(failureRecords, new BArrayType(failureType));
+    }
+
+    public static Object sync(BString sourcePath, BString destinationPath, long parallelism,
+                              MapValue<BString, Object> options) {
+        long startTime = OperationMetrics.start();
+        Object result = syncTree(sourcePath, destinationPath, parallelism, options);
+        return OperationMetrics.record(FileConstants.OP_SYNC, startTime, result);
+    }
+
+    private static Object syncTree(BString sourcePath, BString destinationPath, long parallelism,
+                                   MapValue<BString, Object> options) {
+        Path srcPath = Paths.get(sourcePath.getValue());
+        Path destPath = Paths.get(destinationPath.getValue());
+
+        if (Files.notExists(srcPath)) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
+                    "File not found: " + sourcePath);
+        }
+        Object parallelismError = Utils.validateParallelism(parallelism);
+        if (parallelismError != null) {
+            return parallelismError;
+        }
+        boolean checksum = options.getBooleanValue(StringUtils.fromString(FileConstants.SYNC_OPTION_CHECKSUM));
+        boolean deleteExtraneous = options.getBooleanValue(
+                StringUtils.fromString(FileConstants.SYNC_OPTION_DELETE_EXTRANEOUS));
+        boolean verify = options.getBooleanValue(StringUtils.fromString(FileConstants.SYNC_OPTION_VERIFY));
+        TreeSynchronizer synchronizer = new TreeSynchronizer(srcPath, destPath, checksum, deleteExtraneous,
+                (int) parallelism, new CopyOptions(0, false, null, verify));
+        try {
+            synchronizer.sync();
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } catch (SecurityException ex) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
+        } finally {
+            MetadataCache.invalidatePath(destPath, true);
+            OperationMetrics.addProcessed(FileConstants.OP_SYNC, synchronizer.getFilesCopied(),
+                    synchronizer.getBytesCopied());
+        }
+        MapValue<BString, Object> summary = BallerinaValues.createRecordValue(FileConstants.FILE_PACKAGE_ID,
+                FileConstants.SYNC_SUMMARY_TYPE);
+        summary.put(StringUtils.fromString(FileConstants.SYNC_SUMMARY_FILES_COPIED), synchronizer.getFilesCopied());
+        summary.put(StringUtils.fromString(FileConstants.SYNC_SUMMARY_BYTES_COPIED), synchronizer.getBytesCopied());
+        summary.put(StringUtils.fromString(FileConstants.SYNC_SUMMARY_FILES_SKIPPED),
+                synchronizer.getFilesSkipped());
+        summary.put(StringUtils.fromString(FileConstants.SYNC_SUMMARY_BYTES_SKIPPED),
+                synchronizer.getBytesSkipped());
+        summary.put(StringUtils.fromString(FileConstants.SYNC_SUMMARY_ENTRIES_DELETED),
+                synchronizer.getEntriesDeleted());
+        summary.put(StringUtils.fromString(FileConstants.SYNC_SUMMARY_FAILURES),
+                createCopyFailures(synchronizer.getFailures()));
+        return summary;
+    }
+
+    public static Object removeTree(BString path, long parallelism, Object progress) {
+        long startTime = OperationMetrics.start();
+        Object result = removeDirectoryTree(path, parallelism, progress);
+        return OperationMetrics.record(FileConstants.OP_REMOVE_TREE, startTime, result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object removeDirectoryTree(BString path, long parallelism, Object progress) {
+        File removeFile = Paths.get(path.getValue()).toAbsolutePath().toFile();
+
+        Object parallelismError = Utils.validateParallelism(parallelism);
+        if (parallelismError != null) {
+            return parallelismError;
+        }
+        ParallelFileRemover remover;
+        try {
+            Object removeError = Utils.validateRemove(removeFile);
+            if (removeError != null) {
+                return removeError;
+            }
+            if (!removeFile.isDirectory()) {
+                return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                        "Not a directory: " + removeFile.getCanonicalPath());
+            }
+            RemoveProgress removeProgress = progress instanceof FPValue
+                    ? new FunctionRemoveProgress((FPValue<Object[], Object>) progress) : null;
+            remover = new ParallelFileRemover(Paths.get(removeFile.getCanonicalPath()), (int) parallelism,
+                    removeProgress);
+            remover.remove();
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } catch (SecurityException ex) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
+        } finally {
+            MetadataCache.invalidatePath(removeFile.toPath(), true);
+        }
+        OperationMetrics.addProcessed(FileConstants.OP_REMOVE_TREE,
+                remover.getDeletedFiles() + remover.getDeletedDirectories(), 0);
+        MapValue<BString, Object> result = BallerinaValues.createRecordValue(FileConstants.FILE_PACKAGE_ID,
+                FileConstants.REMOVE_RESULT_TYPE);
+        result.put(StringUtils.fromString(FileConstants.REMOVE_RESULT_FILES_DELETED), remover.getDeletedFiles());
+        result.put(StringUtils.fromString(FileConstants.REMOVE_RESULT_DIRECTORIES_DELETED),
+                remover.getDeletedDirectories());
+        result.put(StringUtils.fromString(FileConstants.REMOVE_RESULT_FAILURES),
+                createCopyFailures(remover.getFailures()));
+        return result;
+    }
+
+    public static Object diskUsage(BString path, long maxDepth, boolean breakdown, long parallelism) {
+        long startTime = OperationMetrics.start();
+        Object result = calculateDiskUsage(path, maxDepth, breakdown, parallelism);
+        return OperationMetrics.record(FileConstants.OP_DISK_USAGE, startTime, result);
+    }
+
+    private static Object calculateDiskUsage(BString path, long maxDepth, boolean breakdown, long parallelism) {
+        Path inputPath = Paths.get(path.getValue()).toAbsolutePath();
+        if (Files.notExists(inputPath)) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+        }
+        Object depthError = Utils.validateMaxDepth(maxDepth);
+        if (depthError != null) {
+            return depthError;
+        }
+        Object parallelismError = Utils.validateParallelism(parallelism);
+        if (parallelismError != null) {
+            return parallelismError;
+        }
+        try {
+            DiskUsageCalculator.Usage usage = new DiskUsageCalculator((int) parallelism)
+                    .calculate(inputPath, Utils.getWalkDepth(maxDepth), breakdown);
+            OperationMetrics.addProcessed(FileConstants.OP_DISK_USAGE, usage.getFileCount() + usage.getDirCount(),
+                    0);
+            return createDiskUsage(usage);
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } catch (SecurityException ex) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
+        }
+    }
+
+    private static MapValue<BString, Object> createDiskUsage(DiskUsageCalculator.Usage usage) {
+        MapValue<BString, Object> diskUsage = BallerinaValues.createRecordValue(FileConstants.FILE_PACKAGE_ID,
+                FileConstants.DISK_USAGE_TYPE);
+        diskUsage.put(StringUtils.fromString(FileConstants.DISK_USAGE_PATH),
+                StringUtils.fromString(usage.getPath().toString()));
+        diskUsage.put(StringUtils.fromString(FileConstants.DISK_USAGE_TOTAL_SIZE), usage.getSize());
+        diskUsage.put(StringUtils.fromString(FileConstants.DISK_USAGE_FILE_COUNT), usage.getFileCount());
+        diskUsage.put(StringUtils.fromString(FileConstants.DISK_USAGE_DIR_COUNT), usage.getDirCount());
+        List<DiskUsageCalculator.Usage> children = usage.getChildren();
+        Object[] childUsages = new Object[children.size()];
+        for (int i = 0; i < childUsages.length; i++) {
+            childUsages[i] = createDiskUsage(children.get(i));
+        }
+        diskUsage.put(StringUtils.fromString(FileConstants.DISK_USAGE_CHILDREN),
+                new ArrayValueImpl(childUsages, new BArrayType(diskUsage.getType())));
+        return diskUsage;
+    }
+
+    public static Object createSnapshot(BString path, BString snapshotPath, long maxDepth) {
+        long startTime = OperationMetrics.start();
+        Object result = writeSnapshot(path, snapshotPath, maxDepth);
+        return OperationMetrics.record(FileConstants.OP_CREATE_SNAPSHOT, startTime, result);
+    }
+
+    private static Object writeSnapshot(BString path, BString snapshotPath, long maxDepth) {
+        File inputFile = Paths.get(path.getValue()).toAbsolutePath().toFile();
+        Object validationError = Utils.validateReadDir(inputFile, path, maxDepth);
+        if (validationError != null) {
+            return validationError;
+        }
+        try {
+            long entries = TreeSnapshot.write(inputFile.toPath(), Utils.getWalkDepth(maxDepth),
+                    Paths.get(snapshotPath.getValue()));
+            OperationMetrics.addProcessed(FileConstants.OP_CREATE_SNAPSHOT, entries, 0);
+            return entries;
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } catch (SecurityException ex) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
+        }
+    }
+
+    public static Object diff(BString snapshotPath, BString path) {
+        long startTime = OperationMetrics.start();
+        Object result = diffSnapshot(snapshotPath, path);
+        return OperationMetrics.record(FileConstants.OP_DIFF, startTime, result);
+    }
+
+    private static Object diffSnapshot(BString snapshotPath, BString path) {
+        Path snapshotFile = Paths.get(snapshotPath.getValue());
+        if (Files.notExists(snapshotFile)) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
+                    "Snapshot file not found: " + snapshotPath);
+        }
+        File inputFile = Paths.get(path.getValue()).toAbsolutePath().toFile();
+        Object validationError = Utils.validateReadDir(inputFile, path, FileConstants.DEFAULT_MAX_DEPTH);
+        if (validationError != null) {
+            return validationError;
+        }
+        try {
+            TreeSnapshot.Changes changes = TreeSnapshot.diff(snapshotFile, inputFile.toPath());
+            MapValue<BString, Object> treeDiff = BallerinaValues.createRecordValue(FileConstants.FILE_PACKAGE_ID,
+                    FileConstants.TREE_DIFF_TYPE);
+            treeDiff.put(StringUtils.fromString(FileConstants.TREE_DIFF_ADDED), createStringArray(changes.added));
+            treeDiff.put(StringUtils.fromString(FileConstants.TREE_DIFF_REMOVED), createStringArray(changes.removed));
+            treeDiff.put(StringUtils.fromString(FileConstants.TREE_DIFF_MODIFIED),
+                    createStringArray(changes.modified));
+            return treeDiff;
+        } catch (IllegalArgumentException ex) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, ex.getMessage());
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } catch (SecurityException ex) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
+        }
+    }
+
+    private static ArrayValueImpl createStringArray(List<String> values) {
+        BString[] strings = new BString[values.size()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = StringUtils.fromString(values.get(i));
+        }
+        return new ArrayValueImpl(strings);
+    }
+}
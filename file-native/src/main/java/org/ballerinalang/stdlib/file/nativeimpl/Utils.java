@@ -21,18 +21,21 @@ package org.ballerinalang.stdlib.file.nativeimpl;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BType;
-import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.stdlib.file.utils.FileConstants;
 import org.ballerinalang.stdlib.file.utils.FileUtils;
+import org.ballerinalang.stdlib.file.utils.MetadataCache;
+import org.ballerinalang.stdlib.file.utils.OperationMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
@@ -41,7 +44,15 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
@@ -55,6 +66,8 @@ public class Utils {
     private static final Logger log = LoggerFactory.getLogger(Utils.class);
     private static final String CURRENT_DIR_PROPERTY_KEY = "user.dir";
     private static final String TEMP_DIR_PROPERTY_KEY = "java.io.tmpdir";
+    private static final ExecutorService BACKGROUND_REMOVER = new ThreadPoolExecutor(0, 1, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), new FileWorkerThreadFactory("remove-background"));
     private static BType fileInfoType;
 
     public static BString getCurrentDirectory() {
@@ -62,10 +75,31 @@ public class Utils {
     }
 
     public static boolean exists(BString path) {
+        long startTime = OperationMetrics.start();
+        boolean exists = checkExists(path);
+        OperationMetrics.record(FileConstants.OP_EXISTS, startTime, null);
+        return exists;
+    }
+
+    private static boolean checkExists(BString path) {
+        MetadataCache cache = MetadataCache.getInstance();
+        if (cache != null) {
+            try {
+                return cache.getAttributes(Paths.get(path.getValue())) != null;
+            } catch (IOException e) {
+                return false;
+            }
+        }
         return Files.exists(Paths.get(path.getValue()));
     }
 
     public static Object createDir(BString dir, boolean parentDirs) {
+        long startTime = OperationMetrics.start();
+        Object result = createDirectory(dir, parentDirs);
+        return OperationMetrics.record(FileConstants.OP_CREATE_DIR, startTime, result);
+    }
+
+    private static Object createDirectory(BString dir, boolean parentDirs) {
         try {
             Path dirPath;
             if (parentDirs) {
@@ -73,6 +107,7 @@ public class Utils {
             } else {
                 dirPath = Files.createDirectory(Paths.get(dir.getValue()));
             }
+            MetadataCache.invalidatePath(dirPath, false);
             return StringUtils.fromString(dirPath.toAbsolutePath().toString());
         } catch (FileAlreadyExistsException e) {
             String msg = "File already exists. Failed to create the file: " + dir;
@@ -94,6 +129,12 @@ public class Utils {
     }
 
     public static Object rename(BString oldPath, BString newPath) {
+        long startTime = OperationMetrics.start();
+        Object result = renamePath(oldPath, newPath);
+        return OperationMetrics.record(FileConstants.OP_RENAME, startTime, result);
+    }
+
+    private static Object renamePath(BString oldPath, BString newPath) {
         Path oldFilePath = Paths.get(oldPath.getValue());
         Path newFilePath = Paths.get(newPath.getValue());
 
@@ -104,6 +145,8 @@ public class Utils {
 
         try {
             Files.move(oldFilePath.toAbsolutePath(), newFilePath.toAbsolutePath());
+            MetadataCache.invalidatePath(oldFilePath, true);
+            MetadataCache.invalidatePath(newFilePath, true);
             return null;
         } catch (FileAlreadyExistsException e) {
             return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
@@ -120,8 +163,15 @@ public class Utils {
     }
 
     public static Object createFile(BString path) {
+        long startTime = OperationMetrics.start();
+        Object result = createNewFile(path);
+        return OperationMetrics.record(FileConstants.OP_CREATE_FILE, startTime, result);
+    }
+
+    private static Object createNewFile(BString path) {
         try {
             Path filepath = Files.createFile(Paths.get(path.getValue()));
+            MetadataCache.invalidatePath(filepath, false);
             return StringUtils.fromString(filepath.toAbsolutePath().toString());
         } catch (FileAlreadyExistsException e) {
             String msg = "File already exists. Failed to create the file: " + path;
@@ -146,37 +196,76 @@ public class Utils {
     }
 
     public static Object getFileInfo(BString path) {
-        File inputFile = Paths.get(path.getValue()).toAbsolutePath().toFile();
-        if (!inputFile.exists()) {
-            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
-        }
+        long startTime = OperationMetrics.start();
+        Object result = readFileInfo(path);
+        return OperationMetrics.record(FileConstants.OP_GET_FILE_INFO, startTime, result);
+    }
+
+    private static Object readFileInfo(BString path) {
+        Path inputPath = Paths.get(path.getValue()).toAbsolutePath();
         try {
-            return FileUtils.getFileInfo(inputFile);
+            BasicFileAttributes attributes = readAttributes(inputPath);
+            if (attributes == null) {
+                return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+            }
+            return FileUtils.getFileInfo(inputPath, attributes);
         } catch (IOException e) {
             log.error("IO error while creating the file " + path, e);
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
         }
     }
 
-    public static Object remove(BString path, boolean recursive) {
+    /**
+     * Reads the attributes of a file for getFileInfo, from the metadata cache if it is enabled.
+     *
+     * @param path absolute path of the file
+     * @return the attributes or null if the file does not exist
+     * @throws IOException if the attributes cannot be read
+     */
+    public static BasicFileAttributes readAttributes(Path path) throws IOException {
+        MetadataCache cache = MetadataCache.getInstance();
+        if (cache != null) {
+            return cache.getAttributes(path);
+        }
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    public static Object remove(BString path, boolean recursive, long parallelism, boolean background) {
+        long startTime = OperationMetrics.start();
+        Object result = removePath(path, recursive, parallelism, background);
+        return OperationMetrics.record(FileConstants.OP_REMOVE, startTime, result);
+    }
+
+    private static Object removePath(BString path, boolean recursive, long parallelism, boolean background) {
         File removeFile = Paths.get(path.getValue()).toAbsolutePath().toFile();
-        String wdBValue = FileUtils.getSystemProperty(CURRENT_DIR_PROPERTY_KEY);
-        File wd = Paths.get(wdBValue).toAbsolutePath().toFile();
 
+        Object parallelismError = validateParallelism(parallelism);
+        if (parallelismError != null) {
+            return parallelismError;
+        }
+        if (background && !recursive) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Removing in the background is only supported for recursive removal");
+        }
         try {
-            if (wd.getCanonicalPath().equals(removeFile.getCanonicalPath())) {
-                return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
-                        "Cannot delete the current working directory " + wd.getCanonicalPath());
-            }
-
-            if (!removeFile.exists()) {
-                return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
-                        "File not found: " + removeFile.getCanonicalPath());
+            Object removeError = validateRemove(removeFile);
+            if (removeError != null) {
+                return removeError;
             }
 
             if (recursive) {
                 Path directory = Paths.get(removeFile.getCanonicalPath());
-                Files.walkFileTree(directory, new RecursiveFileVisitor());
+                if (background) {
+                    return removeInBackground(directory, (int) parallelism);
+                }
+                String failureMessage = removeRecursively(directory, (int) parallelism);
+                if (failureMessage != null) {
+                    return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, failureMessage);
+                }
             } else {
                 if (!removeFile.delete()) {
                     return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR,
@@ -188,9 +277,77 @@ public class Utils {
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
         } catch (SecurityException ex) {
             return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
+        } finally {
+            MetadataCache.invalidatePath(removeFile.toPath(), recursive);
         }
     }
 
+    /**
+     * Checks that the given path exists and is not the current working directory.
+     *
+     * @param removeFile absolute path to delete
+     * @return an error if the path cannot be deleted or else null
+     * @throws IOException if the canonical path cannot be resolved
+     */
+    static Object validateRemove(File removeFile) throws IOException {
+        String wdBValue = FileUtils.getSystemProperty(CURRENT_DIR_PROPERTY_KEY);
+        File wd = Paths.get(wdBValue).toAbsolutePath().toFile();
+        if (wd.getCanonicalPath().equals(removeFile.getCanonicalPath())) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Cannot delete the current working directory " + wd.getCanonicalPath());
+        }
+        if (!removeFile.exists()) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
+                    "File not found: " + removeFile.getCanonicalPath());
+        }
+        return null;
+    }
+
+    /**
+     * Deletes the given path and everything below it.
+     *
+     * @param path        path to delete
+     * @param parallelism number of concurrent deletes
+     * @return a message describing the entries which could not be deleted or null if all the entries were deleted
+     * @throws IOException if the walk fails
+     */
+    private static String removeRecursively(Path path, int parallelism) throws IOException {
+        if (parallelism > 1 && Files.isDirectory(path)) {
+            ParallelFileRemover remover = new ParallelFileRemover(path, parallelism, null);
+            return remover.remove() > 0 ? remover.getFailureMessage() : null;
+        }
+        Files.walkFileTree(path, new RecursiveFileVisitor());
+        return null;
+    }
+
+    /**
+     * Atomically moves the path out of the way, to a hidden sibling, and deletes it in the background. Hence the
+     * path is free to be reused as soon as this returns.
+     * <p>
+     * The caller has already returned when the tree is deleted, so the failures of the deletion are only logged,
+     * with the hidden sibling which holds the entries left behind.
+     */
+    private static Object removeInBackground(Path path, int parallelism) throws IOException {
+        Path fileName = path.getFileName();
+        if (fileName == null) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Cannot delete the root directory " + path + " in the background");
+        }
+        Path trashPath = path.resolveSibling("." + fileName + ".deleting-" + UUID.randomUUID());
+        Files.move(path, trashPath, StandardCopyOption.ATOMIC_MOVE);
+        BACKGROUND_REMOVER.execute(() -> {
+            try {
+                String failureMessage = removeRecursively(trashPath, parallelism);
+                if (failureMessage != null) {
+                    log.error("Error while deleting " + trashPath + " in the background: " + failureMessage);
+                }
+            } catch (IOException | SecurityException e) {
+                log.error("Error while deleting " + trashPath + " in the background", e);
+            }
+        });
+        return null;
+    }
+
     static class RecursiveFileVisitor extends SimpleFileVisitor<Path> {
         @Override
         public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
@@ -205,9 +362,35 @@ public class Utils {
         }
     }
 
-    public static Object readDir(BString path, long maxDepth) {
+    public static Object readDir(BString path, long maxDepth, MapValue<BString, Object> filter, long parallelism,
+                                 boolean ordered) {
+        long startTime = OperationMetrics.start();
+        Object result = readDirectory(path, maxDepth, filter, parallelism, ordered);
+        return OperationMetrics.record(FileConstants.OP_READ_DIR, startTime, result);
+    }
+
+    private static Object readDirectory(BString path, long maxDepth, MapValue<BString, Object> filter, long parallelism,
+                                        boolean ordered) {
         File inputFile = Paths.get(path.getValue()).toAbsolutePath().toFile();
+        Object validationError = validateReadDir(inputFile, path, maxDepth);
+        if (validationError != null) {
+            return validationError;
+        }
+        Object parallelismError = validateParallelism(parallelism);
+        if (parallelismError != null) {
+            return parallelismError;
+        }
+        ReadDirFilter readDirFilter;
+        try {
+            readDirFilter = ReadDirFilter.fromRecord(filter);
+        } catch (IllegalArgumentException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid filter: " + e.getMessage());
+        }
+        return readFileTree(inputFile, getWalkDepth(maxDepth), readDirFilter, (int) parallelism, ordered);
+    }
 
+    static Object validateReadDir(File inputFile, BString path, long maxDepth) {
         if (!inputFile.exists()) {
             return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
                     "File not found: " + path);
@@ -217,65 +400,256 @@ public class Utils {
             return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
                     "File in path " + path + " is not a directory");
         }
+        return validateMaxDepth(maxDepth);
+    }
 
-        if (maxDepth == FileConstants.DEFAULT_MAX_DEPTH) {
-            // If the user has not given a value, read all levels
-            return readFileTree(inputFile, Integer.MAX_VALUE);
-        } else if (maxDepth > FileConstants.DEFAULT_MAX_DEPTH && maxDepth < Integer.MAX_VALUE) {
-            // If the user has given a valid depth level, read up-to that level
-            return readFileTree(inputFile, Math.toIntExact(maxDepth));
-        } else {
+    /**
+     * Validates the maximum depth of a walk, where the default value stands for all the levels.
+     *
+     * @return an error if the depth is invalid or else null
+     */
+    static Object validateMaxDepth(long maxDepth) {
+        if (maxDepth != FileConstants.DEFAULT_MAX_DEPTH
+                && (maxDepth < FileConstants.DEFAULT_MAX_DEPTH || maxDepth >= Integer.MAX_VALUE)) {
             return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
                     "Invalid maxDepth value " + maxDepth);
         }
+        return null;
     }
 
-    private static Object readFileTree(File inputFile, int maxDepth) {
-        ObjectValue[] results;
-        try (Stream<Path> walk = Files.walk(inputFile.toPath(), maxDepth)) {
-            results = walk.map(x -> {
-                try {
-                    ObjectValue objectValue = FileUtils.getFileInfo(x.toFile());
-                    fileInfoType = objectValue.getType();
-                    return objectValue;
-                } catch (IOException e) {
-                    throw new BallerinaException("Error while accessing file info", e);
+    /**
+     * Validates the number of concurrent file operations requested by the user.
+     *
+     * @return an error if the parallelism is invalid or else null
+     */
+    static Object validateParallelism(long parallelism) {
+        if (parallelism < 1 || parallelism > FileConstants.MAX_PARALLELISM) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid parallelism value " + parallelism);
+        }
+        return null;
+    }
+
+    static int getWalkDepth(long maxDepth) {
+        if (maxDepth == FileConstants.DEFAULT_MAX_DEPTH) {
+            // If the user has not given a value, read all levels
+            return Integer.MAX_VALUE;
+        }
+        // If the user has given a valid depth level, read up-to that level
+        return Math.toIntExact(maxDepth);
+    }
+
+    private static Object readFileTree(File inputFile, int maxDepth, ReadDirFilter filter, int parallelism,
+                                       boolean ordered) {
+        try {
+            List<ObjectValue> entries;
+            if (parallelism > 1) {
+                // The FileInfo objects are created on the calling strand once the parallel walk is complete.
+                List<ParallelFileTreeWalker.WalkEntry> walkEntries = new ParallelFileTreeWalker(parallelism, ordered)
+                        .walk(inputFile.toPath(), maxDepth, filter);
+                entries = new ArrayList<>(walkEntries.size());
+                for (ParallelFileTreeWalker.WalkEntry entry : walkEntries) {
+                    entries.add(FileUtils.getFileInfo(entry.getPath(), entry.getAttributes()));
                 }
-            }).skip(1).toArray(ObjectValue[]::new);
+            } else {
+                entries = collectFileTree(inputFile.toPath(), maxDepth, filter, FileUtils::getFileInfo);
+            }
+            ObjectValue[] results = entries.toArray(new ObjectValue[0]);
+            OperationMetrics.addProcessed(FileConstants.OP_READ_DIR, results.length, 0);
+            if (results.length > 0) {
+                fileInfoType = results[0].getType();
+            }
             return new ArrayValueImpl(results, new BArrayType(fileInfoType));
-        } catch (IOException | BallerinaException ex) {
+        } catch (IOException ex) {
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
         } catch (SecurityException ex) {
             return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
         }
     }
 
-    public static Object copy(BString sourcePath, BString destinationPath, boolean replaceExisting) {
+    /**
+     * Walks the tree below the given root and maps each entry with the attributes read by the walk, without reading
+     * the attributes again.
+     *
+     * @param root     root directory, which is not part of the result
+     * @param maxDepth maximum number of directory levels to visit
+     * @param filter   filter of the entries, applied before the mapper
+     * @param mapper   creates the result entry of a path
+     * @param <T>      type of the result entries
+     * @return the entries in the walk order
+     * @throws IOException if the walk fails
+     */
+    public static <T> List<T> collectFileTree(Path root, int maxDepth, ReadDirFilter filter,
+                                              BiFunction<Path, BasicFileAttributes, T> mapper) throws IOException {
+        FileInfoCollector<T> collector = new FileInfoCollector<>(root, filter, mapper);
+        Files.walkFileTree(root, EnumSet.noneOf(FileVisitOption.class), maxDepth, collector);
+        return collector.entries;
+    }
+
+    static class FileInfoCollector<T> extends SimpleFileVisitor<Path> {
+
+        final Path root;
+        final ReadDirFilter filter;
+        final BiFunction<Path, BasicFileAttributes, T> mapper;
+        final List<T> entries = new ArrayList<>();
+
+        FileInfoCollector(Path root, ReadDirFilter filter, BiFunction<Path, BasicFileAttributes, T> mapper) {
+            this.root = root;
+            this.filter = filter.isEmpty() ? null : filter;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            // The root directory itself is not part of the result.
+            if (dir.equals(root)) {
+                return CONTINUE;
+            }
+            return addEntry(dir, attrs) ? CONTINUE : SKIP_SUBTREE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            // The root is visited as a file when the depth is 0.
+            if (!file.equals(root)) {
+                addEntry(file, attrs);
+            }
+            return CONTINUE;
+        }
+
+        /**
+         * Adds the entry if the filter accepts it.
+         *
+         * @return false if the entry is excluded, and hence a directory should not be walked
+         */
+        private boolean addEntry(Path path, BasicFileAttributes attrs) {
+            if (filter == null) {
+                entries.add(mapper.apply(path, attrs));
+                return true;
+            }
+            Path relativePath = root.relativize(path);
+            if (filter.isExcluded(relativePath)) {
+                return false;
+            }
+            if (filter.accepts(relativePath, attrs)) {
+                entries.add(mapper.apply(path, attrs));
+            }
+            return true;
+        }
+    }
+
+    public static Object copy(BString sourcePath, BString destinationPath, boolean replaceExisting,
+                              long parallelism, MapValue<BString, Object> options) {
+        long startTime = OperationMetrics.start();
+        Object result = copyPath(sourcePath, destinationPath, replaceExisting, parallelism, options);
+        return OperationMetrics.record(FileConstants.OP_COPY, startTime, result);
+    }
+
+    private static Object copyPath(BString sourcePath, BString destinationPath, boolean replaceExisting,
+                                   long parallelism, MapValue<BString, Object> options) {
         Path srcPath = Paths.get(sourcePath.getValue());
         Path destPath = Paths.get(destinationPath.getValue());
 
+        CopyOptions copyOptions = CopyOptions.fromRecord(options);
+        Object validationError = validateCopy(srcPath, sourcePath, parallelism, copyOptions);
+        if (validationError != null) {
+            return validationError;
+        }
+        return copyTree(srcPath, destPath, replaceExisting, (int) parallelism, copyOptions);
+    }
+
+    /**
+     * Validates the source, parallelism and options of a copy.
+     *
+     * @return an error if the copy cannot be started or else null
+     */
+    static Object validateCopy(Path srcPath, BString sourcePath, long parallelism, CopyOptions copyOptions) {
         if (Files.notExists(srcPath)) {
             return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
                     "File not found: " + sourcePath);
         }
+        Object parallelismError = validateParallelism(parallelism);
+        if (parallelismError != null) {
+            return parallelismError;
+        }
+        if (copyOptions.getRequestedChunkSize() < 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid chunkSize value " + copyOptions.getRequestedChunkSize());
+        }
+        if (copyOptions.getProgress() != null && parallelism > 1) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Progress callback is not supported when copying in parallel");
+        }
+        return null;
+    }
+
+    /**
+     * Copies the file or directory tree in the source path to the destination path.
+     *
+     * @param srcPath         source path
+     * @param destPath        destination path
+     * @param replaceExisting whether existing files in the destination should be replaced
+     * @param parallelism     number of concurrent file copies
+     * @param options         copy options
+     * @return an error if the copy failed or else null
+     */
+    public static Object copyTree(Path srcPath, Path destPath, boolean replaceExisting, int parallelism,
+                                  CopyOptions options) {
         try {
-            Files.walkFileTree(srcPath, new RecursiveFileCopyVisitor(srcPath, destPath, replaceExisting));
+            if (parallelism > 1 && Files.isDirectory(srcPath)) {
+                ParallelFileCopier copier = new ParallelFileCopier(srcPath, destPath, replaceExisting, parallelism,
+                        options);
+                int failures = copier.copy();
+                OperationMetrics.addProcessed(FileConstants.OP_COPY, copier.getFilesCopied(),
+                        copier.getBytesCopied());
+                if (failures > 0) {
+                    return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, copier.getFailureMessage());
+                }
+            } else {
+                RecursiveFileCopyVisitor visitor = new RecursiveFileCopyVisitor(srcPath, destPath, replaceExisting,
+                        options);
+                try {
+                    Files.walkFileTree(srcPath, visitor);
+                } finally {
+                    OperationMetrics.addProcessed(FileConstants.OP_COPY, visitor.filesCopied, visitor.bytesCopied);
+                }
+            }
         } catch (IOException ex) {
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } finally {
+            MetadataCache.invalidatePath(destPath, true);
         }
         return null;
     }
 
+    /**
+     * Copies the content of a single file, with channel transfers if the options require them.
+     */
+    static void copyFile(Path file, Path newFile, boolean replaceExisting, CopyOptions options)
+            throws IOException {
+        if (options.useChannelTransfer()) {
+            FileTransfer.transfer(file, newFile, replaceExisting, options);
+        } else if (replaceExisting) {
+            Files.copy(file, newFile, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.copy(file, newFile);
+        }
+    }
+
     static class RecursiveFileCopyVisitor extends SimpleFileVisitor<Path> {
 
         final Path source;
         final Path target;
         final boolean replaceExisting;
+        final CopyOptions options;
+        long filesCopied;
+        long bytesCopied;
 
-        RecursiveFileCopyVisitor(Path source, Path target, boolean replaceExisting) {
+        RecursiveFileCopyVisitor(Path source, Path target, boolean replaceExisting, CopyOptions options) {
             this.source = source;
             this.target = target;
             this.replaceExisting = replaceExisting;
+            this.options = options;
         }
 
         @Override
@@ -287,6 +661,10 @@ public class Utils {
                 try {
                     Files.copy(dir, newDirectory);
                 } catch (FileAlreadyExistsException ioException) {
+                    if (options.isResume() && Files.isDirectory(newDirectory)) {
+                        // A partially copied directory, continue with its content.
+                        return CONTINUE;
+                    }
                     log.debug("Directory already exists in the path " + dir.toString() + ", Hence skipping " +
                             "the subtree.");
                     return SKIP_SUBTREE; // skip processing
@@ -298,16 +676,12 @@ public class Utils {
         @Override
         public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
             Path newFile = target.resolve(source.relativize(file));
-            if (replaceExisting) {
-                Files.copy(file, newFile, StandardCopyOption.REPLACE_EXISTING);
-            } else {
-                try {
-                    Files.copy(file, newFile);
-                } catch (FileAlreadyExistsException ioException) {
-                    log.debug("File already exists in the path " + file.toString() + ", Hence skipping " +
-                            "the subtree.");
-                    return SKIP_SUBTREE; // skip processing
-                }
+            try {
+                copyFile(file, newFile, replaceExisting, options);
+                filesCopied++;
+                bytesCopied += attrs.size();
+            } catch (FileAlreadyExistsException ioException) {
+                log.debug("File already exists in the path " + newFile + ", Hence skipping the file.");
             }
             return CONTINUE;
         }
@@ -29,14 +29,23 @@ import org.slf4j.LoggerFactory;
 public class DirectoryCallback implements CallableUnitCallback {
 
     private static final Logger log = LoggerFactory.getLogger(DirectoryCallback.class);
+    private final EventDispatcher dispatcher;
+    private final long startTime;
+
+    public DirectoryCallback(EventDispatcher dispatcher, long startTime) {
+        this.dispatcher = dispatcher;
+        this.startTime = startTime;
+    }
 
     @Override
     public void notifySuccess() {
+        dispatcher.complete(startTime, false);
         log.debug("File Listener: event deliver successfully.");
     }
 
     @Override
     public void notifyFailure(ErrorValue error) {
+        dispatcher.complete(startTime, true);
         log.debug("File Listener: event deliver failed.");
     }
 }
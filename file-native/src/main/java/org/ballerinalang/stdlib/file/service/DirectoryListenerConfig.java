@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.nativeimpl.ReadDirFilter;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Java representation of the {@code file:ListenerConfig} record.
+ */
+public class DirectoryListenerConfig {
+
+    private final String path;
+    private final boolean recursive;
+    private final List<WatchedPath> watchedPaths;
+    private final long debounce;
+    private final boolean coalesce;
+    private final long maxInFlight;
+    private final long queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long maxBatchSize;
+    private final long maxBatchDelay;
+    private final ListenerMode mode;
+    private final long pollInterval;
+    private final long stopTimeout;
+    private final long minSize;
+    private final Set<String> eventTypes;
+
+    private DirectoryListenerConfig(MapValue<BString, Object> config) {
+        BString pathValue = config.getStringValue(DirectoryListenerConstants.ANNOTATION_PATH);
+        this.path = pathValue != null ? pathValue.getValue() : null;
+        this.recursive = config.getBooleanValue(DirectoryListenerConstants.ANNOTATION_DIRECTORY_RECURSIVE);
+        this.watchedPaths = getWatchedPaths(path, recursive,
+                                            config.getArrayValue(DirectoryListenerConstants.ANNOTATION_PATHS),
+                                            getStrings(config, DirectoryListenerConstants.ANNOTATION_INCLUDE),
+                                            getStrings(config, DirectoryListenerConstants.ANNOTATION_EXCLUDE));
+        this.debounce = config.getIntValue(DirectoryListenerConstants.ANNOTATION_DEBOUNCE);
+        this.coalesce = config.getBooleanValue(DirectoryListenerConstants.ANNOTATION_COALESCE);
+        this.maxInFlight = config.getIntValue(DirectoryListenerConstants.ANNOTATION_MAX_IN_FLIGHT);
+        this.queueCapacity = config.getIntValue(DirectoryListenerConstants.ANNOTATION_QUEUE_CAPACITY);
+        this.overflowPolicy = OverflowPolicy.valueOf(
+                config.getStringValue(DirectoryListenerConstants.ANNOTATION_OVERFLOW_POLICY).getValue());
+        this.maxBatchSize = config.getIntValue(DirectoryListenerConstants.ANNOTATION_MAX_BATCH_SIZE);
+        this.maxBatchDelay = config.getIntValue(DirectoryListenerConstants.ANNOTATION_MAX_BATCH_DELAY);
+        this.mode = ListenerMode.valueOf(
+                config.getStringValue(DirectoryListenerConstants.ANNOTATION_MODE).getValue().toUpperCase(Locale.ROOT));
+        this.pollInterval = config.getIntValue(DirectoryListenerConstants.ANNOTATION_POLL_INTERVAL);
+        this.stopTimeout = config.getIntValue(DirectoryListenerConstants.ANNOTATION_STOP_TIMEOUT);
+        Object minSizeValue = config.get(DirectoryListenerConstants.ANNOTATION_MIN_SIZE);
+        this.minSize = minSizeValue instanceof Long ? (Long) minSizeValue : -1;
+        this.eventTypes = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+                getStrings(config, DirectoryListenerConstants.ANNOTATION_EVENTS))));
+    }
+
+    /**
+     * Creates the configuration of the given record.
+     *
+     * @param config {@code file:ListenerConfig} record
+     * @return the configuration
+     * @throws IllegalArgumentException if an include or exclude glob is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public static DirectoryListenerConfig fromRecord(MapValue config) {
+        return new DirectoryListenerConfig((MapValue<BString, Object>) config);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public boolean isRecursive() {
+        return recursive;
+    }
+
+    /**
+     * Returns the directories to listen to: the {@code path}, if it is set, followed by the {@code paths}.
+     *
+     * @return the listened directories
+     */
+    public List<WatchedPath> getWatchedPaths() {
+        return watchedPaths;
+    }
+
+    public long getDebounce() {
+        return debounce;
+    }
+
+    public boolean isCoalesce() {
+        return coalesce;
+    }
+
+    public long getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public long getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getMaxBatchDelay() {
+        return maxBatchDelay;
+    }
+
+    public ListenerMode getMode() {
+        return mode;
+    }
+
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
+    public long getStopTimeout() {
+        return stopTimeout;
+    }
+
+    /**
+     * Returns the minimum size of the files whose create and modify events are delivered, or -1 if there is no
+     * minimum.
+     *
+     * @return the minimum file size in bytes
+     */
+    public long getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * Returns the event types delivered to the service, or an empty set if all of them are delivered.
+     *
+     * @return the delivered event types
+     */
+    public Set<String> getEventTypes() {
+        return eventTypes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<WatchedPath> getWatchedPaths(String path, boolean recursive, ArrayValue paths,
+                                                     String[] include, String[] exclude) {
+        List<WatchedPath> watchedPaths = new ArrayList<>();
+        ReadDirFilter filter = ReadDirFilter.ofGlobs(include, exclude);
+        if (path != null && !path.isEmpty()) {
+            watchedPaths.add(new WatchedPath(Paths.get(path), recursive, filter));
+        }
+        if (paths != null) {
+            for (int i = 0; i < paths.size(); i++) {
+                Object value = paths.get(i);
+                if (value instanceof BString) {
+                    // A plain path takes the settings of the listener.
+                    watchedPaths.add(new WatchedPath(Paths.get(((BString) value).getValue()), recursive, filter));
+                } else {
+                    MapValue<BString, Object> watchedPath = (MapValue<BString, Object>) value;
+                    // The includes of the path replace the ones of the listener, while its excludes are added.
+                    String[] pathInclude = getStrings(watchedPath, DirectoryListenerConstants.WATCHED_PATH_INCLUDE);
+                    String[] pathExclude = getStrings(watchedPath, DirectoryListenerConstants.WATCHED_PATH_EXCLUDE);
+                    watchedPaths.add(new WatchedPath(
+                            Paths.get(watchedPath.getStringValue(DirectoryListenerConstants.WATCHED_PATH_PATH)
+                                              .getValue()),
+                            watchedPath.getBooleanValue(DirectoryListenerConstants.WATCHED_PATH_RECURSIVE),
+                            ReadDirFilter.ofGlobs(pathInclude.length > 0 ? pathInclude : include,
+                                                  concat(exclude, pathExclude))));
+                }
+            }
+        }
+        return Collections.unmodifiableList(watchedPaths);
+    }
+
+    private static String[] getStrings(MapValue<BString, Object> config, BString field) {
+        ArrayValue values = config.getArrayValue(field);
+        return values != null ? values.getStringArray() : new String[0];
+    }
+
+    private static String[] concat(String[] first, String[] second) {
+        String[] values = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, values, first.length, second.length);
+        return values;
+    }
+}
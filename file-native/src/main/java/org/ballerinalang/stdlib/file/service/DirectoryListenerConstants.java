@@ -34,17 +34,59 @@ public class DirectoryListenerConstants {
     public static final BString ANNOTATION_PATH = StringUtils.fromString("path");
     public static final BString ANNOTATION_DIRECTORY_RECURSIVE = StringUtils.fromString(
             Constants.DIRECTORY_WATCH_RECURSIVE);
+    public static final BString ANNOTATION_PATHS = StringUtils.fromString("paths");
+    public static final BString ANNOTATION_DEBOUNCE = StringUtils.fromString("debounce");
+    public static final BString ANNOTATION_COALESCE = StringUtils.fromString("coalesce");
+    public static final BString ANNOTATION_MAX_IN_FLIGHT = StringUtils.fromString("maxInFlight");
+    public static final BString ANNOTATION_QUEUE_CAPACITY = StringUtils.fromString("queueCapacity");
+    public static final BString ANNOTATION_OVERFLOW_POLICY = StringUtils.fromString("overflowPolicy");
+    public static final BString ANNOTATION_MAX_BATCH_SIZE = StringUtils.fromString("maxBatchSize");
+    public static final BString ANNOTATION_MAX_BATCH_DELAY = StringUtils.fromString("maxBatchDelay");
+    public static final BString ANNOTATION_MODE = StringUtils.fromString("mode");
+    public static final BString ANNOTATION_POLL_INTERVAL = StringUtils.fromString("pollInterval");
+    public static final BString ANNOTATION_STOP_TIMEOUT = StringUtils.fromString("stopTimeout");
+    public static final BString ANNOTATION_INCLUDE = StringUtils.fromString("include");
+    public static final BString ANNOTATION_EXCLUDE = StringUtils.fromString("exclude");
+    public static final BString ANNOTATION_MIN_SIZE = StringUtils.fromString("minSize");
+    public static final BString ANNOTATION_EVENTS = StringUtils.fromString("events");
+
+    // WatchedPath record field names
+    public static final BString WATCHED_PATH_PATH = StringUtils.fromString("path");
+    public static final BString WATCHED_PATH_RECURSIVE = StringUtils.fromString("recursive");
+    public static final BString WATCHED_PATH_INCLUDE = StringUtils.fromString("include");
+    public static final BString WATCHED_PATH_EXCLUDE = StringUtils.fromString("exclude");
 
     public static final String FILE_SYSTEM_EVENT = "FileEvent";
-    public static final String FS_SERVER_CONNECTOR = "serverConnector";
+    public static final String LISTENER_SERVICES = "listenerServices";
+    public static final String LISTENER_METRICS = "listenerMetrics";
     public static final BString SERVICE_ENDPOINT_CONFIG = StringUtils.fromString("config");
 
+    // ListenerStats record field names
+    public static final String LISTENER_STATS = "ListenerStats";
+    public static final String LISTENER_STATS_SERVICE_CREATE_EVENTS = "serviceCreateEvents";
+    public static final String LISTENER_STATS_SERVICE_DELETE_EVENTS = "serviceDeleteEvents";
+    public static final String LISTENER_STATS_SERVICE_MODIFY_EVENTS = "serviceModifyEvents";
+    public static final String LISTENER_STATS_SUPPRESSED_EVENTS = "suppressedEvents";
+    public static final String LISTENER_STATS_UNREGISTERED_EVENTS = "unregisteredEvents";
+    public static final String LISTENER_STATS_SERVICE_FILTERED_EVENTS = "serviceFilteredEvents";
+    public static final String LISTENER_STATS_DROPPED_EVENTS = "droppedEvents";
+    public static final String LISTENER_STATS_DISPATCHED = "dispatchedInvocations";
+    public static final String LISTENER_STATS_FAILED = "failedInvocations";
+    public static final String LISTENER_STATS_IN_FLIGHT = "inFlightInvocations";
+    public static final String LISTENER_STATS_QUEUE_DEPTH = "queueDepth";
+    public static final String LISTENER_STATS_EXECUTION_TIME = "executionTime";
+    public static final String LISTENER_STATS_LAG = "lag";
+
     public static final String EVENT_CREATE = Constants.EVENT_CREATE;
     public static final String EVENT_DELETE = Constants.EVENT_DELETE;
     public static final String EVENT_MODIFY = Constants.EVENT_MODIFY;
+    public static final String EVENT_OVERFLOW = "overflow";
+    public static final String EVENT_BATCH = "batch";
 
     public static final String RESOURCE_NAME_ON_CREATE = "onCreate";
     public static final String RESOURCE_NAME_ON_DELETE = "onDelete";
     public static final String RESOURCE_NAME_ON_MODIFY = "onModify";
+    public static final String RESOURCE_NAME_ON_OVERFLOW = "onOverflow";
+    public static final String RESOURCE_NAME_ON_BATCH = "onBatch";
     public static final String RESOURCE_NAME_ON_MESSAGE = "onMessage";
 }
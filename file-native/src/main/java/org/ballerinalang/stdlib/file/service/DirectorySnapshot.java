@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.stdlib.file.service;
+
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Index of a single directory as seen by the last scan of the {@link PollingServerConnector}. Entries are keyed by
+ * file name rather than by path and sub directories hang off their entry, which keeps the index of a large tree
+ * compact.
+ */
+class DirectorySnapshot {
+
+    // Directory listings newer than this are scanned again even when the modified time of the directory is unchanged,
+    // since file systems with a coarse timestamp resolution can hide a change made within the same tick.
+    private static final long RACY_WINDOW_MILLIS = 2000;
+
+    private Map<String, Entry> entries = Collections.emptyMap();
+    private long modifiedTime = -1;
+    private long scannedAt;
+
+    Map<String, Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Checks whether the children listed by the last scan are still the children of the directory.
+     *
+     * @param directoryModifiedTime current modified time of the directory
+     * @return true if the directory need not be listed again
+     */
+    boolean isListingValid(long directoryModifiedTime) {
+        return directoryModifiedTime == modifiedTime && directoryModifiedTime < scannedAt - RACY_WINDOW_MILLIS;
+    }
+
+    void update(Map<String, Entry> entries, long directoryModifiedTime, long scannedAt) {
+        this.entries = entries;
+        this.modifiedTime = directoryModifiedTime;
+        this.scannedAt = scannedAt;
+    }
+
+    /**
+     * State of a single file or directory in the snapshot.
+     */
+    static class Entry {
+
+        private final long size;
+        private final long modifiedTime;
+        private final int fileKey;
+        private final boolean directory;
+        private DirectorySnapshot children;
+
+        Entry(BasicFileAttributes attributes) {
+            this.size = attributes.size();
+            this.modifiedTime = attributes.lastModifiedTime().toMillis();
+            Object key = attributes.fileKey();
+            this.fileKey = key != null ? key.hashCode() : 0;
+            this.directory = attributes.isDirectory();
+        }
+
+        boolean isDirectory() {
+            return directory;
+        }
+
+        boolean isModified(BasicFileAttributes attributes) {
+            Object key = attributes.fileKey();
+            return size != attributes.size() || modifiedTime != attributes.lastModifiedTime().toMillis()
+                    || fileKey != (key != null ? key.hashCode() : 0) || directory != attributes.isDirectory();
+        }
+
+        boolean isModified(Entry entry) {
+            return size != entry.size || modifiedTime != entry.modifiedTime || fileKey != entry.fileKey;
+        }
+
+        DirectorySnapshot getChildren() {
+            return children;
+        }
+
+        void setChildren(DirectorySnapshot children) {
+            this.children = children;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Accumulates file system events into batches. A batch is delivered when it reaches the maximum batch size or
+ * when the maximum batch delay has passed since its first event, whichever happens first.
+ */
+public class EventBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EventBatcher.class);
+
+    private final int maxBatchSize;
+    private final long maxBatchDelay;
+    private final Consumer<List<LocalFileSystemEvent>> downstream;
+    private final ScheduledExecutorService timer;
+    private final Executor executor;
+    private List<LocalFileSystemEvent> batch;
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Creates a batcher whose batch deadlines are scheduled on a timer and flushed on an executor, so that the
+     * batches are delivered in the order of the other events of the listener.
+     *
+     * @param maxBatchSize  maximum number of events of a batch
+     * @param maxBatchDelay maximum delay of a batch since its first event, in milliseconds
+     * @param timer         timer which schedules the batch deadlines
+     * @param executor      executor which flushes the batches whose deadline has passed
+     * @param downstream    receiver of the batches
+     */
+    public EventBatcher(int maxBatchSize, long maxBatchDelay, ScheduledExecutorService timer, Executor executor,
+                        Consumer<List<LocalFileSystemEvent>> downstream) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelay = maxBatchDelay;
+        this.downstream = downstream;
+        this.batch = new ArrayList<>(maxBatchSize);
+        this.timer = timer;
+        this.executor = executor;
+    }
+
+    /**
+     * Adds an event to the current batch.
+     *
+     * @param event file system event
+     */
+    public void add(LocalFileSystemEvent event) {
+        List<LocalFileSystemEvent> fullBatch = null;
+        synchronized (this) {
+            batch.add(event);
+            if (batch.size() >= maxBatchSize) {
+                fullBatch = takeBatch();
+            } else if (batch.size() == 1) {
+                scheduledFlush = timer.schedule(() -> executor.execute(this::flush), maxBatchDelay,
+                                                TimeUnit.MILLISECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            deliver(fullBatch);
+        }
+    }
+
+    /**
+     * Delivers the current batch, if it has any events.
+     */
+    public void flush() {
+        List<LocalFileSystemEvent> pendingBatch;
+        synchronized (this) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            pendingBatch = takeBatch();
+        }
+        deliver(pendingBatch);
+    }
+
+    /**
+     * Cancels the deadline of the current batch. Events of the current batch are discarded.
+     */
+    public synchronized void stop() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        batch.clear();
+    }
+
+    private List<LocalFileSystemEvent> takeBatch() {
+        List<LocalFileSystemEvent> pendingBatch = batch;
+        batch = new ArrayList<>(maxBatchSize);
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return pendingBatch;
+    }
+
+    private void deliver(List<LocalFileSystemEvent> events) {
+        try {
+            downstream.accept(events);
+        } catch (RuntimeException e) {
+            log.error("Error while delivering a batch of " + events.size() + " events", e);
+        }
+    }
+}
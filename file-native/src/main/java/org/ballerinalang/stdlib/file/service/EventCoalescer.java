@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemEvent;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_CREATE;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_DELETE;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_MODIFY;
+
+/**
+ * Holds back the file system events of each path until the path has been quiet for the debounce window, so that a
+ * file which is being written triggers a single notification once it settles.
+ * <p>
+ * Consecutive events of the same type are always collapsed into one. When coalescing is enabled, the events of a
+ * path are merged into the net change over the window: create followed by modify is a create, create followed by
+ * delete is nothing, delete followed by create is a modify and anything followed by delete is a delete.
+ */
+public class EventCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(EventCoalescer.class);
+    private static final long MIN_SWEEP_INTERVAL = 10;
+
+    private final long windowNanos;
+    private final boolean coalesce;
+    private final Consumer<LocalFileSystemEvent> downstream;
+    private final ScheduledFuture<?> sweep;
+    // Access ordered, hence the path which was quiet for the longest time is always at the head.
+    private final LinkedHashMap<String, PendingEvents> pending = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong receivedEvents = new AtomicLong();
+    private final AtomicLong deliveredEvents = new AtomicLong();
+
+    /**
+     * Creates a coalescer whose debounce sweeps are scheduled on a timer and run on an executor, so that the settled
+     * events are delivered in the order of the other events of the listener.
+     *
+     * @param windowMillis debounce window in milliseconds
+     * @param coalesce     whether the events of a path are merged into its net change
+     * @param timer        timer which schedules the sweeps
+     * @param executor     executor which runs the sweeps and delivers the settled events
+     * @param downstream   receiver of the settled events
+     */
+    public EventCoalescer(long windowMillis, boolean coalesce, ScheduledExecutorService timer, Executor executor,
+                          Consumer<LocalFileSystemEvent> downstream) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.coalesce = coalesce;
+        this.downstream = downstream;
+        long sweepInterval = Math.max(MIN_SWEEP_INTERVAL, windowMillis / 4);
+        this.sweep = timer.scheduleWithFixedDelay(() -> executor.execute(() -> flush(false)), sweepInterval,
+                                                  sweepInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds an event to the pending events of its path and restarts the debounce window of the path.
+     *
+     * @param event file system event
+     */
+    public void submit(LocalFileSystemEvent event) {
+        receivedEvents.incrementAndGet();
+        long now = ReceivedEvent.getReceivedTime(event);
+        synchronized (pending) {
+            PendingEvents events = pending.get(event.getFileName());
+            if (events == null) {
+                events = new PendingEvents();
+                pending.put(event.getFileName(), events);
+            }
+            events.add(event.getEvent(), now);
+        }
+    }
+
+    /**
+     * Stops the debounce timer. Pending events are discarded.
+     */
+    public void stop() {
+        sweep.cancel(false);
+    }
+
+    /**
+     * Delivers all the pending events without waiting for their paths to settle, e.g. before the listener stops.
+     */
+    public void flushAll() {
+        flush(true);
+    }
+
+    public long getReceivedEvents() {
+        return receivedEvents.get();
+    }
+
+    public long getDeliveredEvents() {
+        return deliveredEvents.get();
+    }
+
+    public long getSuppressedEvents() {
+        long pendingEvents;
+        synchronized (pending) {
+            pendingEvents = pending.values().stream().mapToLong(events -> events.received).sum();
+        }
+        return receivedEvents.get() - pendingEvents - deliveredEvents.get();
+    }
+
+    private void flush(boolean all) {
+        List<LocalFileSystemEvent> settled = new ArrayList<>();
+        long now = System.nanoTime();
+        synchronized (pending) {
+            Iterator<Map.Entry<String, PendingEvents>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, PendingEvents> entry = iterator.next();
+                if (!all && now - entry.getValue().lastEventTime < windowNanos) {
+                    break;
+                }
+                iterator.remove();
+                addSettledEvents(entry.getKey(), entry.getValue(), settled);
+            }
+        }
+        for (LocalFileSystemEvent event : settled) {
+            deliveredEvents.incrementAndGet();
+            try {
+                downstream.accept(event);
+            } catch (RuntimeException e) {
+                log.error("Error while delivering the event [" + event.getEvent() + "] " + event.getFileName(), e);
+            }
+        }
+        if (!settled.isEmpty() && log.isDebugEnabled()) {
+            log.debug("File Listener: delivered " + deliveredEvents.get() + " of " + receivedEvents.get()
+                    + " events, " + getSuppressedEvents() + " suppressed.");
+        }
+    }
+
+    private void addSettledEvents(String path, PendingEvents events, List<LocalFileSystemEvent> settled) {
+        if (!coalesce) {
+            for (String event : events.types) {
+                settled.add(new ReceivedEvent(path, event, events.firstEventTime));
+            }
+            return;
+        }
+        String first = events.types.get(0);
+        String last = events.types.get(events.types.size() - 1);
+        String merged;
+        if (EVENT_DELETE.equals(last)) {
+            // A file which was created and deleted within the window was never visible.
+            merged = EVENT_CREATE.equals(first) ? null : EVENT_DELETE;
+        } else if (EVENT_CREATE.equals(first)) {
+            merged = EVENT_CREATE;
+        } else {
+            // The file existed before the window and still exists, hence it has been modified.
+            merged = events.types.size() == 1 ? first : EVENT_MODIFY;
+        }
+        if (merged != null) {
+            settled.add(new ReceivedEvent(path, merged, events.firstEventTime));
+        }
+    }
+
+    /**
+     * Events of a path received within the current window, with consecutive duplicates collapsed.
+     */
+    private static class PendingEvents {
+
+        final List<String> types = new ArrayList<>(2);
+        long received;
+        long firstEventTime;
+        long lastEventTime;
+
+        void add(String type, long time) {
+            if (types.isEmpty()) {
+                firstEventTime = time;
+            }
+            if (types.isEmpty() || !types.get(types.size() - 1).equals(type)) {
+                types.add(type);
+            }
+            received++;
+            lastEventTime = time;
+        }
+    }
+}
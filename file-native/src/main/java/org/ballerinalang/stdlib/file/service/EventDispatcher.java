@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.ballerinalang.jvm.BRuntime;
+import org.ballerinalang.jvm.scheduling.StrandMetadata;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.ballerinalang.jvm.util.BLangConstants.BALLERINA_BUILTIN_PKG_PREFIX;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.MODULE_NAME;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.MODULE_VERSION;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.RESOURCE_NAME_ON_MESSAGE;
+
+/**
+ * Invokes the service resources for the file system events. When the number of in-flight invocations is bounded,
+ * the events are queued and invoked as the previous invocations complete, which makes the listener throughput adapt
+ * to the speed of the service. The queue is drained on the {@link SerialExecutor} of the listener, hence on the
+ * event pool shared by all the listeners, and no thread is dedicated to a service. The {@link DirectoryCallback} of
+ * each invocation releases its permit, schedules the next queued invocation and records its execution time in the
+ * {@link ListenerMetrics}, which also lets a graceful stop wait for the queued and in-flight invocations to complete.
+ * <p>
+ * With the {@link OverflowPolicy#BLOCK} policy, an invocation which does not fit in the full queue waits aside and the
+ * {@link SerialExecutor} of the listener is suspended until the queue has space for it. The thread of the shared
+ * event pool which dispatched it is released instead of blocking on the queue, and the events received meanwhile wait
+ * in the suspended executor.
+ */
+public class EventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EventDispatcher.class);
+    private static final StrandMetadata ON_MESSAGE_METADATA = new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX,
+                                                                                 MODULE_NAME, MODULE_VERSION,
+                                                                                 RESOURCE_NAME_ON_MESSAGE);
+
+    private final BRuntime runtime;
+    private final ObjectValue service;
+    private final Semaphore permits;
+    private final BlockingQueue<Invocation> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final Supplier<Invocation> overflowEvent;
+    private final ListenerMetrics metrics;
+    private final SerialExecutor eventExecutor;
+    // Invocations of the BLOCK policy which did not fit in the queue, guarded by itself.
+    private final Queue<Invocation> waiting = new ArrayDeque<>();
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Invocations which are queued or in flight, decremented once they complete or are dropped.
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Object idle = new Object();
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean stopped;
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param runtime        Ballerina runtime
+     * @param service        service of the resources
+     * @param maxInFlight    maximum number of concurrent invocations or 0 for no limit
+     * @param queueCapacity  maximum number of events waiting for an invocation
+     * @param overflowPolicy action taken when an event is received while the queue is full
+     * @param overflowEvent  creates the invocation which notifies the service of an overflow or null
+     * @param metrics        metrics of the listener
+     * @param eventExecutor  executor which dispatches the events and drains the queue, suspended while the queue is
+     *                       full with the {@link OverflowPolicy#BLOCK} policy
+     */
+    public EventDispatcher(BRuntime runtime, ObjectValue service, int maxInFlight, int queueCapacity,
+                           OverflowPolicy overflowPolicy, Supplier<Invocation> overflowEvent,
+                           ListenerMetrics metrics, SerialExecutor eventExecutor) {
+        this.runtime = runtime;
+        this.service = service;
+        this.overflowPolicy = overflowPolicy;
+        this.overflowEvent = overflowEvent;
+        this.metrics = metrics;
+        this.eventExecutor = eventExecutor;
+        if (maxInFlight > 0) {
+            this.permits = new Semaphore(maxInFlight);
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        } else {
+            this.permits = null;
+            this.queue = null;
+        }
+    }
+
+    /**
+     * Invokes the resource, or queues the invocation if the maximum number of invocations are in flight. Never
+     * blocks the calling thread, which is expected to be the thread running the event executor.
+     *
+     * @param invocation resource invocation
+     */
+    public void dispatch(Invocation invocation) {
+        pending.incrementAndGet();
+        if (queue == null) {
+            invoke(invocation);
+            return;
+        }
+        enqueue(invocation);
+        dispatchQueued();
+    }
+
+    private void enqueue(Invocation invocation) {
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            synchronized (waiting) {
+                // The waiting invocations go first, to keep the events in order.
+                if (waiting.isEmpty() && queue.offer(invocation)) {
+                    return;
+                }
+                waiting.add(invocation);
+                eventExecutor.suspend();
+            }
+            return;
+        }
+        if (queue.offer(invocation)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                while (!queue.offer(invocation)) {
+                    Invocation oldest = queue.poll();
+                    if (oldest != null) {
+                        drop(oldest);
+                    }
+                }
+                break;
+            case OVERFLOW:
+            default:
+                drop(invocation);
+                overflowed.set(true);
+        }
+    }
+
+    /**
+     * Releases the permit of a completed invocation.
+     *
+     * @param startTime time the invocation was started
+     * @param failed    whether the resource returned an error
+     */
+    void complete(long startTime, boolean failed) {
+        metrics.invocationCompleted(startTime, failed);
+        inFlight.decrementAndGet();
+        if (permits != null) {
+            permits.release();
+            // Runs ahead of the events, as the executor may be suspended until a queued invocation is taken.
+            eventExecutor.executeAhead(this::dispatchQueued);
+        }
+        release();
+    }
+
+    /**
+     * Waits until the queued and in-flight invocations have completed.
+     *
+     * @param timeoutNanos maximum time to wait in nanoseconds
+     * @return true if the invocations completed, false if the timeout elapsed
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean awaitIdle(long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        synchronized (idle) {
+            while (pending.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(idle, remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops dispatching the queued events. The queued events are discarded, while the in-flight invocations run to
+     * completion as the Ballerina strands cannot be cancelled.
+     */
+    public void stop() {
+        stopped = true;
+        if (queue != null) {
+            Invocation invocation;
+            while ((invocation = queue.poll()) != null) {
+                drop(invocation);
+            }
+            synchronized (waiting) {
+                while ((invocation = waiting.poll()) != null) {
+                    drop(invocation);
+                }
+            }
+            eventExecutor.resume();
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getQueueDepth() {
+        if (queue == null) {
+            return 0;
+        }
+        synchronized (waiting) {
+            return queue.size() + waiting.size();
+        }
+    }
+
+    public long getDispatched() {
+        return dispatched.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Invokes the queued invocations while there are free permits. Runs on the event executor, hence never
+     * concurrently with itself or with {@link #dispatch(Invocation)}.
+     */
+    private void dispatchQueued() {
+        while (!stopped && permits.tryAcquire()) {
+            Invocation invocation = nextQueued();
+            if (invocation == null) {
+                permits.release();
+                return;
+            }
+            invoke(invocation);
+        }
+    }
+
+    private Invocation nextQueued() {
+        if (overflowed.compareAndSet(true, false) && overflowEvent != null) {
+            pending.incrementAndGet();
+            return overflowEvent.get();
+        }
+        Invocation invocation = queue.poll();
+        if (invocation != null) {
+            takeWaiting();
+        }
+        return invocation;
+    }
+
+    private void takeWaiting() {
+        synchronized (waiting) {
+            if (waiting.isEmpty()) {
+                return;
+            }
+            Invocation invocation;
+            while ((invocation = waiting.peek()) != null && queue.offer(invocation)) {
+                waiting.poll();
+            }
+            if (waiting.isEmpty()) {
+                eventExecutor.resume();
+            }
+        }
+    }
+
+    private void invoke(Invocation invocation) {
+        inFlight.incrementAndGet();
+        dispatched.incrementAndGet();
+        long startTime = System.nanoTime();
+        metrics.invocationStarted(invocation.receivedTime, startTime);
+        try {
+            runtime.invokeMethodAsync(service, invocation.resourceName, null, ON_MESSAGE_METADATA,
+                                      new DirectoryCallback(this, startTime), invocation.parameters);
+        } catch (RuntimeException e) {
+            // The dispatch carries on with the next event, hence the failure is only recorded.
+            log.error("File Listener: unable to invoke the resource " + invocation.resourceName, e);
+            complete(startTime, true);
+        }
+    }
+
+    private void drop(Invocation invocation) {
+        dropped.incrementAndGet();
+        log.debug("File Listener: event dropped for the resource " + invocation.resourceName);
+        release();
+    }
+
+    private void release() {
+        if (pending.decrementAndGet() == 0) {
+            synchronized (idle) {
+                idle.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * A resource invocation waiting to be dispatched.
+     */
+    public static class Invocation {
+
+        final String resourceName;
+        final Object[] parameters;
+        final long receivedTime;
+
+        /**
+         * Creates an invocation.
+         *
+         * @param resourceName name of the resource
+         * @param parameters   parameters of the resource
+         * @param receivedTime time the oldest event of the invocation was received, as given by
+         *                     {@link System#nanoTime()}
+         */
+        public Invocation(String resourceName, Object[] parameters, long receivedTime) {
+            this.resourceName = resourceName;
+            this.parameters = parameters;
+            this.receivedTime = receivedTime;
+        }
+    }
+}
@@ -21,23 +21,36 @@ package org.ballerinalang.stdlib.file.service;
 import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.StringUtils;
-import org.ballerinalang.jvm.scheduling.StrandMetadata;
 import org.ballerinalang.jvm.types.AttachedFunction;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.utils.MetadataCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemEvent;
 import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemListener;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
-import static org.ballerinalang.jvm.util.BLangConstants.BALLERINA_BUILTIN_PKG_PREFIX;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_BATCH;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_DELETE;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_OVERFLOW;
 import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.FILE_SYSTEM_EVENT;
-import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.MODULE_NAME;
-import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.MODULE_VERSION;
-import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.RESOURCE_NAME_ON_MESSAGE;
 import static org.ballerinalang.stdlib.file.utils.FileConstants.FILE_EVENT_NAME;
 import static org.ballerinalang.stdlib.file.utils.FileConstants.FILE_EVENT_OPERATION;
 import static org.ballerinalang.stdlib.file.utils.FileConstants.FILE_PACKAGE_ID;
@@ -48,37 +61,237 @@ import static org.ballerinalang.stdlib.file.utils.FileConstants.FILE_PACKAGE_ID;
 public class FSListener implements LocalFileSystemListener {
 
     private static final Logger log = LoggerFactory.getLogger(FSListener.class);
-    private BRuntime runtime;
-    private ObjectValue service;
     private Map<String, AttachedFunction> attachedFunctionRegistry;
-    private static final StrandMetadata ON_MESSAGE_METADATA = new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX,
-                                                                                 MODULE_NAME, MODULE_VERSION,
-                                                                                 RESOURCE_NAME_ON_MESSAGE);
+    private EventCoalescer coalescer;
+    private EventDispatcher dispatcher;
+    private EventBatcher batcher;
+    private final ListenerMetrics metrics;
+    private final SharedExecutors executors;
+    // Suspended by the BLOCK policy while the dispatch queue is full, the events received meanwhile wait in it.
+    private final SerialExecutor eventExecutor;
+    private final List<WatchedPath> watchedPaths;
+    private final boolean pathFilter;
+    private final long minSize;
+    private volatile boolean stopping;
+    private volatile boolean stopped;
 
-    public FSListener(BRuntime runtime, ObjectValue service, Map<String, AttachedFunction> resourceRegistry) {
-        this.runtime = runtime;
-        this.service = service;
+    public FSListener(BRuntime runtime, ObjectValue service, Map<String, AttachedFunction> resourceRegistry,
+                      DirectoryListenerConfig config, ListenerMetrics metrics) {
         this.attachedFunctionRegistry = resourceRegistry;
+        this.metrics = metrics;
+        this.watchedPaths = config.getWatchedPaths();
+        this.pathFilter = watchedPaths.stream().anyMatch(WatchedPath::hasFilter);
+        this.minSize = config.getMinSize();
+        this.executors = SharedExecutors.acquire();
+        // The events of the listener are processed in order, on the event pool shared by all the listeners.
+        this.eventExecutor = new SerialExecutor(executors.getEventPool());
+        AttachedFunction overflowResource = resourceRegistry.get(EVENT_OVERFLOW);
+        Supplier<EventDispatcher.Invocation> overflowEvent = null;
+        if (overflowResource != null) {
+            LocalFileSystemEvent event = new LocalFileSystemEvent(getListenedPath(config), EVENT_OVERFLOW);
+            overflowEvent = () -> new EventDispatcher.Invocation(overflowResource.getName(),
+                                                                 getJvmSignatureParameters(event),
+                                                                 System.nanoTime());
+        }
+        this.dispatcher = new EventDispatcher(runtime, service, (int) config.getMaxInFlight(),
+                                              (int) config.getQueueCapacity(), config.getOverflowPolicy(),
+                                              overflowEvent, metrics, eventExecutor);
+        AttachedFunction batchResource = resourceRegistry.get(EVENT_BATCH);
+        if (batchResource != null) {
+            this.batcher = new EventBatcher((int) config.getMaxBatchSize(), config.getMaxBatchDelay(),
+                    executors.getTimer(), eventExecutor,
+                    events -> dispatcher.dispatch(new EventDispatcher.Invocation(batchResource.getName(),
+                                                                                 getJvmSignatureParameters(events),
+                                                                                 getReceivedTime(events))));
+        }
+        if (config.getDebounce() > 0) {
+            this.coalescer = new EventCoalescer(config.getDebounce(), config.isCoalesce(), executors.getTimer(),
+                                                eventExecutor, this::dispatch);
+        }
+        metrics.attach(dispatcher, coalescer);
     }
 
     @Override
     public void onMessage(LocalFileSystemEvent fileEvent) {
-        Object[] parameters = getJvmSignatureParameters(fileEvent);
+        if (stopping) {
+            return;
+        }
+        long receivedTime = System.nanoTime();
+        metrics.eventReceived(fileEvent.getEvent());
+        Path path = Paths.get(fileEvent.getFileName());
+        // Applied as soon as the event is received, even when its delivery is held back or queued.
+        MetadataCache.invalidatePath(path, EVENT_DELETE.equals(fileEvent.getEvent()));
+        // Filtered before any Ballerina value is created for the event. Only the globs are matched on the watcher
+        // thread, which is shared by all the listeners, the file size is checked once the event is dispatched.
+        if (isExcluded(path)) {
+            metrics.eventFiltered();
+            return;
+        }
+        // The event is processed later, hence its receipt time is kept to measure the lag until it is delivered.
+        LocalFileSystemEvent receivedEvent = new ReceivedEvent(fileEvent.getFileName(), fileEvent.getEvent(),
+                                                               receivedTime);
+        if (coalescer != null) {
+            coalescer.submit(receivedEvent);
+        } else {
+            // Keeps the watcher thread, which is shared by all the listeners, free of the resource dispatch. The
+            // watcher never waits for a listener whose queue is full, its events are held back in its own executor.
+            eventExecutor.execute(() -> dispatch(receivedEvent));
+        }
+    }
+
+    /**
+     * Stops the listener once the events it has received are delivered and their invocations have completed, or
+     * once the timeout elapses. The server connector is expected to be stopped already, so that no further events
+     * are received.
+     *
+     * @param timeoutMillis maximum time to wait for the events in milliseconds
+     * @return true if all the events were delivered and their invocations completed within the timeout
+     */
+    public boolean stop(long timeoutMillis) {
+        stopping = true;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        boolean drained = false;
+        CompletableFuture<Void> flushed = new CompletableFuture<>();
+        // Runs after the events which were already handed over, hence it delivers every event received so far.
+        eventExecutor.execute(() -> {
+            try {
+                if (coalescer != null) {
+                    coalescer.flushAll();
+                }
+                if (batcher != null) {
+                    batcher.flush();
+                }
+            } finally {
+                flushed.complete(null);
+            }
+        });
+        try {
+            flushed.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            drained = dispatcher.awaitIdle(deadline - System.nanoTime());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("File Listener: pending events not delivered within " + timeoutMillis + "ms.");
+        }
+        stopNow();
+        return drained;
+    }
+
+    /**
+     * Stops the listener without delivering the pending events. The running invocations are not interrupted.
+     */
+    public void stopNow() {
+        stopping = true;
+        synchronized (this) {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+        }
+        if (coalescer != null) {
+            coalescer.stop();
+        }
+        if (batcher != null) {
+            batcher.stop();
+        }
+        dispatcher.stop();
+        metrics.detach(dispatcher, coalescer);
+        executors.release();
+    }
+
+    private void dispatch(LocalFileSystemEvent fileEvent) {
+        if (stopped) {
+            return;
+        }
+        if (isSmallerThanMinSize(fileEvent)) {
+            metrics.eventFiltered();
+            return;
+        }
+        if (batcher != null) {
+            batcher.add(fileEvent);
+            return;
+        }
         AttachedFunction resource = getAttachedFunction(fileEvent.getEvent());
         if (resource != null) {
-            runtime.invokeMethodAsync(service, resource.getName(), null, ON_MESSAGE_METADATA, new DirectoryCallback(),
-                                      parameters);
+            dispatcher.dispatch(new EventDispatcher.Invocation(resource.getName(),
+                                                               getJvmSignatureParameters(fileEvent),
+                                                               ReceivedEvent.getReceivedTime(fileEvent)));
         } else {
+            metrics.eventUnregistered();
             log.warn(String.format("FileEvent received for unregistered resource: [%s] %s", fileEvent.getEvent(),
                     fileEvent.getFileName()));
         }
     }
 
+    private boolean isExcluded(Path path) {
+        if (!pathFilter) {
+            return false;
+        }
+        WatchedPath watchedPath = getWatchedPath(path);
+        return watchedPath != null && watchedPath.hasFilter()
+                && (watchedPath.isExcluded(path) || !watchedPath.isIncluded(path));
+    }
+
+    private boolean isSmallerThanMinSize(LocalFileSystemEvent fileEvent) {
+        if (minSize < 0 || EVENT_DELETE.equals(fileEvent.getEvent())) {
+            return false;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(Paths.get(fileEvent.getFileName()),
+                                                                  BasicFileAttributes.class,
+                                                                  LinkOption.NOFOLLOW_LINKS);
+            return attributes.isRegularFile() && attributes.size() < minSize;
+        } catch (IOException e) {
+            // Removed since, the delete event follows.
+            return false;
+        }
+    }
+
+    private WatchedPath getWatchedPath(Path path) {
+        // The innermost listened directory, as the listened directories may be nested.
+        WatchedPath match = null;
+        for (WatchedPath watchedPath : watchedPaths) {
+            if (path.startsWith(watchedPath.getPath()) && (match == null
+                    || watchedPath.getPath().getNameCount() > match.getPath().getNameCount())) {
+                match = watchedPath;
+            }
+        }
+        return match;
+    }
+
+    private static String getListenedPath(DirectoryListenerConfig config) {
+        List<WatchedPath> watchedPaths = config.getWatchedPaths();
+        return watchedPaths.isEmpty() ? config.getPath() : watchedPaths.get(0).toString();
+    }
+
+    private static long getReceivedTime(List<LocalFileSystemEvent> fileEvents) {
+        long receivedTime = ReceivedEvent.getReceivedTime(fileEvents.get(0));
+        for (LocalFileSystemEvent fileEvent : fileEvents) {
+            long eventTime = ReceivedEvent.getReceivedTime(fileEvent);
+            if (eventTime - receivedTime < 0) {
+                receivedTime = eventTime;
+            }
+        }
+        return receivedTime;
+    }
+
     private Object[] getJvmSignatureParameters(LocalFileSystemEvent fileEvent) {
+        return new Object[] { createFileEvent(fileEvent), true };
+    }
+
+    private Object[] getJvmSignatureParameters(List<LocalFileSystemEvent> fileEvents) {
+        MapValue<?, ?>[] eventStructs = new MapValue<?, ?>[fileEvents.size()];
+        for (int i = 0; i < eventStructs.length; i++) {
+            eventStructs[i] = createFileEvent(fileEvents.get(i));
+        }
+        return new Object[] { new ArrayValueImpl(eventStructs, new BArrayType(eventStructs[0].getType())), true };
+    }
+
+    private MapValue<BString, Object> createFileEvent(LocalFileSystemEvent fileEvent) {
         MapValue<BString, Object> eventStruct = BallerinaValues.createRecordValue(FILE_PACKAGE_ID, FILE_SYSTEM_EVENT);
         eventStruct.put(StringUtils.fromString(FILE_EVENT_NAME), StringUtils.fromString(fileEvent.getFileName()));
         eventStruct.put(StringUtils.fromString(FILE_EVENT_OPERATION), StringUtils.fromString(fileEvent.getEvent()));
-        return new Object[] { eventStruct, true };
+        return eventStruct;
     }
 
     private AttachedFunction getAttachedFunction(String event) {
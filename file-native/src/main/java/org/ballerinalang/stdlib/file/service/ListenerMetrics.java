@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.ballerinalang.stdlib.file.utils.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_CREATE;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_DELETE;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_MODIFY;
+
+/**
+ * Counters and latency distributions of a directory listener. The counters are updated on the watcher and
+ * callback threads without locking, while the queue related values are summed over the {@link EventDispatcher} and
+ * the {@link EventCoalescer} of each service attached to the listener when the metrics are queried. The counts of a
+ * detached service are kept, so that the totals of the listener never decrease.
+ * <p>
+ * Each service has its own server connector, which only delivers the event types the service has resources for, so
+ * an event of the directory cannot be matched across the services. The received and filtered events are therefore
+ * summed over the services, counting an event once for each service which receives it.
+ * <p>
+ * The lag of an event is the time from its receipt by the listener until its resource is invoked, including the
+ * debounce window, batching delay and the time spent in the dispatch queue. The execution time of an invocation is
+ * the time from the invocation until the resource completes.
+ */
+public class ListenerMetrics implements ListenerMetricsMXBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ListenerMetrics.class);
+    private static final String OBJECT_NAME_PREFIX = "org.ballerinalang.stdlib.file:type=Listener,id=";
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private final String path;
+    private final LongAdder serviceCreateEvents = new LongAdder();
+    private final LongAdder serviceDeleteEvents = new LongAdder();
+    private final LongAdder serviceModifyEvents = new LongAdder();
+    private final LongAdder unregisteredEvents = new LongAdder();
+    private final LongAdder serviceFilteredEvents = new LongAdder();
+    private final LongAdder failedInvocations = new LongAdder();
+    private final LatencyHistogram executionTime = new LatencyHistogram();
+    private final LatencyHistogram lag = new LatencyHistogram();
+    private final List<EventDispatcher> dispatchers = new CopyOnWriteArrayList<>();
+    private final List<EventCoalescer> coalescers = new CopyOnWriteArrayList<>();
+    // Counts of the detached services, guarded by this together with the attached lists.
+    private long detachedSuppressedEvents;
+    private long detachedDroppedEvents;
+    private long detachedDispatchedInvocations;
+    private ObjectName objectName;
+
+    public ListenerMetrics(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server. A failure to register is logged, as the listener
+     * works regardless.
+     */
+    public synchronized void register() {
+        if (objectName != null) {
+            return;
+        }
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME_PREFIX + IDS.incrementAndGet() + ",path="
+                                                     + ObjectName.quote(path));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            objectName = name;
+        } catch (JMException | RuntimeException e) {
+            log.warn("Unable to register the metrics of the directory listener " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Unregisters the metrics from the platform MBean server, if they are registered.
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (JMException e) {
+            log.debug("Unable to unregister " + objectName + ": " + e.getMessage());
+        }
+        objectName = null;
+    }
+
+    synchronized void attach(EventDispatcher dispatcher, EventCoalescer coalescer) {
+        dispatchers.add(dispatcher);
+        if (coalescer != null) {
+            coalescers.add(coalescer);
+        }
+    }
+
+    synchronized void detach(EventDispatcher dispatcher, EventCoalescer coalescer) {
+        if (dispatchers.remove(dispatcher)) {
+            detachedDroppedEvents += dispatcher.getDropped();
+            detachedDispatchedInvocations += dispatcher.getDispatched();
+        }
+        if (coalescer != null && coalescers.remove(coalescer)) {
+            detachedSuppressedEvents += coalescer.getSuppressedEvents();
+        }
+    }
+
+    void eventReceived(String event) {
+        switch (event) {
+            case EVENT_CREATE:
+                serviceCreateEvents.increment();
+                break;
+            case EVENT_DELETE:
+                serviceDeleteEvents.increment();
+                break;
+            case EVENT_MODIFY:
+                serviceModifyEvents.increment();
+                break;
+            default:
+                // Do nothing.
+        }
+    }
+
+    void eventUnregistered() {
+        unregisteredEvents.increment();
+    }
+
+    void eventFiltered() {
+        serviceFilteredEvents.increment();
+    }
+
+    void invocationStarted(long receivedTime, long startTime) {
+        lag.record(TimeUnit.NANOSECONDS.toMicros(startTime - receivedTime));
+    }
+
+    void invocationCompleted(long startTime, boolean failed) {
+        executionTime.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+        if (failed) {
+            failedInvocations.increment();
+        }
+    }
+
+    @Override
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public long getServiceCreateEvents() {
+        return serviceCreateEvents.sum();
+    }
+
+    @Override
+    public long getServiceDeleteEvents() {
+        return serviceDeleteEvents.sum();
+    }
+
+    @Override
+    public long getServiceModifyEvents() {
+        return serviceModifyEvents.sum();
+    }
+
+    @Override
+    public synchronized long getSuppressedEvents() {
+        long suppressedEvents = detachedSuppressedEvents;
+        for (EventCoalescer coalescer : coalescers) {
+            suppressedEvents += coalescer.getSuppressedEvents();
+        }
+        return suppressedEvents;
+    }
+
+    @Override
+    public long getUnregisteredEvents() {
+        return unregisteredEvents.sum();
+    }
+
+    @Override
+    public long getServiceFilteredEvents() {
+        return serviceFilteredEvents.sum();
+    }
+
+    @Override
+    public synchronized long getDroppedEvents() {
+        long droppedEvents = detachedDroppedEvents;
+        for (EventDispatcher dispatcher : dispatchers) {
+            droppedEvents += dispatcher.getDropped();
+        }
+        return droppedEvents;
+    }
+
+    @Override
+    public synchronized long getDispatchedInvocations() {
+        long dispatchedInvocations = detachedDispatchedInvocations;
+        for (EventDispatcher dispatcher : dispatchers) {
+            dispatchedInvocations += dispatcher.getDispatched();
+        }
+        return dispatchedInvocations;
+    }
+
+    @Override
+    public long getFailedInvocations() {
+        return failedInvocations.sum();
+    }
+
+    @Override
+    public int getInFlightInvocations() {
+        int inFlightInvocations = 0;
+        for (EventDispatcher dispatcher : dispatchers) {
+            inFlightInvocations += dispatcher.getInFlight();
+        }
+        return inFlightInvocations;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        int queueDepth = 0;
+        for (EventDispatcher dispatcher : dispatchers) {
+            queueDepth += dispatcher.getQueueDepth();
+        }
+        return queueDepth;
+    }
+
+    @Override
+    public LatencyHistogram.Snapshot getExecutionTime() {
+        return executionTime.snapshot();
+    }
+
+    @Override
+    public LatencyHistogram.Snapshot getLag() {
+        return lag.snapshot();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.ballerinalang.stdlib.file.utils.LatencyHistogram;
+
+/**
+ * Management interface of the metrics of a directory listener, which is registered with the platform MBean server
+ * under the {@code org.ballerinalang.stdlib.file:type=Listener} domain. Durations are in microseconds.
+ */
+public interface ListenerMetricsMXBean {
+
+    String getPath();
+
+    long getServiceCreateEvents();
+
+    long getServiceDeleteEvents();
+
+    long getServiceModifyEvents();
+
+    long getSuppressedEvents();
+
+    long getUnregisteredEvents();
+
+    long getServiceFilteredEvents();
+
+    long getDroppedEvents();
+
+    long getDispatchedInvocations();
+
+    long getFailedInvocations();
+
+    int getInFlightInvocations();
+
+    int getQueueDepth();
+
+    LatencyHistogram.Snapshot getExecutionTime();
+
+    LatencyHistogram.Snapshot getLag();
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemServerConnector;
+import org.wso2.transport.localfilesystem.server.exception.LocalFileSystemServerConnectorException;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The services attached to a directory listener, each with its own server connector and {@link FSListener}. A
+ * service attached after the listener started is started right away, and a detached service is stopped without
+ * affecting the other services of the listener.
+ * <p>
+ * Stopping a service stops its server connector first, which releases its watches, and then lets its
+ * {@link FSListener} deliver the events it already received before its threads are released.
+ */
+public class ListenerServices {
+
+    private static final Logger log = LoggerFactory.getLogger(ListenerServices.class);
+
+    private final Map<ObjectValue, Registration> services = new IdentityHashMap<>();
+    private boolean started;
+
+    /**
+     * Attaches a service, starting it if the listener is already started.
+     *
+     * @param service         attached service
+     * @param fsListener      listener which invokes the resources of the service
+     * @param serverConnector server connector which delivers the events to the listener
+     * @throws LocalFileSystemServerConnectorException if the listener is started and the server connector fails to
+     *                                                 start
+     */
+    public void add(ObjectValue service, FSListener fsListener, LocalFileSystemServerConnector serverConnector)
+            throws LocalFileSystemServerConnectorException {
+        Registration registration = new Registration(fsListener, serverConnector);
+        Registration previous;
+        synchronized (this) {
+            if (started) {
+                try {
+                    serverConnector.start();
+                } catch (LocalFileSystemServerConnectorException e) {
+                    registration.stopNow();
+                    throw e;
+                }
+            }
+            previous = services.put(service, registration);
+        }
+        if (previous != null) {
+            // The service was attached again, only the latest registration is kept.
+            previous.stopNow();
+        }
+    }
+
+    /**
+     * Starts the server connectors of the attached services.
+     *
+     * @throws LocalFileSystemServerConnectorException if a server connector fails to start
+     */
+    public synchronized void start() throws LocalFileSystemServerConnectorException {
+        for (Registration registration : services.values()) {
+            registration.serverConnector.start();
+        }
+        started = true;
+    }
+
+    /**
+     * Detaches a service and stops it gracefully.
+     *
+     * @param service       detached service
+     * @param timeoutMillis maximum time to wait for the pending events of the service in milliseconds
+     * @return true if the service was attached
+     */
+    public boolean remove(ObjectValue service, long timeoutMillis) {
+        Registration registration;
+        synchronized (this) {
+            registration = services.remove(service);
+        }
+        if (registration == null) {
+            return false;
+        }
+        registration.stopConnector();
+        registration.drain(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        return true;
+    }
+
+    /**
+     * Detaches all the services and stops them gracefully. The server connectors of all the services are stopped
+     * before any of the pending events are awaited, and the timeout applies to all the services together.
+     *
+     * @param timeoutMillis maximum time to wait for the pending events in milliseconds
+     */
+    public void stop(long timeoutMillis) {
+        List<Registration> registrations = removeAll();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        registrations.forEach(Registration::stopConnector);
+        registrations.forEach(registration -> registration.drain(deadline));
+    }
+
+    /**
+     * Detaches all the services and stops them without delivering their pending events.
+     */
+    public void stopNow() {
+        removeAll().forEach(Registration::stopNow);
+    }
+
+    private synchronized List<Registration> removeAll() {
+        List<Registration> registrations = new ArrayList<>(services.values());
+        services.clear();
+        started = false;
+        return registrations;
+    }
+
+    /**
+     * An attached service.
+     */
+    private static class Registration {
+
+        final FSListener fsListener;
+        final LocalFileSystemServerConnector serverConnector;
+
+        Registration(FSListener fsListener, LocalFileSystemServerConnector serverConnector) {
+            this.fsListener = fsListener;
+            this.serverConnector = serverConnector;
+        }
+
+        void stopConnector() {
+            try {
+                serverConnector.stop();
+            } catch (LocalFileSystemServerConnectorException e) {
+                log.warn("Unable to stop the directory listener: " + e.getMessage());
+            }
+        }
+
+        void drain(long deadline) {
+            long timeoutMillis = Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+            if (!fsListener.stop(timeoutMillis)) {
+                log.warn("File Listener: stopped before all the received events were delivered.");
+            }
+        }
+
+        void stopNow() {
+            stopConnector();
+            fsListener.stopNow();
+        }
+    }
+}
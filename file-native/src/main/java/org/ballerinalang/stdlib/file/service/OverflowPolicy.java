@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+/**
+ * Action taken by the {@link EventDispatcher} when an event is received while its queue is full.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Hold back the events of the listener until there is space in the queue. The events wait in the intake of the
+     * listener and the file watcher, which is shared by the listeners, is never blocked.
+     */
+    BLOCK,
+
+    /**
+     * Drop the oldest queued event to make space for the new event.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Drop the new event and notify the service with an overflow event.
+     */
+    OVERFLOW
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemEvent;
+import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemListener;
+import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemServerConnector;
+import org.wso2.transport.localfilesystem.server.exception.LocalFileSystemServerConnectorException;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_CREATE;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_DELETE;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_MODIFY;
+
+/**
+ * Server connector which detects the changes of one or more directories by scanning them periodically, for the file
+ * systems on which the native file watcher misses events (e.g. NFS and overlay mounts) or runs out of watches.
+ * <p>
+ * Each scan is compared with the {@link DirectorySnapshot} taken by the previous scan to synthesize the create,
+ * modify and delete events. A directory whose modified time did not change is not listed again, only its known
+ * entries are checked, and the sub directories are scanned in parallel. The scans are scheduled on the timer and run
+ * on the scan pool of the {@link SharedExecutors}, hence a polling listener does not own any thread.
+ */
+public class PollingServerConnector implements LocalFileSystemServerConnector {
+
+    private static final Logger log = LoggerFactory.getLogger(PollingServerConnector.class);
+    private static final LinkOption[] NO_FOLLOW = { LinkOption.NOFOLLOW_LINKS };
+
+    private final List<PolledPath> roots = new ArrayList<>();
+    private final long pollInterval;
+    private final Set<String> events;
+    private final LocalFileSystemListener listener;
+    private SharedExecutors executors;
+    private ScheduledFuture<?> pollTask;
+
+    public PollingServerConnector(DirectoryListenerConfig config, String events, LocalFileSystemListener listener)
+            throws LocalFileSystemServerConnectorException {
+        List<WatchedPath> paths = config.getWatchedPaths();
+        if (paths.isEmpty()) {
+            throw new LocalFileSystemServerConnectorException("Directory path is not provided");
+        }
+        for (WatchedPath path : paths) {
+            if (!Files.isDirectory(path.getPath())) {
+                throw new LocalFileSystemServerConnectorException("Unable to find a directory: " + path);
+            }
+            roots.add(new PolledPath(path));
+        }
+        this.pollInterval = config.getPollInterval();
+        this.events = new HashSet<>(Arrays.asList(events.split(",")));
+        this.listener = listener;
+    }
+
+    @Override
+    public synchronized void start() throws LocalFileSystemServerConnectorException {
+        if (executors != null) {
+            return;
+        }
+        executors = SharedExecutors.acquire();
+        for (PolledPath root : roots) {
+            try {
+                // The initial scan only builds the index, the existing files are not reported as created.
+                executors.getScanPool().invoke(new ScanTask(root.path.getPath(), root.snapshot, root.path,
+                                                            false));
+            } catch (RuntimeException e) {
+                stop();
+                throw new LocalFileSystemServerConnectorException("Unable to scan the directory: " + root.path, e);
+            }
+        }
+        schedulePoll();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executors == null) {
+            return;
+        }
+        if (pollTask != null) {
+            pollTask.cancel(false);
+            pollTask = null;
+        }
+        executors.release();
+        executors = null;
+    }
+
+    private synchronized void schedulePoll() {
+        if (executors == null) {
+            return;
+        }
+        ForkJoinPool scanPool = executors.getScanPool();
+        // Scheduled once the previous poll completes, hence the polls never overlap, and run on the scan pool so
+        // that a long scan does not hold up the shared timer.
+        pollTask = executors.getTimer().schedule(() -> scanPool.execute(this::poll), pollInterval,
+                                                 TimeUnit.MILLISECONDS);
+    }
+
+    private void poll() {
+        try {
+            for (PolledPath root : roots) {
+                poll(root);
+            }
+        } finally {
+            schedulePoll();
+        }
+    }
+
+    private void poll(PolledPath root) {
+        Path directory = root.path.getPath();
+        if (!Files.isDirectory(directory)) {
+            log.warn("Unable to find the listened directory: " + directory);
+            return;
+        }
+        List<LocalFileSystemEvent> changes;
+        try {
+            // Runs on a worker of the scan pool, hence the scan is computed by the current thread and its sub tasks
+            // are shared with the other workers.
+            changes = new ScanTask(directory, root.snapshot, root.path, true).invoke();
+        } catch (RuntimeException e) {
+            log.error("Error while scanning the directory: " + directory, e);
+            return;
+        }
+        for (LocalFileSystemEvent change : changes) {
+            listener.onMessage(change);
+        }
+    }
+
+    /**
+     * A listened directory with the snapshot of its last scan.
+     */
+    private static class PolledPath {
+
+        final WatchedPath path;
+        final DirectorySnapshot snapshot = new DirectorySnapshot();
+
+        PolledPath(WatchedPath path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * Scans a single directory, updates its snapshot and forks a task for each of its sub directories.
+     */
+    private class ScanTask extends RecursiveTask<List<LocalFileSystemEvent>> {
+
+        private final Path directory;
+        private final DirectorySnapshot directorySnapshot;
+        private final WatchedPath root;
+        private final boolean notify;
+
+        ScanTask(Path directory, DirectorySnapshot directorySnapshot, WatchedPath root, boolean notify) {
+            this.directory = directory;
+            this.directorySnapshot = directorySnapshot;
+            this.root = root;
+            this.notify = notify;
+        }
+
+        @Override
+        protected List<LocalFileSystemEvent> compute() {
+            long scannedAt = System.currentTimeMillis();
+            Map<String, DirectorySnapshot.Entry> previous = directorySnapshot.getEntries();
+            Map<String, DirectorySnapshot.Entry> current;
+            try {
+                long modifiedTime = Files.getLastModifiedTime(directory, NO_FOLLOW).toMillis();
+                current = directorySnapshot.isListingValid(modifiedTime) ? check(previous) : list(previous);
+                directorySnapshot.update(current, modifiedTime, scannedAt);
+            } catch (IOException e) {
+                // The directory is reported by the scan of its parent once it is gone, until then the previous
+                // state is kept.
+                log.debug("Unable to scan the directory: " + directory, e);
+                return Collections.emptyList();
+            }
+            List<LocalFileSystemEvent> changes = new ArrayList<>();
+            List<ScanTask> subTasks = new ArrayList<>();
+            for (Map.Entry<String, DirectorySnapshot.Entry> child : current.entrySet()) {
+                Path path = directory.resolve(child.getKey());
+                DirectorySnapshot.Entry before = previous.get(child.getKey());
+                DirectorySnapshot.Entry after = child.getValue();
+                if (before == null) {
+                    addChange(changes, EVENT_CREATE, path);
+                } else if (before.isDirectory() != after.isDirectory()) {
+                    addDeleteChanges(changes, path, before);
+                    addChange(changes, EVENT_CREATE, path);
+                    before = null;
+                } else if (!after.isDirectory() && before.isModified(after)) {
+                    addChange(changes, EVENT_MODIFY, path);
+                }
+                // The excluded sub directories are not scanned at all.
+                if (root.isRecursive() && after.isDirectory() && !(root.hasFilter() && root.isExcluded(path))) {
+                    if (after.getChildren() == null) {
+                        after.setChildren(before != null && before.getChildren() != null ? before.getChildren()
+                                                  : new DirectorySnapshot());
+                    }
+                    subTasks.add(new ScanTask(path, after.getChildren(), root, notify));
+                }
+            }
+            for (Map.Entry<String, DirectorySnapshot.Entry> child : previous.entrySet()) {
+                if (!current.containsKey(child.getKey())) {
+                    addDeleteChanges(changes, directory.resolve(child.getKey()), child.getValue());
+                }
+            }
+            if (!subTasks.isEmpty()) {
+                invokeAll(subTasks);
+                for (ScanTask subTask : subTasks) {
+                    changes.addAll(subTask.join());
+                }
+            }
+            return changes;
+        }
+
+        private Map<String, DirectorySnapshot.Entry> list(Map<String, DirectorySnapshot.Entry> previous)
+                throws IOException {
+            Map<String, DirectorySnapshot.Entry> entries = new HashMap<>();
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(directory)) {
+                for (Path child : children) {
+                    String name = child.getFileName().toString();
+                    addEntry(entries, name, child, previous.get(name));
+                }
+            }
+            return entries;
+        }
+
+        private Map<String, DirectorySnapshot.Entry> check(Map<String, DirectorySnapshot.Entry> previous)
+                throws IOException {
+            Map<String, DirectorySnapshot.Entry> entries = new HashMap<>(previous.size() * 4 / 3 + 1);
+            for (Map.Entry<String, DirectorySnapshot.Entry> entry : previous.entrySet()) {
+                addEntry(entries, entry.getKey(), directory.resolve(entry.getKey()), entry.getValue());
+            }
+            return entries;
+        }
+
+        private void addEntry(Map<String, DirectorySnapshot.Entry> entries, String name, Path path,
+                              DirectorySnapshot.Entry previous) throws IOException {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(path, BasicFileAttributes.class, NO_FOLLOW);
+            } catch (NoSuchFileException e) {
+                // Removed after it was listed.
+                return;
+            }
+            // Unchanged entries are reused, which also carries over the snapshot of an unchanged sub directory.
+            if (previous != null && !previous.isModified(attributes)) {
+                entries.put(name, previous);
+            } else {
+                entries.put(name, new DirectorySnapshot.Entry(attributes));
+            }
+        }
+
+        private void addDeleteChanges(List<LocalFileSystemEvent> changes, Path path, DirectorySnapshot.Entry entry) {
+            DirectorySnapshot children = entry.getChildren();
+            if (children != null) {
+                for (Map.Entry<String, DirectorySnapshot.Entry> child : children.getEntries().entrySet()) {
+                    addDeleteChanges(changes, path.resolve(child.getKey()), child.getValue());
+                }
+            }
+            addChange(changes, EVENT_DELETE, path);
+        }
+
+        private void addChange(List<LocalFileSystemEvent> changes, String event, Path path) {
+            if (notify && events.contains(event)) {
+                changes.add(new LocalFileSystemEvent(path.toString(), event));
+            }
+        }
+    }
+}
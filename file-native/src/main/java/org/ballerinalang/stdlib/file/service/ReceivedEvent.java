@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemEvent;
+
+/**
+ * A file system event along with the time it was received by the listener, which is carried through the debounce
+ * and batching stages so that the delay until the resource is invoked can be measured.
+ */
+class ReceivedEvent extends LocalFileSystemEvent {
+
+    private final long receivedTime;
+
+    ReceivedEvent(String fileName, String event, long receivedTime) {
+        super(fileName, event);
+        this.receivedTime = receivedTime;
+    }
+
+    /**
+     * Returns the time the event was received, as given by {@link System#nanoTime()}.
+     *
+     * @param event file system event
+     * @return received time of the event or the current time if it is unknown
+     */
+    static long getReceivedTime(LocalFileSystemEvent event) {
+        return event instanceof ReceivedEvent ? ((ReceivedEvent) event).receivedTime : System.nanoTime();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs tasks one at a time, in the order they were submitted, on a shared pool. Each listener processes its events
+ * through its own serial executor, hence the events of a listener are never reordered while the listeners share the
+ * threads of the pool. A busy listener yields its thread after a fixed number of tasks so that it cannot starve the
+ * other listeners. A listener which cannot take further events is suspended rather than blocking a thread of the
+ * pool: the submitted tasks wait until it is resumed. The tasks which free up the listener, such as dispatching the
+ * queued invocations of a service, are submitted with {@link #executeAhead(Runnable)} and run while it is suspended.
+ */
+public class SerialExecutor implements Executor {
+
+    private static final Logger log = LoggerFactory.getLogger(SerialExecutor.class);
+    private static final int MAX_TASKS_PER_RUN = 64;
+
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final Queue<Runnable> aheadTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean suspended = new AtomicBoolean();
+
+    public SerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        schedule();
+    }
+
+    /**
+     * Runs the task ahead of the tasks submitted with {@link #execute(Runnable)}, even while the executor is
+     * suspended. The tasks submitted this way still run one at a time with the other tasks.
+     *
+     * @param task task to run
+     */
+    public void executeAhead(Runnable task) {
+        aheadTasks.add(task);
+        schedule();
+    }
+
+    /**
+     * Stops running the submitted tasks once the running task completes, until {@link #resume()} is called.
+     */
+    public void suspend() {
+        suspended.set(true);
+    }
+
+    /**
+     * Runs the tasks submitted while the executor was suspended.
+     */
+    public void resume() {
+        if (suspended.compareAndSet(true, false)) {
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        boolean runnable = !aheadTasks.isEmpty() || (!suspended.get() && !tasks.isEmpty());
+        if (runnable && scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::runTasks);
+            } catch (RejectedExecutionException e) {
+                // The shared pool is shut down, hence the listener is stopping.
+                scheduled.set(false);
+                aheadTasks.clear();
+                tasks.clear();
+            }
+        }
+    }
+
+    private void runTasks() {
+        try {
+            Runnable task;
+            for (int i = 0; i < MAX_TASKS_PER_RUN && (task = nextTask()) != null; i++) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("Error while processing a file system event", e);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            schedule();
+        }
+    }
+
+    private Runnable nextTask() {
+        Runnable task = aheadTasks.poll();
+        if (task == null && !suspended.get()) {
+            task = tasks.poll();
+        }
+        return task;
+    }
+}
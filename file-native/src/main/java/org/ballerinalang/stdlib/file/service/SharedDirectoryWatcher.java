@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * A single {@link WatchService} and watcher thread shared by all the directory listeners of the process. A
+ * directory watched by several listeners is registered once, hence it takes a single watch handle (e.g. an inotify
+ * watch), and its events are handed to each of the listeners.
+ * <p>
+ * The watcher thread only reads the events and hands them over; the listeners process them on the
+ * {@link SharedExecutors} event pool. Like the shared pools, the watcher is reference counted and its thread and
+ * watch service are closed when the last listener releases it.
+ */
+class SharedDirectoryWatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SharedDirectoryWatcher.class);
+    private static SharedDirectoryWatcher instance;
+
+    private final WatchService watchService;
+    private final Thread watcherThread;
+    private final Map<WatchKey, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private int references;
+
+    private SharedDirectoryWatcher() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+        watcherThread = new Thread(this::watch, "ballerina-file-listener-watch");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    /**
+     * Receives the events of the directories registered by a listener.
+     */
+    interface Subscriber {
+
+        /**
+         * Called on the watcher thread with the events of a registered directory.
+         *
+         * @param key       watch key of the directory
+         * @param directory registered directory
+         * @param events    events of the directory
+         */
+        void onEvents(WatchKey key, Path directory, List<WatchEvent<?>> events);
+
+        /**
+         * Called on the watcher thread when a registered directory is no longer watched, e.g. as it was deleted.
+         *
+         * @param key watch key of the directory
+         */
+        void onCancelled(WatchKey key);
+    }
+
+    static synchronized SharedDirectoryWatcher acquire() throws IOException {
+        if (instance == null) {
+            instance = new SharedDirectoryWatcher();
+        }
+        instance.references++;
+        return instance;
+    }
+
+    void release() {
+        synchronized (SharedDirectoryWatcher.class) {
+            if (references == 0) {
+                return;
+            }
+            if (--references > 0) {
+                return;
+            }
+            if (instance == this) {
+                instance = null;
+            }
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.debug("Unable to close the watch service", e);
+        }
+        watcherThread.interrupt();
+    }
+
+    /**
+     * Watches a directory for a subscriber.
+     *
+     * @param directory  directory to watch
+     * @param subscriber receiver of the events
+     * @return the watch key of the directory
+     * @throws IOException if the directory cannot be watched
+     */
+    WatchKey register(Path directory, Subscriber subscriber) throws IOException {
+        while (true) {
+            // The watch service returns the key of an already watched directory, whose last subscriber may be
+            // unregistering concurrently. The subscribers of a key are only updated while holding the key, so that
+            // the key is either cancelled before it is subscribed to, and the directory is registered again, or
+            // subscribed to before its other subscriber leaves.
+            WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+            synchronized (key) {
+                if (!key.isValid()) {
+                    continue;
+                }
+                List<Subscriber> keySubscribers = subscribers.computeIfAbsent(key,
+                                                                              k -> new CopyOnWriteArrayList<>());
+                if (!keySubscribers.contains(subscriber)) {
+                    keySubscribers.add(subscriber);
+                }
+                return key;
+            }
+        }
+    }
+
+    /**
+     * Stops watching a directory for a subscriber. The watch is cancelled once it has no subscribers.
+     *
+     * @param key        watch key of the directory
+     * @param subscriber receiver of the events
+     */
+    void unregister(WatchKey key, Subscriber subscriber) {
+        synchronized (key) {
+            List<Subscriber> keySubscribers = subscribers.get(key);
+            if (keySubscribers == null) {
+                return;
+            }
+            keySubscribers.remove(subscriber);
+            if (keySubscribers.isEmpty()) {
+                subscribers.remove(key);
+                key.cancel();
+            }
+        }
+    }
+
+    int getWatchCount() {
+        return subscribers.size();
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                List<WatchEvent<?>> events = key.pollEvents();
+                List<Subscriber> keySubscribers = subscribers.get(key);
+                if (keySubscribers != null) {
+                    Path directory = (Path) key.watchable();
+                    for (Subscriber subscriber : keySubscribers) {
+                        try {
+                            subscriber.onEvents(key, directory, events);
+                        } catch (RuntimeException e) {
+                            log.error("Error while handling the events of the directory " + directory, e);
+                        }
+                    }
+                }
+                if (!key.reset()) {
+                    List<Subscriber> cancelled;
+                    synchronized (key) {
+                        cancelled = subscribers.remove(key);
+                    }
+                    if (cancelled != null) {
+                        cancelled.forEach(subscriber -> subscriber.onCancelled(key));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Released by the last listener.
+        }
+    }
+}
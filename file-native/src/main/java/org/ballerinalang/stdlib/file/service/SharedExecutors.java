@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread pools shared by all the directory listeners of the process, so that the number of threads depends on the
+ * load rather than on the number of listeners:
+ * <ul>
+ * <li>a bounded event pool which processes the received events, see {@link SerialExecutor}. A listener submits a
+ * single task at a time to the pool and its tasks never block, the BLOCK overflow policy suspends the listener
+ * instead, hence the queue of the pool holds at most one task per listener and a listener cannot hold its threads</li>
+ * <li>a single timer thread for the debounce sweeps, batch deadlines and directory polls</li>
+ * <li>a fork join pool for the directory scans of the polling listeners</li>
+ * </ul>
+ * The pools are reference counted: they are created by the first {@link #acquire()} and shut down by the last
+ * {@link #release()}. The idle event and scan threads are also released while the pools are in use.
+ */
+public class SharedExecutors {
+
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    private static SharedExecutors instance;
+
+    private final ThreadPoolExecutor eventPool;
+    private final ScheduledThreadPoolExecutor timer;
+    private final ForkJoinPool scanPool;
+    private int references;
+
+    private SharedExecutors() {
+        eventPool = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                           new LinkedBlockingQueue<>(), new NamedThreadFactory("event"));
+        eventPool.allowCoreThreadTimeOut(true);
+        timer = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("timer"));
+        timer.setRemoveOnCancelPolicy(true);
+        scanPool = new ForkJoinPool(POOL_SIZE, new ScanThreadFactory(), null, false);
+    }
+
+    /**
+     * Returns the shared pools, creating them if they are not in use.
+     *
+     * @return the shared pools, which must be released once the caller stops using them
+     */
+    public static synchronized SharedExecutors acquire() {
+        if (instance == null) {
+            instance = new SharedExecutors();
+        }
+        instance.references++;
+        return instance;
+    }
+
+    /**
+     * Releases a reference acquired with {@link #acquire()}. The pools are shut down when the last reference is
+     * released; the tasks which are already running are interrupted and the scheduled tasks are discarded.
+     */
+    public void release() {
+        synchronized (SharedExecutors.class) {
+            if (references == 0) {
+                return;
+            }
+            if (--references > 0) {
+                return;
+            }
+            if (instance == this) {
+                instance = null;
+            }
+        }
+        timer.shutdownNow();
+        eventPool.shutdownNow();
+        scanPool.shutdownNow();
+    }
+
+    public ExecutorService getEventPool() {
+        return eventPool;
+    }
+
+    public ScheduledExecutorService getTimer() {
+        return timer;
+    }
+
+    public ForkJoinPool getScanPool() {
+        return scanPool;
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ballerina-file-listener-" + name + "-"
+                    + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static class ScanThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("ballerina-file-listener-scan-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemEvent;
+import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemListener;
+import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemServerConnector;
+import org.wso2.transport.localfilesystem.server.exception.LocalFileSystemServerConnectorException;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_CREATE;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_DELETE;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_MODIFY;
+
+/**
+ * Server connector which listens to one or more directories through the {@link SharedDirectoryWatcher}. Unlike the
+ * transport connector, it does not own a watch service or a thread: the directories of all the listeners are
+ * watched by the single shared watcher, and a directory listened by several listeners takes a single watch.
+ */
+public class WatchServerConnector implements LocalFileSystemServerConnector, SharedDirectoryWatcher.Subscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(WatchServerConnector.class);
+
+    private final List<WatchedPath> paths;
+    private final Set<String> events;
+    private final LocalFileSystemListener listener;
+    private final Map<WatchKey, WatchedPath> keys = new ConcurrentHashMap<>();
+    private SharedDirectoryWatcher watcher;
+
+    public WatchServerConnector(List<WatchedPath> paths, String events, LocalFileSystemListener listener)
+            throws LocalFileSystemServerConnectorException {
+        if (paths.isEmpty()) {
+            throw new LocalFileSystemServerConnectorException("Directory path is not provided");
+        }
+        for (WatchedPath path : paths) {
+            if (!Files.isDirectory(path.getPath())) {
+                throw new LocalFileSystemServerConnectorException("Unable to find a directory: " + path);
+            }
+        }
+        this.paths = new ArrayList<>(paths);
+        this.events = new HashSet<>(Arrays.asList(events.split(",")));
+        this.listener = listener;
+    }
+
+    @Override
+    public synchronized void start() throws LocalFileSystemServerConnectorException {
+        if (watcher != null) {
+            return;
+        }
+        try {
+            watcher = SharedDirectoryWatcher.acquire();
+        } catch (IOException e) {
+            throw new LocalFileSystemServerConnectorException("Unable to create the directory watcher", e);
+        }
+        WatchedPath current = null;
+        try {
+            for (WatchedPath path : paths) {
+                current = path;
+                register(path.getPath(), path);
+            }
+        } catch (IOException e) {
+            stop();
+            throw new LocalFileSystemServerConnectorException("Unable to listen to the directory: " + current, e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (watcher == null) {
+            return;
+        }
+        for (WatchKey key : keys.keySet()) {
+            watcher.unregister(key, this);
+        }
+        keys.clear();
+        watcher.release();
+        watcher = null;
+    }
+
+    /**
+     * Returns the number of directories this connector is listening to.
+     *
+     * @return the number of listened directories
+     */
+    public int getWatchedDirectories() {
+        return keys.size();
+    }
+
+    @Override
+    public void onEvents(WatchKey key, Path directory, List<WatchEvent<?>> watchEvents) {
+        WatchedPath watchedPath = keys.get(key);
+        if (watchedPath == null) {
+            return;
+        }
+        for (WatchEvent<?> watchEvent : watchEvents) {
+            WatchEvent.Kind<?> kind = watchEvent.kind();
+            if (kind == OVERFLOW) {
+                log.warn("File Listener: events of the directory " + directory + " were lost by the file system.");
+                continue;
+            }
+            Path child = directory.resolve((Path) watchEvent.context());
+            String event = kind == ENTRY_CREATE ? EVENT_CREATE : kind == ENTRY_DELETE ? EVENT_DELETE : EVENT_MODIFY;
+            if (kind == ENTRY_CREATE && watchedPath.isRecursive()
+                    && Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                try {
+                    registerTree(child, watchedPath);
+                } catch (IOException e) {
+                    log.warn("Unable to listen to the directory: " + child, e);
+                }
+            }
+            if (events.contains(event)) {
+                listener.onMessage(new LocalFileSystemEvent(child.toString(), event));
+            }
+        }
+    }
+
+    @Override
+    public void onCancelled(WatchKey key) {
+        keys.remove(key);
+    }
+
+    private void register(Path directory, WatchedPath watchedPath) throws IOException {
+        if (watchedPath.isRecursive()) {
+            registerTree(directory, watchedPath);
+        } else {
+            registerDirectory(directory, watchedPath);
+        }
+    }
+
+    private void registerTree(Path directory, WatchedPath watchedPath) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                // The excluded sub directories take no watches, hence their changes are never received.
+                if (watchedPath.hasFilter() && !dir.equals(watchedPath.getPath()) && watchedPath.isExcluded(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                registerDirectory(dir, watchedPath);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private synchronized void registerDirectory(Path directory, WatchedPath watchedPath) throws IOException {
+        if (watcher == null) {
+            // Stopped while a new sub directory was being registered.
+            return;
+        }
+        WatchKey key = watcher.register(directory, this);
+        // A directory included by several of the listened paths is reported once, with the recursive setting.
+        keys.merge(key, watchedPath, (previous, added) -> previous.isRecursive() ? previous : added);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.ballerinalang.stdlib.file.nativeimpl.ReadDirFilter;
+
+import java.nio.file.Path;
+
+/**
+ * A directory listened by a listener, with its own listening settings. The include and exclude globs are matched
+ * like the ones of {@code file:readDir}: a glob without a path separator against the file name and the other globs
+ * against the path relative to the listened directory.
+ */
+public class WatchedPath {
+
+    private final Path path;
+    private final boolean recursive;
+    private final ReadDirFilter filter;
+
+    public WatchedPath(Path path, boolean recursive) {
+        this(path, recursive, ReadDirFilter.NONE);
+    }
+
+    public WatchedPath(Path path, boolean recursive, ReadDirFilter filter) {
+        this.path = path;
+        this.recursive = recursive;
+        this.filter = filter;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public boolean isRecursive() {
+        return recursive;
+    }
+
+    public boolean hasFilter() {
+        return !filter.isEmpty();
+    }
+
+    /**
+     * Checks whether a path within the directory is excluded, either by itself or through one of its parent
+     * directories.
+     *
+     * @param child path within the directory
+     * @return true if the path is excluded
+     */
+    public boolean isExcluded(Path child) {
+        Path relativePath = path.relativize(child);
+        for (int i = 1; i <= relativePath.getNameCount(); i++) {
+            if (filter.isExcluded(relativePath.subpath(0, i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a path within the directory matches the include globs, if there are any.
+     *
+     * @param child path within the directory
+     * @return true if the path is included
+     */
+    public boolean isIncluded(Path child) {
+        return filter.isIncluded(path.relativize(child));
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+}
@@ -24,6 +24,7 @@ import org.ballerinalang.model.tree.AnnotationAttachmentNode;
 import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.util.diagnostic.DiagnosticLog;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.tree.BLangFunction;
@@ -32,9 +33,11 @@ import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
 import java.util.List;
 
 import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.FILE_SYSTEM_EVENT;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.RESOURCE_NAME_ON_BATCH;
 import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.RESOURCE_NAME_ON_CREATE;
 import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.RESOURCE_NAME_ON_DELETE;
 import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.RESOURCE_NAME_ON_MODIFY;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.RESOURCE_NAME_ON_OVERFLOW;
 import static org.ballerinalang.util.diagnostic.Diagnostic.Kind.ERROR;
 
 /**
@@ -59,6 +62,27 @@ public class DirectoryListenerCompilerPlugin extends AbstractCompilerPlugin {
     public void process(ServiceNode serviceData, List<AnnotationAttachmentNode> annotations) {
         List<BLangFunction> resources = (List<BLangFunction>) serviceData.getResources();
         resources.forEach(res -> validate(serviceData.getName().getValue(), res, this.dlog));
+        validateBatchResource(serviceData.getName().getValue(), resources, this.dlog);
+    }
+
+    private void validateBatchResource(String serviceName, List<BLangFunction> resources, DiagnosticLog dlog) {
+        boolean hasBatchResource = resources.stream()
+                .anyMatch(res -> RESOURCE_NAME_ON_BATCH.equals(res.getName().getValue()));
+        if (!hasBatchResource) {
+            return;
+        }
+        for (BLangFunction resource : resources) {
+            switch (resource.getName().getValue()) {
+                case RESOURCE_NAME_ON_CREATE:
+                case RESOURCE_NAME_ON_DELETE:
+                case RESOURCE_NAME_ON_MODIFY:
+                    dlog.logDiagnostic(ERROR, resource.getPosition(), "Resource " + resource.getName().getValue()
+                            + " cannot be used along with " + RESOURCE_NAME_ON_BATCH + " in service " + serviceName);
+                    break;
+                default:
+                    // Do nothing.
+            }
+        }
     }
 
     public void validate(String serviceName, BLangFunction resource, DiagnosticLog dlog) {
@@ -66,6 +90,7 @@ public class DirectoryListenerCompilerPlugin extends AbstractCompilerPlugin {
             case RESOURCE_NAME_ON_CREATE:
             case RESOURCE_NAME_ON_DELETE:
             case RESOURCE_NAME_ON_MODIFY:
+            case RESOURCE_NAME_ON_OVERFLOW:
                 final List<BLangSimpleVariable> parameters = resource.getParameters();
                 String msg = "Invalid resource signature for %s in service %s. "
                         + "The parameter should be a file:FileEvent with no returns.";
@@ -86,9 +111,38 @@ public class DirectoryListenerCompilerPlugin extends AbstractCompilerPlugin {
                     }
                 }
                 break;
+            case RESOURCE_NAME_ON_BATCH:
+                validateBatchSignature(serviceName, resource, dlog);
+                break;
             default:
                 dlog.logDiagnostic(ERROR, resource.getPosition(),
                         "Invalid resource name " + resource.getName().getValue() + " in service " + serviceName);
         }
     }
+
+    private void validateBatchSignature(String serviceName, BLangFunction resource, DiagnosticLog dlog) {
+        final List<BLangSimpleVariable> parameters = resource.getParameters();
+        String msg = "Invalid resource signature for %s in service %s. "
+                + "The parameter should be a file:FileEvent[] with no returns.";
+        msg = String.format(msg, resource.getName().getValue(), serviceName);
+        if (parameters.size() != 1 || !hasNoReturns(resource)) {
+            dlog.logDiagnostic(ERROR, resource.getPosition(), msg);
+            return;
+        }
+        BType fileEvents = parameters.get(0).getTypeNode().type;
+        if (!fileEvents.getKind().equals(TypeKind.ARRAY)) {
+            dlog.logDiagnostic(ERROR, resource.getPosition(), msg);
+            return;
+        }
+        BType event = ((BArrayType) fileEvents).eType;
+        if (event.tsymbol == null || !"file".equals(event.tsymbol.pkgID.name.value) || !FILE_SYSTEM_EVENT
+                .equals(event.tsymbol.name.value)) {
+            dlog.logDiagnostic(ERROR, resource.getPosition(), msg);
+        }
+    }
+
+    private static boolean hasNoReturns(BLangFunction resource) {
+        return resource.returnTypeNode == null || resource.returnTypeNode.type == null
+                || resource.returnTypeNode.type.getKind() == TypeKind.NIL;
+    }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service.endpoint;
+
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.stdlib.file.service.DirectoryListenerConfig;
+import org.ballerinalang.stdlib.file.service.DirectoryListenerConstants;
+import org.ballerinalang.stdlib.file.service.ListenerServices;
+import org.ballerinalang.stdlib.file.utils.FileConstants;
+import org.ballerinalang.stdlib.file.utils.FileUtils;
+
+/**
+ * Detach file listener service.
+ */
+
+public class Detach {
+
+    public static Object detach(ObjectValue listener, ObjectValue service) {
+        DirectoryListenerConfig config = DirectoryListenerConfig.fromRecord(
+                listener.getMapValue(DirectoryListenerConstants.SERVICE_ENDPOINT_CONFIG));
+        ListenerServices services = (ListenerServices) listener.getNativeData(
+                DirectoryListenerConstants.LISTENER_SERVICES);
+        if (!services.remove(service, config.getStopTimeout())) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Service is not attached to the listener: " + service.getType().getName());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service.endpoint;
+
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.file.service.DirectoryListenerConstants;
+import org.ballerinalang.stdlib.file.service.ListenerMetrics;
+import org.ballerinalang.stdlib.file.utils.FileUtils;
+
+import static org.ballerinalang.stdlib.file.utils.FileConstants.FILE_PACKAGE_ID;
+
+/**
+ * Get the metrics of the listener.
+ */
+
+public class GetStats {
+
+    public static MapValue<BString, Object> getStats(ObjectValue listener) {
+        ListenerMetrics metrics = (ListenerMetrics) listener.getNativeData(DirectoryListenerConstants.LISTENER_METRICS);
+        MapValue<BString, Object> stats = BallerinaValues.createRecordValue(FILE_PACKAGE_ID,
+                DirectoryListenerConstants.LISTENER_STATS);
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_SERVICE_CREATE_EVENTS),
+                metrics.getServiceCreateEvents());
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_SERVICE_DELETE_EVENTS),
+                metrics.getServiceDeleteEvents());
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_SERVICE_MODIFY_EVENTS),
+                metrics.getServiceModifyEvents());
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_SUPPRESSED_EVENTS),
+                metrics.getSuppressedEvents());
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_UNREGISTERED_EVENTS),
+                metrics.getUnregisteredEvents());
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_SERVICE_FILTERED_EVENTS),
+                metrics.getServiceFilteredEvents());
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_DROPPED_EVENTS),
+                metrics.getDroppedEvents());
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_DISPATCHED),
+                metrics.getDispatchedInvocations());
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_FAILED),
+                metrics.getFailedInvocations());
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_IN_FLIGHT),
+                (long) metrics.getInFlightInvocations());
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_QUEUE_DEPTH),
+                (long) metrics.getQueueDepth());
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_EXECUTION_TIME),
+                FileUtils.createLatencyStats(metrics.getExecutionTime()));
+        stats.put(StringUtils.fromString(DirectoryListenerConstants.LISTENER_STATS_LAG),
+                FileUtils.createLatencyStats(metrics.getLag()));
+        return stats;
+    }
+}
@@ -19,13 +19,18 @@
 package org.ballerinalang.stdlib.file.service.endpoint;
 
 import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.stdlib.file.service.DirectoryListenerConfig;
 import org.ballerinalang.stdlib.file.service.DirectoryListenerConstants;
+import org.ballerinalang.stdlib.file.service.ListenerMetrics;
+import org.ballerinalang.stdlib.file.service.ListenerServices;
+import org.ballerinalang.stdlib.file.service.WatchedPath;
 import org.ballerinalang.stdlib.file.utils.FileConstants;
 import org.ballerinalang.stdlib.file.utils.FileUtils;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Initialize endpoints.
@@ -34,18 +39,60 @@ import java.nio.file.Paths;
 public class InitEndpoint {
 
     public static Object initEndpoint(ObjectValue listener) {
-        final String path = listener.getMapValue(DirectoryListenerConstants.SERVICE_ENDPOINT_CONFIG).
-                getStringValue(DirectoryListenerConstants.ANNOTATION_PATH).getValue();
-        if (path == null || path.isEmpty()) {
+        final DirectoryListenerConfig config;
+        try {
+            config = DirectoryListenerConfig.fromRecord(
+                    listener.getMapValue(DirectoryListenerConstants.SERVICE_ENDPOINT_CONFIG));
+        } catch (IllegalArgumentException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid listener filter: " + e.getMessage());
+        }
+        final List<WatchedPath> watchedPaths = config.getWatchedPaths();
+        if (watchedPaths.isEmpty()) {
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, "'path' field is empty");
         }
-        final Path dirPath = Paths.get(path);
-        if (Files.notExists(dirPath)) {
-            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, "Folder does not exist: " + path);
+        for (WatchedPath watchedPath : watchedPaths) {
+            final Path dirPath = watchedPath.getPath();
+            if (Files.notExists(dirPath)) {
+                return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR,
+                        "Folder does not exist: " + dirPath);
+            }
+            if (!Files.isDirectory(dirPath)) {
+                return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR,
+                        "Unable to find a directory: " + dirPath);
+            }
+        }
+        if (config.getDebounce() < 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid debounce value " + config.getDebounce());
+        }
+        if (config.getMaxInFlight() < 0 || config.getMaxInFlight() > Integer.MAX_VALUE) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid maxInFlight value " + config.getMaxInFlight());
+        }
+        if (config.getQueueCapacity() < 1 || config.getQueueCapacity() > Integer.MAX_VALUE) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid queueCapacity value " + config.getQueueCapacity());
+        }
+        if (config.getMaxBatchSize() < 1 || config.getMaxBatchSize() > Integer.MAX_VALUE) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid maxBatchSize value " + config.getMaxBatchSize());
+        }
+        if (config.getMaxBatchDelay() < 1) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid maxBatchDelay value " + config.getMaxBatchDelay());
+        }
+        if (config.getPollInterval() < 1) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid pollInterval value " + config.getPollInterval());
         }
-        if (!Files.isDirectory(dirPath)) {
-            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, "Unable to find a directory: " + path);
+        if (config.getStopTimeout() < 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid stopTimeout value " + config.getStopTimeout());
         }
+        listener.addNativeData(DirectoryListenerConstants.LISTENER_SERVICES, new ListenerServices());
+        listener.addNativeData(DirectoryListenerConstants.LISTENER_METRICS, new ListenerMetrics(
+                watchedPaths.stream().map(WatchedPath::toString).collect(Collectors.joining(","))));
         return null;
     }
 }
@@ -20,20 +20,25 @@ package org.ballerinalang.stdlib.file.service.endpoint;
 
 import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.types.AttachedFunction;
-import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.stdlib.file.service.DirectoryListenerConfig;
 import org.ballerinalang.stdlib.file.service.DirectoryListenerConstants;
 import org.ballerinalang.stdlib.file.service.FSListener;
+import org.ballerinalang.stdlib.file.service.ListenerMetrics;
+import org.ballerinalang.stdlib.file.service.ListenerMode;
+import org.ballerinalang.stdlib.file.service.ListenerServices;
+import org.ballerinalang.stdlib.file.service.PollingServerConnector;
+import org.ballerinalang.stdlib.file.service.WatchServerConnector;
 import org.ballerinalang.stdlib.file.utils.FileConstants;
 import org.ballerinalang.stdlib.file.utils.FileUtils;
-import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemConnectorFactory;
 import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemServerConnector;
-import org.wso2.transport.localfilesystem.server.connector.contractimpl.LocalFileSystemConnectorFactoryImpl;
 import org.wso2.transport.localfilesystem.server.exception.LocalFileSystemServerConnectorException;
-import org.wso2.transport.localfilesystem.server.util.Constants;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.FILE_SYSTEM_EVENT;
 
@@ -44,16 +49,30 @@ import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.F
 public class Register {
 
     public static Object register(ObjectValue listener, ObjectValue service, Object name) {
-        MapValue serviceEndpointConfig = listener.getMapValue(DirectoryListenerConstants.SERVICE_ENDPOINT_CONFIG);
+        DirectoryListenerConfig config = DirectoryListenerConfig.fromRecord(
+                listener.getMapValue(DirectoryListenerConstants.SERVICE_ENDPOINT_CONFIG));
         try {
             final Map<String, AttachedFunction> resourceRegistry = getResourceRegistry(service);
-            final String events = String.join(",", resourceRegistry.keySet());
-            final Map<String, String> paramMap = getParamMap(serviceEndpointConfig, events);
-            LocalFileSystemConnectorFactory connectorFactory = new LocalFileSystemConnectorFactoryImpl();
-            LocalFileSystemServerConnector serverConnector = connectorFactory
-                    .createServerConnector(service.getType().getName(), paramMap,
-                            new FSListener(BRuntime.getCurrentRuntime(), service, resourceRegistry));
-            listener.addNativeData(DirectoryListenerConstants.FS_SERVER_CONNECTOR, serverConnector);
+            final String events = getWatchedEvents(resourceRegistry, config.getEventTypes());
+            final ListenerMetrics metrics = (ListenerMetrics) listener.getNativeData(
+                    DirectoryListenerConstants.LISTENER_METRICS);
+            final FSListener fsListener = new FSListener(BRuntime.getCurrentRuntime(), service, resourceRegistry,
+                                                         config, metrics);
+            LocalFileSystemServerConnector serverConnector;
+            try {
+                if (config.getMode() == ListenerMode.POLL) {
+                    serverConnector = new PollingServerConnector(config, events, fsListener);
+                } else {
+                    serverConnector = new WatchServerConnector(config.getWatchedPaths(), events, fsListener);
+                }
+            } catch (LocalFileSystemServerConnectorException e) {
+                fsListener.stopNow();
+                throw e;
+            }
+            final ListenerServices services = (ListenerServices) listener.getNativeData(
+                    DirectoryListenerConstants.LISTENER_SERVICES);
+            services.add(service, fsListener, serverConnector);
+            metrics.register();
         } catch (LocalFileSystemServerConnectorException e) {
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR,
                     "Unable to initialize server connector: " + e.getMessage());
@@ -75,31 +94,41 @@ public class Register {
                 case DirectoryListenerConstants.RESOURCE_NAME_ON_MODIFY:
                     registry.put(DirectoryListenerConstants.EVENT_MODIFY, resource);
                     break;
+                case DirectoryListenerConstants.RESOURCE_NAME_ON_OVERFLOW:
+                    registry.put(DirectoryListenerConstants.EVENT_OVERFLOW, resource);
+                    break;
+                case DirectoryListenerConstants.RESOURCE_NAME_ON_BATCH:
+                    registry.put(DirectoryListenerConstants.EVENT_BATCH, resource);
+                    break;
                 default:
                     // Do nothing.
             }
         }
-        if (registry.size() == 0) {
+        if (registry.isEmpty() || registry.size() == 1 && registry.containsKey(
+                DirectoryListenerConstants.EVENT_OVERFLOW)) {
             String msg = "At least a single resource required from following: "
                     + DirectoryListenerConstants.RESOURCE_NAME_ON_CREATE + " ,"
                     + DirectoryListenerConstants.RESOURCE_NAME_ON_DELETE + " ,"
-                    + DirectoryListenerConstants.RESOURCE_NAME_ON_MODIFY + ". " + "Parameter should be of type - "
+                    + DirectoryListenerConstants.RESOURCE_NAME_ON_MODIFY + " ,"
+                    + DirectoryListenerConstants.RESOURCE_NAME_ON_BATCH + ". " + "Parameter should be of type - "
                     + "file:" + FILE_SYSTEM_EVENT;
             throw new org.ballerinalang.jvm.util.exceptions.BallerinaConnectorException(msg);
         }
         return registry;
     }
 
-    private static Map<String, String> getParamMap(MapValue serviceEndpointConfig, String events) {
-        final String path = serviceEndpointConfig.getStringValue(DirectoryListenerConstants.ANNOTATION_PATH).getValue();
-        final boolean recursive = serviceEndpointConfig
-                .getBooleanValue(DirectoryListenerConstants.ANNOTATION_DIRECTORY_RECURSIVE);
-        Map<String, String> paramMap = new HashMap<>(3);
-        if (path != null && !path.isEmpty()) {
-            paramMap.put(Constants.FILE_URI, path);
+    private static String getWatchedEvents(Map<String, AttachedFunction> resourceRegistry, Set<String> eventTypes) {
+        Stream<String> events;
+        if (resourceRegistry.containsKey(DirectoryListenerConstants.EVENT_BATCH)) {
+            // The batch resource receives every event type.
+            events = Stream.of(DirectoryListenerConstants.EVENT_CREATE, DirectoryListenerConstants.EVENT_DELETE,
+                    DirectoryListenerConstants.EVENT_MODIFY);
+        } else {
+            events = resourceRegistry.keySet().stream()
+                    .filter(event -> !DirectoryListenerConstants.EVENT_OVERFLOW.equals(event));
         }
-        paramMap.put(Constants.DIRECTORY_WATCH_EVENTS, events);
-        paramMap.put(Constants.DIRECTORY_WATCH_RECURSIVE, String.valueOf(recursive));
-        return paramMap;
+        // The other event types are discarded by the server connector, before they reach the listener.
+        return events.filter(event -> eventTypes.isEmpty() || eventTypes.contains(event))
+                .collect(Collectors.joining(","));
     }
 }
@@ -20,9 +20,9 @@ package org.ballerinalang.stdlib.file.service.endpoint;
 
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.stdlib.file.service.DirectoryListenerConstants;
+import org.ballerinalang.stdlib.file.service.ListenerServices;
 import org.ballerinalang.stdlib.file.utils.FileConstants;
 import org.ballerinalang.stdlib.file.utils.FileUtils;
-import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemServerConnector;
 import org.wso2.transport.localfilesystem.server.exception.LocalFileSystemServerConnectorException;
 
 /**
@@ -32,10 +32,10 @@ import org.wso2.transport.localfilesystem.server.exception.LocalFileSystemServer
 public class Start {
 
     public static Object start(ObjectValue listener) {
-        LocalFileSystemServerConnector serverConnector = (LocalFileSystemServerConnector) listener
-                .getNativeData(DirectoryListenerConstants.FS_SERVER_CONNECTOR);
+        ListenerServices services = (ListenerServices) listener
+                .getNativeData(DirectoryListenerConstants.LISTENER_SERVICES);
         try {
-            serverConnector.start();
+            services.start();
         } catch (LocalFileSystemServerConnectorException e) {
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e.getMessage());
         }
@@ -60,6 +60,130 @@ public class FileConstants {
 
     // System constant fields
     public static final int DEFAULT_MAX_DEPTH = -1;
+    public static final int MAX_PARALLELISM = 1024;
+
+    // Native data keys
+    public static final String DIR_ITERATOR = "dirIterator";
+    public static final String ATOMIC_WRITER = "atomicWriter";
+
+    // CopyOptions record field names
+    public static final String COPY_OPTION_CHUNK_SIZE = "chunkSize";
+    public static final String COPY_OPTION_RESUME = "resume";
+    public static final String COPY_OPTION_PROGRESS = "progress";
+    public static final String COPY_OPTION_VERIFY = "verify";
+
+    // CopyResult and CopyFailure record field names
+    public static final String COPY_RESULT_TYPE = "CopyResult";
+    public static final String COPY_RESULT_FILES_COPIED = "filesCopied";
+    public static final String COPY_RESULT_BYTES_COPIED = "bytesCopied";
+    public static final String COPY_RESULT_FILES_SKIPPED = "filesSkipped";
+    public static final String COPY_RESULT_FAILURES = "failures";
+    public static final String COPY_FAILURE_TYPE = "CopyFailure";
+    public static final String COPY_FAILURE_PATH = "path";
+    public static final String COPY_FAILURE_MESSAGE = "message";
+
+    // SyncOptions and SyncSummary record field names
+    public static final String SYNC_OPTION_CHECKSUM = "checksum";
+    public static final String SYNC_OPTION_DELETE_EXTRANEOUS = "deleteExtraneous";
+    public static final String SYNC_OPTION_VERIFY = "verify";
+    public static final String SYNC_SUMMARY_TYPE = "SyncSummary";
+    public static final String SYNC_SUMMARY_FILES_COPIED = "filesCopied";
+    public static final String SYNC_SUMMARY_BYTES_COPIED = "bytesCopied";
+    public static final String SYNC_SUMMARY_FILES_SKIPPED = "filesSkipped";
+    public static final String SYNC_SUMMARY_BYTES_SKIPPED = "bytesSkipped";
+    public static final String SYNC_SUMMARY_ENTRIES_DELETED = "entriesDeleted";
+    public static final String SYNC_SUMMARY_FAILURES = "failures";
+
+    public static final String REMOVE_RESULT_TYPE = "RemoveResult";
+    public static final String REMOVE_RESULT_FILES_DELETED = "filesDeleted";
+    public static final String REMOVE_RESULT_DIRECTORIES_DELETED = "directoriesDeleted";
+    public static final String REMOVE_RESULT_FAILURES = "failures";
+
+    // BatchResult record field names
+    public static final String BATCH_RESULT_TYPE = "BatchResult";
+    public static final String BATCH_RESULT_SUCCEEDED = "succeeded";
+    public static final String BATCH_RESULT_FAILED = "failed";
+    public static final String BATCH_RESULT_MESSAGES = "messages";
+
+    // Checksum algorithm names
+    public static final String CHECKSUM_CRC32 = "CRC32";
+    public static final String CHECKSUM_CRC32C = "CRC32C";
+    public static final String CHECKSUM_SHA256 = "SHA-256";
+    public static final String CHECKSUM_XXH64 = "XXH64";
+
+    // ReadDirFilter record field names
+    public static final String READ_DIR_FILTER_INCLUDE = "include";
+    public static final String READ_DIR_FILTER_EXCLUDE = "exclude";
+    public static final String READ_DIR_FILTER_PATTERN = "pattern";
+    public static final String READ_DIR_FILTER_MIN_SIZE = "minSize";
+    public static final String READ_DIR_FILTER_MAX_SIZE = "maxSize";
+    public static final String READ_DIR_FILTER_MODIFIED_AFTER = "modifiedAfter";
+    public static final String READ_DIR_FILTER_MODIFIED_BEFORE = "modifiedBefore";
+    public static final String READ_DIR_FILTER_FILES_ONLY = "filesOnly";
+    public static final String READ_DIR_FILTER_DIRS_ONLY = "dirsOnly";
+
+    // DiskUsage record field names
+    public static final String DISK_USAGE_TYPE = "DiskUsage";
+    public static final String DISK_USAGE_PATH = "path";
+    public static final String DISK_USAGE_TOTAL_SIZE = "totalSize";
+    public static final String DISK_USAGE_FILE_COUNT = "fileCount";
+    public static final String DISK_USAGE_DIR_COUNT = "dirCount";
+    public static final String DISK_USAGE_CHILDREN = "children";
+
+    // TreeDiff record field names
+    public static final String TREE_DIFF_TYPE = "TreeDiff";
+    public static final String TREE_DIFF_ADDED = "added";
+    public static final String TREE_DIFF_REMOVED = "removed";
+    public static final String TREE_DIFF_MODIFIED = "modified";
+
+    // MetadataCacheConfig and MetadataCacheStats record field names
+    public static final String METADATA_CACHE_STATS_TYPE = "MetadataCacheStats";
+    public static final String METADATA_CACHE_MAX_SIZE = "maxSize";
+    public static final String METADATA_CACHE_TTL = "ttl";
+    public static final String METADATA_CACHE_HITS = "hits";
+    public static final String METADATA_CACHE_MISSES = "misses";
+    public static final String METADATA_CACHE_EVICTIONS = "evictions";
+    public static final String METADATA_CACHE_INVALIDATIONS = "invalidations";
+    public static final String METADATA_CACHE_SIZE = "size";
+
+    // LatencyStats record field names
+    public static final String LATENCY_STATS_TYPE = "LatencyStats";
+    public static final String LATENCY_STATS_COUNT = "count";
+    public static final String LATENCY_STATS_MEAN = "mean";
+    public static final String LATENCY_STATS_P50 = "p50";
+    public static final String LATENCY_STATS_P90 = "p90";
+    public static final String LATENCY_STATS_P99 = "p99";
+    public static final String LATENCY_STATS_MAX = "max";
+
+    // Names of the instrumented operations
+    public static final String OP_EXISTS = "exists";
+    public static final String OP_EXISTS_ALL = "existsAll";
+    public static final String OP_GET_FILE_INFO = "getFileInfo";
+    public static final String OP_CREATE_DIR = "createDir";
+    public static final String OP_CREATE_FILE = "createFile";
+    public static final String OP_RENAME = "rename";
+    public static final String OP_RENAME_ALL = "renameAll";
+    public static final String OP_REMOVE = "remove";
+    public static final String OP_REMOVE_ALL = "removeAll";
+    public static final String OP_REMOVE_TREE = "removeTree";
+    public static final String OP_READ_DIR = "readDir";
+    public static final String OP_COPY = "copy";
+    public static final String OP_COPY_TREE = "copyTree";
+    public static final String OP_SYNC = "sync";
+    public static final String OP_CHECKSUM = "checksum";
+    public static final String OP_DISK_USAGE = "diskUsage";
+    public static final String OP_CREATE_SNAPSHOT = "createSnapshot";
+    public static final String OP_DIFF = "diff";
+    public static final String OP_WRITE_ATOMICALLY = "writeAtomically";
+
+    // OperationStats record field names
+    public static final String OPERATION_STATS_TYPE = "OperationStats";
+    public static final String OPERATION_STATS_OPERATION = "operation";
+    public static final String OPERATION_STATS_CALLS = "calls";
+    public static final String OPERATION_STATS_ERRORS = "errors";
+    public static final String OPERATION_STATS_ENTRIES = "entries";
+    public static final String OPERATION_STATS_BYTES = "bytes";
+    public static final String OPERATION_STATS_LATENCY = "latency";
 
     // FileEvent struct field names
     public static final String FILE_EVENT_NAME = "name";
@@ -25,17 +25,20 @@ import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BString;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.nio.file.attribute.FileTime;
-import java.time.ZonedDateTime;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 
 import static org.ballerinalang.stdlib.file.utils.FileConstants.FILE_INFO_TYPE;
 import static org.ballerinalang.stdlib.file.utils.FileConstants.FILE_PACKAGE_ID;
-import static org.ballerinalang.stdlib.time.util.TimeUtils.createTimeRecord;
-import static org.ballerinalang.stdlib.time.util.TimeUtils.getTimeRecord;
-import static org.ballerinalang.stdlib.time.util.TimeUtils.getTimeZoneRecord;
+import static org.ballerinalang.stdlib.file.utils.FileConstants.LATENCY_STATS_COUNT;
+import static org.ballerinalang.stdlib.file.utils.FileConstants.LATENCY_STATS_MAX;
+import static org.ballerinalang.stdlib.file.utils.FileConstants.LATENCY_STATS_MEAN;
+import static org.ballerinalang.stdlib.file.utils.FileConstants.LATENCY_STATS_P50;
+import static org.ballerinalang.stdlib.file.utils.FileConstants.LATENCY_STATS_P90;
+import static org.ballerinalang.stdlib.file.utils.FileConstants.LATENCY_STATS_P99;
+import static org.ballerinalang.stdlib.file.utils.FileConstants.LATENCY_STATS_TYPE;
 
 /**
  * @since 0.94.1
@@ -71,17 +74,49 @@ public class FileUtils {
         return BallerinaErrors.createDistinctError(error, FILE_PACKAGE_ID, message != null ? message : UNKNOWN_MESSAGE);
     }
 
-    public static ObjectValue getFileInfo(File inputFile) throws IOException {
-        MapValue<BString, Object> lastModifiedInstance;
-        FileTime lastModified = Files.getLastModifiedTime(inputFile.toPath());
-        ZonedDateTime zonedDateTime = ZonedDateTime.parse(lastModified.toString());
-        lastModifiedInstance = createTimeRecord(getTimeZoneRecord(), getTimeRecord(),
-                lastModified.toMillis(), StringUtils.fromString(zonedDateTime.getZone().toString()));
+    /**
+     * Creates a FileInfo object for the given path.
+     *
+     * @param path File path.
+     * @return FileInfo object with the metadata of the file.
+     * @throws IOException If the file attributes cannot be read.
+     */
+    public static ObjectValue getFileInfo(Path path) throws IOException {
+        return getFileInfo(path, Files.readAttributes(path, BasicFileAttributes.class));
+    }
+
+    /**
+     * Creates a FileInfo object from already read file attributes. The last modified time is passed as epoch
+     * milliseconds and the time record is only created on the Ballerina side when it is requested.
+     *
+     * @param path       File path.
+     * @param attributes Basic attributes of the file.
+     * @return FileInfo object with the metadata of the file.
+     */
+    public static ObjectValue getFileInfo(Path path, BasicFileAttributes attributes) {
+        Path fileName = path.getFileName();
         return BallerinaValues.createObjectValue(FILE_PACKAGE_ID, FILE_INFO_TYPE,
-                StringUtils.fromString(inputFile.getName()), inputFile.length(), lastModifiedInstance,
-                inputFile.isDirectory(), StringUtils.fromString(inputFile.getAbsolutePath()));
+                StringUtils.fromString(fileName != null ? fileName.toString() : ""), attributes.size(),
+                attributes.lastModifiedTime().toMillis(), attributes.isDirectory(),
+                StringUtils.fromString(path.toAbsolutePath().toString()));
     }
 
+    /**
+     * Creates a LatencyStats record from a snapshot of a latency histogram.
+     *
+     * @param snapshot Snapshot of the histogram.
+     * @return LatencyStats record with the durations in microseconds.
+     */
+    public static MapValue<BString, Object> createLatencyStats(LatencyHistogram.Snapshot snapshot) {
+        MapValue<BString, Object> stats = BallerinaValues.createRecordValue(FILE_PACKAGE_ID, LATENCY_STATS_TYPE);
+        stats.put(StringUtils.fromString(LATENCY_STATS_COUNT), snapshot.getCount());
+        stats.put(StringUtils.fromString(LATENCY_STATS_MEAN), snapshot.getMean());
+        stats.put(StringUtils.fromString(LATENCY_STATS_P50), snapshot.getP50());
+        stats.put(StringUtils.fromString(LATENCY_STATS_P90), snapshot.getP90());
+        stats.put(StringUtils.fromString(LATENCY_STATS_P99), snapshot.getP99());
+        stats.put(StringUtils.fromString(LATENCY_STATS_MAX), snapshot.getMax());
+        return stats;
+    }
 
     /**
      * Returns the system property which corresponds to the given key.
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.stdlib.file.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in cache of the basic attributes of files, used by {@code file:exists} and {@code file:getFileInfo}.
+ * <p>
+ * Entries are keyed by the normalized absolute path and evicted in least recently used order once the cache is full
+ * or when they are older than the time to live. The non-existence of a path is cached as well. Entries are
+ * invalidated by the file operations of this module and by the events of the directory listeners, hence the time to
+ * live only bounds the staleness of the changes made by other processes in unwatched directories.
+ *
+ * @since 0.5.1
+ */
+public class MetadataCache {
+
+    private static volatile MetadataCache instance;
+
+    private final long ttlNanos;
+    private final LinkedHashMap<Path, CachedAttributes> entries;
+    // Incremented on every invalidation, so that attributes read concurrently with an invalidation are not cached.
+    private long generation;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private MetadataCache(int maxSize, long ttlMillis) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.entries = new LinkedHashMap<Path, CachedAttributes>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, CachedAttributes> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the active cache.
+     *
+     * @return the cache or null if the cache is not enabled
+     */
+    public static MetadataCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Enables the cache, replacing the active cache and its counters if it is already enabled.
+     *
+     * @param maxSize   maximum number of cached paths
+     * @param ttlMillis time in milliseconds a cached entry is used
+     */
+    public static void enable(int maxSize, long ttlMillis) {
+        instance = new MetadataCache(maxSize, ttlMillis);
+    }
+
+    public static void disable() {
+        instance = null;
+    }
+
+    /**
+     * Invalidates the cached entries of a changed path in the active cache, if any.
+     *
+     * @param path    changed path
+     * @param subtree whether the entries of the paths inside the given path are invalidated as well, e.g. when a
+     *                directory is removed or renamed
+     */
+    public static void invalidatePath(Path path, boolean subtree) {
+        MetadataCache cache = instance;
+        if (cache != null) {
+            cache.invalidate(path, subtree);
+        }
+    }
+
+    /**
+     * Returns the attributes of the given path, reading them from the file system only if they are not cached.
+     *
+     * @param path file path
+     * @return the attributes or null if the file does not exist
+     * @throws IOException if the attributes cannot be read
+     */
+    public BasicFileAttributes getAttributes(Path path) throws IOException {
+        Path key = path.toAbsolutePath().normalize();
+        long now = System.nanoTime();
+        long readGeneration;
+        synchronized (entries) {
+            CachedAttributes cached = entries.get(key);
+            if (cached != null) {
+                if (now - cached.expiresAt < 0) {
+                    hits.increment();
+                    return cached.attributes;
+                }
+                entries.remove(key);
+                evictions.increment();
+            }
+            readGeneration = generation;
+        }
+        misses.increment();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            attributes = null;
+        }
+        synchronized (entries) {
+            if (readGeneration == generation) {
+                entries.put(key, new CachedAttributes(attributes, now + ttlNanos));
+            }
+        }
+        return attributes;
+    }
+
+    /**
+     * Invalidates the cached entries of a changed path. The entry of its parent directory is invalidated as well,
+     * since the size and modified time of a directory change with its entries.
+     *
+     * @param path    changed path
+     * @param subtree whether the entries of the paths inside the given path are invalidated as well
+     */
+    public void invalidate(Path path, boolean subtree) {
+        Path key = path.toAbsolutePath().normalize();
+        synchronized (entries) {
+            generation++;
+            remove(key);
+            Path parent = key.getParent();
+            if (parent != null) {
+                remove(parent);
+            }
+            if (subtree) {
+                Iterator<Path> paths = entries.keySet().iterator();
+                while (paths.hasNext()) {
+                    if (paths.next().startsWith(key)) {
+                        paths.remove();
+                        invalidations.increment();
+                    }
+                }
+            }
+        }
+    }
+
+    private void remove(Path key) {
+        if (entries.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static class CachedAttributes {
+
+        private final BasicFileAttributes attributes;
+        private final long expiresAt;
+
+        CachedAttributes(BasicFileAttributes attributes, long expiresAt) {
+            this.attributes = attributes;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
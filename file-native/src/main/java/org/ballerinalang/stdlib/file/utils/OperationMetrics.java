@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.utils;
+
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.values.ErrorValue;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation of the native file operations. When enabled, each instrumented operation records its call
+ * count, latency, the number of errors by error type and the number of entries and bytes it processed.
+ * <p>
+ * The counters are striped {@link LongAdder}s and the latencies are kept in {@link LatencyHistogram}s, hence
+ * concurrent operations do not contend on the instrumentation. When disabled, an operation only reads a volatile
+ * field on entry and on exit.
+ */
+public class OperationMetrics {
+
+    private static final String UNKNOWN_ERROR = "Error";
+    private static volatile OperationMetrics instance;
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    private OperationMetrics() {
+    }
+
+    /**
+     * Enables the instrumentation, if it is not already enabled.
+     */
+    public static synchronized void enable() {
+        if (instance == null) {
+            instance = new OperationMetrics();
+        }
+    }
+
+    /**
+     * Disables the instrumentation and discards the recorded metrics.
+     */
+    public static synchronized void disable() {
+        instance = null;
+    }
+
+    public static OperationMetrics getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the start time of an operation.
+     *
+     * @return the current time as given by {@link System#nanoTime()} or 0 if the instrumentation is disabled
+     */
+    public static long start() {
+        return instance != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records a completed operation. The error type of an error result is the name of the type of the returned error.
+     *
+     * @param operation name of the operation
+     * @param startTime start time returned by {@link #start()}
+     * @param result    result of the operation
+     * @return the result
+     */
+    public static Object record(String operation, long startTime, Object result) {
+        OperationMetrics metrics = instance;
+        if (metrics == null || startTime == 0) {
+            return result;
+        }
+        OperationStats stats = metrics.getStats(operation);
+        stats.latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+        stats.calls.increment();
+        if (result instanceof ErrorValue) {
+            stats.errors.computeIfAbsent(getErrorType((ErrorValue) result), type -> new LongAdder()).increment();
+        }
+        return result;
+    }
+
+    /**
+     * Adds the files, directories or paths and the bytes processed by an operation.
+     *
+     * @param operation name of the operation
+     * @param entries   number of entries processed
+     * @param bytes     number of bytes processed
+     */
+    public static void addProcessed(String operation, long entries, long bytes) {
+        OperationMetrics metrics = instance;
+        if (metrics == null) {
+            return;
+        }
+        OperationStats stats = metrics.getStats(operation);
+        stats.entries.add(entries);
+        stats.bytes.add(bytes);
+    }
+
+    private static String getErrorType(ErrorValue error) {
+        BType type = error.getType();
+        String name = type != null ? type.getName() : null;
+        return name != null && !name.isEmpty() ? name : UNKNOWN_ERROR;
+    }
+
+    /**
+     * Returns the metrics of the operations which were called since the instrumentation was enabled.
+     *
+     * @return metrics of each operation, ordered by the operation name
+     */
+    public Map<String, OperationStats> getOperations() {
+        return new TreeMap<>(operations);
+    }
+
+    private OperationStats getStats(String operation) {
+        OperationStats stats = operations.get(operation);
+        if (stats == null) {
+            stats = operations.computeIfAbsent(operation, name -> new OperationStats());
+        }
+        return stats;
+    }
+
+    /**
+     * Metrics of a single operation.
+     */
+    public static class OperationStats {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder entries = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        public long getEntries() {
+            return entries.sum();
+        }
+
+        public long getBytes() {
+            return bytes.sum();
+        }
+
+        public Map<String, Long> getErrors() {
+            Map<String, Long> errorCounts = new TreeMap<>();
+            errors.forEach((type, count) -> errorCounts.put(type, count.sum()));
+            return errorCounts;
+        }
+
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency.snapshot();
+        }
+    }
+}
@@ -21,10 +21,17 @@ package org.ballerinalang.stdlib.file.testutils;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.values.api.BString;
 
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
 
 public class TestUtil {
     public static Path file;
@@ -41,6 +48,132 @@ public class TestUtil {
         Files.deleteIfExists(file);
     }
 
+    public static void writeBurstFile(BString dir) throws Exception {
+        Path burstFile = Paths.get(dir.getValue(), "burst.txt");
+        for (int i = 0; i < 10; i++) {
+            Files.write(burstFile, ("line " + i + "\n").getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        }
+    }
+
+    public static void deleteBurstFile(BString dir) throws Exception {
+        Files.deleteIfExists(Paths.get(dir.getValue(), "burst.txt"));
+    }
+
+    public static void writeFilterFiles(BString dir) throws Exception {
+        Path filteredDir = Paths.get(dir.getValue());
+        byte[] content = new byte[100];
+        Files.write(filteredDir.resolve("filter-skip.tmp"), content);
+        Files.write(filteredDir.resolve("filter-small.txt"), new byte[1]);
+        Files.write(filteredDir.resolve("filter-large.txt"), content);
+    }
+
+    public static void deleteFilterFiles(BString dir) throws Exception {
+        Path filteredDir = Paths.get(dir.getValue());
+        Files.deleteIfExists(filteredDir.resolve("filter-skip.tmp"));
+        Files.deleteIfExists(filteredDir.resolve("filter-small.txt"));
+        Files.deleteIfExists(filteredDir.resolve("filter-large.txt"));
+    }
+
+    public static void truncateFile(BString path, long size) throws Exception {
+        try (FileChannel channel = FileChannel.open(Paths.get(path.getValue()), StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    // Creates an empty directory of the given name in the temporary directory, for a listener test of its own.
+    public static BString createListenerDir(BString name) throws Exception {
+        Path dir = Paths.get(System.getProperty("java.io.tmpdir"), name.getValue()).toAbsolutePath();
+        if (Files.exists(dir)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+                for (Path child : files) {
+                    Files.delete(child);
+                }
+            }
+        } else {
+            Files.createDirectories(dir);
+        }
+        return StringUtils.fromString(dir.toString());
+    }
+
+    // Creates the empty files event-0 to event-(count - 1) in the given directory, one after the other.
+    public static void createEventFiles(BString dir, long count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            Files.createFile(Paths.get(dir.getValue(), "event-" + i));
+        }
+    }
+
+    // Writes the checkpoint of a copy which was interrupted after the given path was completed, in the format of the
+    // checkpoints written by file:copyTree.
+    public static void writeCopyCheckpoint(BString checkpoint, BString source, BString target, BString completedPath)
+            throws Exception {
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(
+                Paths.get(checkpoint.getValue())))) {
+            output.writeInt(0x42464331);
+            output.writeInt(1);
+            output.writeUTF(Paths.get(source.getValue()).toAbsolutePath().toString());
+            output.writeUTF(Paths.get(target.getValue()).toAbsolutePath().toString());
+            output.writeUTF(completedPath.getValue());
+            output.writeInt(0);
+        }
+    }
+
+    // Fail with an error rather than a panic on the file systems without POSIX permissions.
+    public static void setPosixPermissions(BString path, BString permissions) throws Exception {
+        try {
+            Files.setPosixFilePermissions(Paths.get(path.getValue()), PosixFilePermissions.fromString(
+                    permissions.getValue()));
+        } catch (UnsupportedOperationException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    public static BString getPosixPermissions(BString path) throws Exception {
+        try {
+            return StringUtils.fromString(PosixFilePermissions.toString(
+                    Files.getPosixFilePermissions(Paths.get(path.getValue()))));
+        } catch (UnsupportedOperationException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    public static void createHardLink(BString link, BString existing) throws Exception {
+        try {
+            Files.createLink(Paths.get(link.getValue()), Paths.get(existing.getValue()));
+        } catch (UnsupportedOperationException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    public static long getThreadCount(BString prefix) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.isAlive() && thread.getName().startsWith(prefix.getValue()))
+                .count();
+    }
+
+    // Counts the inotify watches of the process, or returns -1 where they cannot be read.
+    public static long getWatchHandleCount() {
+        Path fdInfo = Paths.get("/proc/self/fdinfo");
+        if (!Files.isDirectory(fdInfo)) {
+            return -1;
+        }
+        long count = 0;
+        try (DirectoryStream<Path> descriptors = Files.newDirectoryStream(fdInfo)) {
+            for (Path descriptor : descriptors) {
+                try {
+                    count += Files.readAllLines(descriptor).stream()
+                            .filter(line -> line.startsWith("inotify wd:"))
+                            .count();
+                } catch (IOException e) {
+                    // Closed while being listed.
+                }
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+        return count;
+    }
+
     public static BString getTmpDir() {
         return StringUtils.fromString(System.getProperty("java.io.tmpdir"));
     }